@@ -0,0 +1,44 @@
+package com.authentication.auth.benchmark;
+
+import com.authentication.auth.configuration.token.JwtProperties;
+import com.authentication.auth.configuration.token.JwtSigningKeys;
+import com.authentication.auth.configuration.token.JwtSigningProperties;
+import com.authentication.auth.configuration.token.JwtUtility;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 벤치마크 공용 설정
+ * application.properties 와 같은 길이의 HS512 키와 만료 시간을 사용합니다.
+ */
+final class BenchmarkFixtures {
+
+    static final String USER_ID = "benchmark@example.com";
+    static final List<GrantedAuthority> ROLES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtProperties jwtProperties() {
+        return new JwtProperties(
+                "cbt-diary-benchmark-secret-key-for-access-token-hs512-signing-and-validation-purpose-only",
+                "cbt-diary-benchmark-secret-key-for-refresh-token-hs512-signing-and-validation-purpose-only",
+                "cbt-diary-benchmark-authorized-key-cbt-diary-benchmark-authorized-key-cbt-diary-benchmark",
+                60L,
+                43200L
+        );
+    }
+
+    /**
+     * @param algorithm HS512 또는 ES256
+     */
+    static JwtUtility jwtUtility(String algorithm) {
+        if ("ES256".equals(algorithm)) {
+            return new JwtUtility(jwtProperties(),
+                    new JwtSigningKeys(new JwtSigningProperties("ES256", null, List.of(), true, 3600)));
+        }
+        return new JwtUtility(jwtProperties());
+    }
+}
@@ -0,0 +1,53 @@
+package com.authentication.auth.benchmark;
+
+import com.authentication.auth.configuration.token.JwtUtility;
+import com.authentication.auth.dto.token.TokenDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * JwtUtility 토큰 발급/검증 비용 측정
+ * 로그인 1회(buildToken)와 인증된 요청 1회(validateJWT + getAuthentication)의 CPU 비용을 비교합니다.
+ */
+@State(Scope.Benchmark)
+public class JwtUtilityBenchmark {
+
+    @Param({"HS512", "ES256"})
+    public String algorithm;
+
+    private JwtUtility jwtUtility;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtility = BenchmarkFixtures.jwtUtility(algorithm);
+        TokenDto token = jwtUtility.buildToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.ROLES);
+        accessToken = token.accessToken();
+        refreshToken = token.refreshToken();
+    }
+
+    @Benchmark
+    public TokenDto buildToken() {
+        return jwtUtility.buildToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.ROLES);
+    }
+
+    @Benchmark
+    public boolean validateJWT() {
+        return jwtUtility.validateJWT(accessToken);
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken getAuthentication() {
+        return jwtUtility.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateRefreshJWT() {
+        return jwtUtility.validateRefreshJWT(refreshToken);
+    }
+}
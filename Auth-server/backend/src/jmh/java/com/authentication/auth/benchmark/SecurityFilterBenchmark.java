@@ -0,0 +1,81 @@
+package com.authentication.auth.benchmark;
+
+import com.authentication.auth.configuration.token.JwtUtility;
+import com.authentication.auth.configuration.token.TokenGenerations;
+import com.authentication.auth.configuration.token.VerifiedTokenCache;
+import com.authentication.auth.filter.AuthorizationFilter;
+import com.authentication.auth.filter.JwtVerificationFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+
+/**
+ * 인증된 요청 1건이 보안 필터에서 소비하는 CPU 비용 측정
+ * JwtVerificationFilter 는 검증 캐시 사용 여부별로, AuthorizationFilter 는 일반/관리자 경로별로 측정합니다.
+ */
+@State(Scope.Thread)
+public class SecurityFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean tokenCacheEnabled;
+
+    private JwtVerificationFilter jwtVerificationFilter;
+    private AuthorizationFilter authorizationFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JwtUtility jwtUtility = BenchmarkFixtures.jwtUtility("HS512");
+        VerifiedTokenCache cache = new VerifiedTokenCache(tokenCacheEnabled, 10000, 300);
+
+        jwtVerificationFilter = new JwtVerificationFilter(jwtUtility, objectMapper, cache, TokenGenerations.NONE);
+        authorizationFilter = new AuthorizationFilter(objectMapper);
+        authorizationHeader = "Bearer " + jwtUtility.buildToken(BenchmarkFixtures.USER_ID, BenchmarkFixtures.ROLES).accessToken();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jwtVerificationFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/diaries");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtVerificationFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authorizationFilterUserPath() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/diaries");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authorizationFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse jwtAndAuthorizationFilterAdminPath() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtVerificationFilter.doFilter(request, response, new MockFilterChain());
+            authorizationFilter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
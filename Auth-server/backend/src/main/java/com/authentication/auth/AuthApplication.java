@@ -1,7 +1,18 @@
 package com.authentication.auth;
 
+import com.authentication.auth.configuration.ai.AiClientProperties;
 import com.authentication.auth.configuration.oauth2.OauthProperties;
+import com.authentication.auth.configuration.ratelimit.RateLimitProperties;
+import com.authentication.auth.configuration.diary.AnalysisBatchProperties;
+import com.authentication.auth.configuration.diary.AnalysisExecutorProperties;
+import com.authentication.auth.configuration.diary.AnalysisJobProperties;
+import com.authentication.auth.configuration.diary.AnalysisLimiterProperties;
+import com.authentication.auth.configuration.diary.DiaryTransferProperties;
+import com.authentication.auth.configuration.search.DiarySearchProperties;
+import com.authentication.auth.configuration.redis.RedisNearCacheProperties;
+import com.authentication.auth.configuration.redis.RedisTopologyProperties;
 import com.authentication.auth.configuration.token.JwtProperties;
+import com.authentication.auth.configuration.token.JwtSigningProperties;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
@@ -13,7 +24,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 
 import java.util.TimeZone;
 
-@EnableConfigurationProperties({JwtProperties.class, OauthProperties.class})
+@EnableConfigurationProperties({JwtProperties.class, JwtSigningProperties.class, OauthProperties.class, RedisNearCacheProperties.class, RedisTopologyProperties.class, RateLimitProperties.class, DiarySearchProperties.class, DiaryTransferProperties.class, AnalysisExecutorProperties.class, AnalysisJobProperties.class, AnalysisBatchProperties.class, AiClientProperties.class, AnalysisLimiterProperties.class})
 @EnableAsync
 @EnableJpaAuditing
 @SpringBootApplication
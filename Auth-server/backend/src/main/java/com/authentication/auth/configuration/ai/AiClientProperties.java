@@ -0,0 +1,31 @@
+package com.authentication.auth.configuration.ai;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * application.properties 파일의 'ai.client' 접두사를 가진 AI 서버 HTTP 클라이언트(Reactor Netty) 설정을 매핑하는 record 입니다.
+ *
+ * @param maxConnections AI 서버로 여는 최대 연결 수
+ * @param pendingAcquireMaxCount 연결을 기다릴 수 있는 최대 요청 수
+ * @param pendingAcquireTimeout 연결을 기다리는 최대 시간
+ * @param maxIdleTime 유휴 연결을 닫기까지의 시간 (AI 서버의 keep-alive 시간보다 짧게 설정)
+ * @param maxLifeTime 연결 최대 수명
+ * @param connectTimeout 연결 제한 시간
+ * @param responseTimeout 응답 제한 시간
+ * @param http2 HTTP/2 cleartext(h2c) 업그레이드 시도 여부 (AI 서버가 지원하는 경우에만 사용)
+ */
+@ConfigurationProperties(prefix = "ai.client")
+public record AiClientProperties(
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("500") int pendingAcquireMaxCount,
+        @DefaultValue("5s") Duration pendingAcquireTimeout,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("5m") Duration maxLifeTime,
+        @DefaultValue("10s") Duration connectTimeout,
+        @DefaultValue("90s") Duration responseTimeout,
+        @DefaultValue("false") boolean http2
+) {
+}
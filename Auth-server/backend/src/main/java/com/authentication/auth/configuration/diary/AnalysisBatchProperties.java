@@ -0,0 +1,23 @@
+package com.authentication.auth.configuration.diary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * application.properties 파일의 'diary.analysis.batch' 접두사를 가진 AI 서버 일괄 분석 설정을 매핑하는 record 입니다.
+ *
+ * @param enabled 일괄 분석 사용 여부 (false 이면 일기마다 /diary/analyze 호출)
+ * @param maxSize 한 번에 보내는 최대 일기 수 (AI 서버 BATCH_WORKERS 가 limiter.max-limit 이상이면 모든 항목이 동시에 분석됨)
+ * @param linger 첫 요청 이후 다른 요청을 모으기 위해 기다리는 최대 시간
+ * @param timeout 일괄 요청 응답 제한 시간 (항목 하나의 분석 시간 이상)
+ */
+@ConfigurationProperties(prefix = "diary.analysis.batch")
+public record AnalysisBatchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8") int maxSize,
+        @DefaultValue("50ms") Duration linger,
+        @DefaultValue("60s") Duration timeout
+) {
+}
@@ -0,0 +1,23 @@
+package com.authentication.auth.configuration.diary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * application.properties 파일의 'diary.analysis.executor' 접두사를 가진 AI 분석 실행기 설정을 매핑하는 record 입니다.
+ *
+ * @param maxConcurrency AI 서버로 동시에 보내는 최대 분석 요청 수 (작업 스레드 수, 적응형 동시성 제한을 사용하면 limiter.max-limit 을 대신 사용)
+ * @param queueCapacity 대기열 최대 길이 (초과 시 요청 거부)
+ * @param maxQueueWait 대기열에서 기다릴 수 있는 최대 시간 (초과한 작업은 실행하지 않고 사용자에게 재시도를 안내)
+ * @param virtualThreads 작업 스레드로 가상 스레드 사용 여부
+ */
+@ConfigurationProperties(prefix = "diary.analysis.executor")
+public record AnalysisExecutorProperties(
+        @DefaultValue("8") int maxConcurrency,
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("2m") Duration maxQueueWait,
+        @DefaultValue("true") boolean virtualThreads
+) {
+}
@@ -0,0 +1,29 @@
+package com.authentication.auth.configuration.diary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * application.properties 파일의 'diary.analysis.jobs' 접두사를 가진 AI 분석 작업 큐(Redis Streams) 설정을 매핑하는 record 입니다.
+ *
+ * @param enabled 작업 큐 사용 여부 (false 이면 요청한 인스턴스의 분석 실행기에서 바로 실행)
+ * @param batchSize 한 번에 가져오는 최대 작업 수
+ * @param pollTimeout 새 작업을 기다리는 최대 시간 (XREADGROUP BLOCK)
+ * @param visibilityTimeout 가져간 뒤 완료 확인(ACK)이 없으면 다른 작업자가 회수하는 시간
+ * @param maxAttempts 최대 시도 횟수 (초과 시 dead-letter 스트림으로 이동)
+ * @param retryBackoff 첫 재시도 대기 시간 (시도마다 2배)
+ * @param maxRetryBackoff 재시도 대기 시간 상한
+ */
+@ConfigurationProperties(prefix = "diary.analysis.jobs")
+public record AnalysisJobProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int batchSize,
+        @DefaultValue("2s") Duration pollTimeout,
+        @DefaultValue("5m") Duration visibilityTimeout,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("30s") Duration retryBackoff,
+        @DefaultValue("30m") Duration maxRetryBackoff
+) {
+}
@@ -0,0 +1,29 @@
+package com.authentication.auth.configuration.diary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * application.properties 파일의 'diary.analysis.limiter' 접두사를 가진 AI 서버 적응형 동시성 제한 설정을 매핑하는 record 입니다.
+ *
+ * @param enabled 적응형 제한 사용 여부 (false 이면 분석 실행기의 고정 동시성만 적용)
+ * @param initialLimit 시작 동시 요청 수
+ * @param minLimit 최소 동시 요청 수
+ * @param maxLimit 최대 동시 요청 수
+ * @param maxWait 제한에 걸린 요청이 허용을 기다리는 최대 시간 (초과 시 DEFERRED 로 미룸)
+ * @param smoothing 새 제한값을 반영하는 비율 (0~1, 클수록 빠르게 반응)
+ * @param backoffRatio 시간 초과, 과부하 응답 시 제한값에 곱하는 비율
+ */
+@ConfigurationProperties(prefix = "diary.analysis.limiter")
+public record AnalysisLimiterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("8") int initialLimit,
+        @DefaultValue("1") int minLimit,
+        @DefaultValue("64") int maxLimit,
+        @DefaultValue("30s") Duration maxWait,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("0.9") double backoffRatio
+) {
+}
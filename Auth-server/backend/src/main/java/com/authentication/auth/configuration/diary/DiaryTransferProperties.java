@@ -0,0 +1,19 @@
+package com.authentication.auth.configuration.diary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties 파일의 'diary.transfer' 접두사를 가진 일기 내보내기/가져오기 설정을 매핑하는 record 입니다.
+ *
+ * @param fetchSize 내보내기 JDBC 커서의 fetch size (한 번에 드라이버가 가져오는 행 수)
+ * @param batchSize 내보내기 시 AI 분석을 함께 조회하는 단위이자 가져오기 시 한 번에 INSERT 하는 행 수
+ * @param maxLineBytes 가져오기 NDJSON 한 줄의 최대 크기 (바이트)
+ */
+@ConfigurationProperties(prefix = "diary.transfer")
+public record DiaryTransferProperties(
+        @DefaultValue("500") int fetchSize,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1048576") int maxLineBytes
+) {
+}
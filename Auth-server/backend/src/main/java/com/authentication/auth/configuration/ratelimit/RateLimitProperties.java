@@ -0,0 +1,66 @@
+package com.authentication.auth.configuration.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * application.properties 파일의 'rate-limit' 접두사를 가진 요청 제한 설정을 매핑하는 record 입니다.
+ *
+ * @param enabled 요청 제한 사용 여부
+ * @param distributed Redis 슬라이딩 윈도우로 인스턴스 간 한도를 공유할지 여부 (false 면 인스턴스별 토큰 버킷만 적용)
+ * @param maxLocalKeys 인스턴스별로 보관할 최대 토큰 버킷 수
+ * @param maxBodyBytes 본문 필드로 키를 만들 때 읽을 최대 본문 크기 (초과 시 본문 키 규칙이 걸린 요청은 413 으로 거부)
+ * @param rules 경로별 제한 규칙
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean distributed,
+        @DefaultValue("100000") int maxLocalKeys,
+        @DefaultValue("16384") int maxBodyBytes,
+        List<Rule> rules
+) {
+
+    public RateLimitProperties {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+    }
+
+    /**
+     * 요청 제한 키 종류
+     */
+    public enum KeyType {
+        /** 클라이언트 IP */
+        IP,
+        /** JSON 본문 필드 (fields 중 처음으로 값이 있는 필드) */
+        BODY
+    }
+
+    /**
+     * 경로별 제한 규칙
+     *
+     * @param name 규칙 이름 (Redis 키와 메트릭 태그에 사용)
+     * @param path 대상 경로 (Ant 패턴)
+     * @param method 대상 HTTP 메서드
+     * @param key 제한 키 종류
+     * @param fields key=BODY 일 때 사용할 JSON 필드 목록 (예: loginId,email)
+     * @param limit 윈도우당 허용 요청 수
+     * @param window 윈도우 길이
+     */
+    public record Rule(
+            String name,
+            String path,
+            @DefaultValue("POST") String method,
+            @DefaultValue("IP") KeyType key,
+            List<String> fields,
+            @DefaultValue("10") int limit,
+            @DefaultValue("1m") Duration window
+    ) {
+
+        public Rule {
+            fields = fields == null ? List.of() : List.copyOf(fields);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.authentication.auth.configuration.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * application.properties 파일의 'redis.near-cache' 접두사를 가진 설정들을 매핑하는 record 입니다.
+ *
+ * @param enabled 로컬 캐시 사용 여부
+ * @param maxEntries 최대 보관 항목 수
+ * @param prefixes 캐시 대상 키 접두사별 TTL (초), 예: redis.near-cache.prefixes[EMAIL_CODE:]=60
+ */
+@ConfigurationProperties(prefix = "redis.near-cache")
+public record RedisNearCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        Map<String, Long> prefixes
+) {
+
+    public RedisNearCacheProperties {
+        prefixes = prefixes == null ? Map.of() : Map.copyOf(prefixes);
+    }
+}
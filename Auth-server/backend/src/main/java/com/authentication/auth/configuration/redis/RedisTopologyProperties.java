@@ -0,0 +1,55 @@
+package com.authentication.auth.configuration.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * application.properties 파일의 'redis.topology' 접두사를 가진 설정들을 매핑하는 record 입니다.
+ * 호스트, 포트, 비밀번호는 기존 spring.data.redis.* 값을 그대로 사용합니다.
+ *
+ * @param mode 연결 방식 (standalone, sentinel, cluster)
+ * @param nodes sentinel 또는 cluster 노드 목록 (host:port)
+ * @param sentinelMaster sentinel 이 감시하는 master 이름
+ * @param replicaReads 읽기 전용 조회를 replica 로 보낼지 여부 (sentinel, cluster 에서만 적용)
+ * @param commandTimeout 명령 응답 대기 시간
+ * @param clusterMaxRedirects cluster MOVED/ASK 리다이렉트 최대 횟수
+ * @param pool 커넥션 풀 설정
+ */
+@ConfigurationProperties(prefix = "redis.topology")
+public record RedisTopologyProperties(
+        @DefaultValue("standalone") Mode mode,
+        List<String> nodes,
+        String sentinelMaster,
+        @DefaultValue("true") boolean replicaReads,
+        @DefaultValue("2s") Duration commandTimeout,
+        @DefaultValue("3") int clusterMaxRedirects,
+        @DefaultValue Pool pool
+) {
+
+    public RedisTopologyProperties {
+        nodes = nodes == null ? List.of() : List.copyOf(nodes);
+    }
+
+    public enum Mode {
+        STANDALONE, SENTINEL, CLUSTER
+    }
+
+    /**
+     * @param enabled 풀 사용 여부 (트랜잭션, 블로킹 명령이 없다면 Lettuce 의 공유 연결만으로 충분합니다)
+     * @param maxActive 최대 연결 수
+     * @param maxIdle 최대 유휴 연결 수
+     * @param minIdle 최소 유휴 연결 수
+     * @param maxWait 연결 대기 시간
+     */
+    public record Pool(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("16") int maxActive,
+            @DefaultValue("8") int maxIdle,
+            @DefaultValue("2") int minIdle,
+            @DefaultValue("500ms") Duration maxWait
+    ) {
+    }
+}
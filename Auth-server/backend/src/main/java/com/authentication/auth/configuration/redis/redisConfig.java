@@ -1,14 +1,39 @@
 package com.authentication.auth.configuration.redis;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
+/**
+ * Redis 연결 설정
+ * redis.topology.mode 에 따라 standalone, sentinel, cluster 구성으로 연결합니다.
+ * 쓰기와 일반 조회는 master 로 보내고, 복제 지연을 허용하는 읽기 전용 조회는 replicaRedisTemplate 으로 분리합니다.
+ */
+@Slf4j
 @Configuration
 public class redisConfig {
 
@@ -21,16 +46,31 @@ public class redisConfig {
     @Value("${spring.data.redis.password}")
     private String password;
 
+    private final RedisTopologyProperties topology;
+
+    public redisConfig(RedisTopologyProperties topology) {
+        this.topology = topology;
+    }
 
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-        redisStandaloneConfiguration.setHostName(host);
-        redisStandaloneConfiguration.setPort(port);
-        redisStandaloneConfiguration.setPassword(password);
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+        log.info("Redis 연결 구성: mode={}, replicaReads={}, pool={}",
+                topology.mode(), topology.replicaReads(), topology.pool().enabled());
+        return new LettuceConnectionFactory(redisConfiguration(), clientConfiguration(ReadFrom.UPSTREAM));
     }
 
+    /**
+     * 읽기 전용 조회용 연결 (replica 우선, replica 가 없으면 master)
+     * standalone 이거나 replica 읽기가 꺼져 있으면 별도 연결을 만들지 않고 master 연결을 재사용합니다.
+     */
+    @Bean
+    public RedisConnectionFactory replicaRedisConnectionFactory() {
+        if (!usesReplicaReads()) {
+            return redisConnectionFactory();
+        }
+        return new LettuceConnectionFactory(redisConfiguration(), clientConfiguration(ReadFrom.REPLICA_PREFERRED));
+    }
 
     @Bean
     public RedisTemplate<?, ?> redisTemplate() {
@@ -40,4 +80,94 @@ public class redisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+
+    // 복제 지연을 허용하는 읽기 전용 조회 (리프레시 토큰 조회, 이메일 인증 코드 확인 등)
+    @Bean
+    public RedisTemplate<String, String> replicaRedisTemplate(
+            @Qualifier("replicaRedisConnectionFactory") RedisConnectionFactory replicaRedisConnectionFactory) {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(replicaRedisConnectionFactory);
+        return redisTemplate;
+    }
+
+    // pub/sub 구독 컨테이너 (토큰 세대 변경 전파 등)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    private boolean usesReplicaReads() {
+        return topology.replicaReads() && topology.mode() != RedisTopologyProperties.Mode.STANDALONE;
+    }
+
+    private RedisConfiguration redisConfiguration() {
+        return switch (topology.mode()) {
+            case STANDALONE -> {
+                RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+                configuration.setPassword(password);
+                yield configuration;
+            }
+            case SENTINEL -> {
+                if (topology.sentinelMaster() == null || topology.sentinelMaster().isBlank() || topology.nodes().isEmpty()) {
+                    throw new IllegalStateException("sentinel 모드에는 redis.topology.sentinel-master 와 nodes 가 필요합니다.");
+                }
+                RedisSentinelConfiguration configuration = new RedisSentinelConfiguration();
+                configuration.master(topology.sentinelMaster());
+                topology.nodes().forEach(node -> configuration.addSentinel(RedisNode.fromString(node)));
+                configuration.setPassword(RedisPassword.of(password));
+                yield configuration;
+            }
+            case CLUSTER -> {
+                if (topology.nodes().isEmpty()) {
+                    throw new IllegalStateException("cluster 모드에는 redis.topology.nodes 가 필요합니다.");
+                }
+                RedisClusterConfiguration configuration = new RedisClusterConfiguration(topology.nodes());
+                configuration.setMaxRedirects(topology.clusterMaxRedirects());
+                configuration.setPassword(RedisPassword.of(password));
+                yield configuration;
+            }
+        };
+    }
+
+    private LettuceClientConfiguration clientConfiguration(ReadFrom readFrom) {
+        Duration commandTimeout = topology.commandTimeout();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder;
+        if (topology.pool().enabled()) {
+            GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(topology.pool().maxActive());
+            poolConfig.setMaxIdle(topology.pool().maxIdle());
+            poolConfig.setMinIdle(topology.pool().minIdle());
+            poolConfig.setMaxWait(topology.pool().maxWait());
+            builder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+        } else {
+            builder = LettuceClientConfiguration.builder();
+        }
+        return builder
+                .commandTimeout(commandTimeout)
+                .readFrom(readFrom)
+                .clientOptions(clientOptions(commandTimeout))
+                .build();
+    }
+
+    // 연결이 끊긴 동안 명령이 무한정 쌓이지 않도록 대기 중인 명령에도 타임아웃 적용
+    private ClientOptions clientOptions(Duration commandTimeout) {
+        TimeoutOptions timeoutOptions = TimeoutOptions.enabled(commandTimeout);
+        if (topology.mode() != RedisTopologyProperties.Mode.CLUSTER) {
+            return ClientOptions.builder()
+                    .timeoutOptions(timeoutOptions)
+                    .build();
+        }
+        // 노드 장애, 슬롯 이동 시 MOVED/연결 오류를 계기로 토폴로지를 즉시 갱신
+        return ClusterClientOptions.builder()
+                .timeoutOptions(timeoutOptions)
+                .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                        .enableAllAdaptiveRefreshTriggers()
+                        .enablePeriodicRefresh(Duration.ofSeconds(60))
+                        .build())
+                .build();
+    }
 }
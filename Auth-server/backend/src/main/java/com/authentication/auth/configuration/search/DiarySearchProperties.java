@@ -0,0 +1,28 @@
+package com.authentication.auth.configuration.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * application.properties 파일의 'diary.search' 접두사를 가진 일기 검색 설정을 매핑하는 record 입니다.
+ *
+ * @param engine 검색 엔진 (mariadb: diary_search 테이블의 FULLTEXT 인덱스, elasticsearch: diary 인덱스)
+ * @param createSchema 기동 시 검색 테이블/인덱스가 없으면 생성할지 여부
+ * @param backfillBatchSize 기동 시 색인되지 않은 기존 일기를 채울 때의 배치 크기
+ * @param snippetLength 검색 결과 하이라이트 문구 길이 (문자 수)
+ * @param shortQueryScanLimit 1글자 단어만 있는 검색어를 LIKE 로 찾을 때 확인할 최근 일기 수 (mariadb)
+ */
+@ConfigurationProperties(prefix = "diary.search")
+public record DiarySearchProperties(
+        @DefaultValue("MARIADB") Engine engine,
+        @DefaultValue("true") boolean createSchema,
+        @DefaultValue("500") int backfillBatchSize,
+        @DefaultValue("120") int snippetLength,
+        @DefaultValue("1000") int shortQueryScanLimit
+) {
+
+    public enum Engine {
+        MARIADB,
+        ELASTICSEARCH
+    }
+}
@@ -9,7 +9,10 @@ import com.authentication.auth.filter.AuthorizationFilter;
 import com.authentication.auth.filter.JwtVerificationFilter;
 
 import com.authentication.auth.configuration.token.JwtUtility;
+import com.authentication.auth.configuration.token.TokenGenerations;
+import com.authentication.auth.configuration.token.VerifiedTokenCache;
 import com.authentication.auth.service.redis.RedisService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
@@ -44,6 +47,8 @@ public class SecurityConfig {
     private final JwtUtility jwtUtility;
     private final RedisService redisService;
     private final ObjectMapper objectMapper;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenGenerations tokenGenerations;
 
     @Value("${server.cookie.domain}")
     private String cookieDomain;
@@ -51,16 +56,23 @@ public class SecurityConfig {
     @Value("${ACCESS_TOKEN_VALIDITY}")
     private int accessTokenValidity;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     public SecurityConfig(CorsConfigurationSource corsConfigurationSource,
                           PrincipalDetailService principalDetailService,
                           JwtUtility jwtUtility,
                           RedisService redisService,
-                          ObjectMapper objectMapper) {
+                          ObjectMapper objectMapper,
+                          VerifiedTokenCache verifiedTokenCache,
+                          TokenGenerations tokenGenerations) {
         this.corsConfigurationSource = corsConfigurationSource;
         this.principalDetailService = principalDetailService;
         this.jwtUtility = jwtUtility;
         this.redisService = redisService;
         this.objectMapper = objectMapper;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenGenerations = tokenGenerations;
     }
 
     // Define restriction arrays - initialize as empty, to be populated as needed
@@ -101,7 +113,10 @@ public class SecurityConfig {
             // SSE endpoint for real-time updates
             "/subscribe",
             // Email verification endpoints (explicitly added for clarity)
-            "/api/public/emailCode", "/api/public/emailCheck"
+            "/api/public/emailCode", "/api/public/emailCheck",
+            // Actuator health endpoint (Prometheus 스크레이프는 관리 포트에서만 허용, isManagementScrape 참고)
+            "/actuator/health",
+            "/.well-known/jwks.json"
             // Ensure these paths are distinct and correctly represent public resources.
             // Some like /unauthorized might be error views rather than pre-auth accessible endpoints.
     };
@@ -132,7 +147,7 @@ public class SecurityConfig {
                 accessTokenValidity
         );
 
-        JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtUtility, objectMapper);
+        JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtUtility, objectMapper, verifiedTokenCache, tokenGenerations);
         AuthorizationFilter authorizationFilter = new AuthorizationFilter(objectMapper);
 
         http
@@ -145,6 +160,7 @@ public class SecurityConfig {
             authorize
                     .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                     .requestMatchers(PUBLIC_URLS).permitAll()
+                    .requestMatchers(this::isManagementScrape).permitAll()
                     .requestMatchers("/api/admin/**").hasAnyAuthority("ADMIN")
                     .anyRequest().authenticated();
         });
@@ -155,6 +171,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Prometheus 스크레이프 요청인지 확인
+     * 관리 포트(management.server.port)는 외부에 공개하지 않는 내부 포트이므로,
+     * 그 포트로 들어온 /actuator/prometheus 요청만 인증 없이 허용하고 서비스 포트에서는 인증을 요구함
+     */
+    private boolean isManagementScrape(HttpServletRequest request) {
+        return managementPort > 0
+                && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
 
 
     /**
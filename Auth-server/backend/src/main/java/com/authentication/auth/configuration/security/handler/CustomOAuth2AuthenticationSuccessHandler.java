@@ -32,8 +32,10 @@ public class CustomOAuth2AuthenticationSuccessHandler extends SimpleUrlAuthentic
         // Here, authentication object should contain details from OAuth2 provider
         // You might need to cast to a specific OAuth2User or PrincipalDetails
         String userId;
+        Long uid = null;
         if (authentication.getPrincipal() instanceof PrincipalDetails) {
             userId = ((PrincipalDetails) authentication.getPrincipal()).getUsername();
+            uid = ((PrincipalDetails) authentication.getPrincipal()).getUid();
         } else if (authentication.getPrincipal() instanceof org.springframework.security.oauth2.core.user.OAuth2User) {
             // Extract a unique identifier from OAuth2User, e.g., email or sub
             userId = ((org.springframework.security.oauth2.core.user.OAuth2User) authentication.getPrincipal()).getName(); 
@@ -50,7 +52,7 @@ public class CustomOAuth2AuthenticationSuccessHandler extends SimpleUrlAuthentic
         
         // Generate your application's JWT token
         // Assuming buildToken takes userId and authorities. Authorities might be mapped from OAuth scopes.
-        com.authentication.auth.dto.token.TokenDto appTokenDto = jwtUtility.buildToken(userId, authentication.getAuthorities());
+        com.authentication.auth.dto.token.TokenDto appTokenDto = jwtUtility.buildToken(userId, uid, authentication.getAuthorities());
         String appAccessToken = appTokenDto.accessToken();
         // String appRefreshToken = appTokenDto.refreshToken(); // If you also pass refresh token
 
@@ -0,0 +1,193 @@
+package com.authentication.auth.configuration.token;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 액세스 토큰 서명 키 보관소
+ * ES256 모드에서는 활성 kid 의 개인키로 서명하고, 등록된 모든 공개키(교체 중인 이전 키 포함)로 검증합니다.
+ * 공개키는 JWKS 형식으로 노출되어 다른 서비스가 인증 서버 호출 없이 토큰을 검증할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class JwtSigningKeys {
+
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKid;
+    private final PrivateKey activePrivateKey;
+    private final Map<String, ECPublicKey> publicKeys;
+    private final boolean acceptHmac;
+    private final long jwksMaxAgeSeconds;
+
+    public JwtSigningKeys(JwtSigningProperties properties) {
+        this.algorithm = resolveAlgorithm(properties.algorithm());
+        this.acceptHmac = properties.acceptHmac();
+        this.jwksMaxAgeSeconds = properties.jwksMaxAgeSeconds();
+
+        if (algorithm == SignatureAlgorithm.HS512) {
+            this.activeKid = null;
+            this.activePrivateKey = null;
+            this.publicKeys = Collections.emptyMap();
+            return;
+        }
+
+        Map<String, ECPublicKey> loadedPublicKeys = new LinkedHashMap<>();
+        Map<String, PrivateKey> loadedPrivateKeys = new LinkedHashMap<>();
+        String kid = properties.activeKid();
+
+        if (properties.keys().isEmpty()) {
+            // 키가 설정되지 않은 경우 임시 키 생성 (재시작 시 기존 토큰은 모두 무효화됨)
+            KeyPair keyPair = generateKeyPair();
+            kid = "ephemeral-" + UUID.randomUUID();
+            loadedPublicKeys.put(kid, (ECPublicKey) keyPair.getPublic());
+            loadedPrivateKeys.put(kid, keyPair.getPrivate());
+            log.warn("jwt.signing.keys 가 설정되지 않아 임시 ES256 키를 생성했습니다. kid={}", kid);
+        } else {
+            for (JwtSigningProperties.SigningKey signingKey : properties.keys()) {
+                if (signingKey.kid() == null || signingKey.kid().isBlank() || signingKey.publicKey() == null) {
+                    throw new IllegalStateException("jwt.signing.keys 항목에는 kid 와 publicKey 가 필요합니다.");
+                }
+                loadedPublicKeys.put(signingKey.kid(), decodePublicKey(signingKey.publicKey()));
+                if (signingKey.privateKey() != null && !signingKey.privateKey().isBlank()) {
+                    loadedPrivateKeys.put(signingKey.kid(), decodePrivateKey(signingKey.privateKey()));
+                }
+            }
+        }
+
+        if (kid == null || !loadedPrivateKeys.containsKey(kid)) {
+            throw new IllegalStateException("jwt.signing.active-kid 에 해당하는 개인키가 없습니다: " + kid);
+        }
+        this.activeKid = kid;
+        this.activePrivateKey = loadedPrivateKeys.get(kid);
+        this.publicKeys = Collections.unmodifiableMap(loadedPublicKeys);
+        log.info("JWT 액세스 토큰 서명: {} (active kid={}, 검증 키 {}개)", algorithm, activeKid, publicKeys.size());
+    }
+
+    /**
+     * HS512 전용 인스턴스 (테스트 및 설정이 없는 경우)
+     */
+    public static JwtSigningKeys hmac() {
+        return new JwtSigningKeys(JwtSigningProperties.hmac());
+    }
+
+    public boolean isAsymmetric() {
+        return algorithm != SignatureAlgorithm.HS512;
+    }
+
+    public SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    public String activeKid() {
+        return activeKid;
+    }
+
+    public PrivateKey activePrivateKey() {
+        return activePrivateKey;
+    }
+
+    public boolean acceptHmac() {
+        return acceptHmac;
+    }
+
+    public long jwksMaxAgeSeconds() {
+        return jwksMaxAgeSeconds;
+    }
+
+    /**
+     * 검증용 공개키 조회
+     * @param kid JWT 헤더의 kid
+     * @return 공개키 (등록되지 않은 kid 인 경우 null)
+     */
+    public ECPublicKey publicKey(String kid) {
+        return kid == null ? null : publicKeys.get(kid);
+    }
+
+    /**
+     * RFC 7517 JWK Set 생성
+     * @return {"keys": [...]} 형태의 JWKS (HS512 모드에서는 빈 목록)
+     */
+    public Map<String, Object> jwks() {
+        List<Map<String, Object>> keys = new ArrayList<>(publicKeys.size());
+        publicKeys.forEach((kid, publicKey) -> {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", algorithm.getValue());
+            jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+            jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+            keys.add(jwk);
+        });
+        return Map.of("keys", keys);
+    }
+
+    private static SignatureAlgorithm resolveAlgorithm(String algorithm) {
+        if (algorithm == null || algorithm.isBlank() || "HS512".equalsIgnoreCase(algorithm)) {
+            return SignatureAlgorithm.HS512;
+        }
+        if ("ES256".equalsIgnoreCase(algorithm)) {
+            return SignatureAlgorithm.ES256;
+        }
+        throw new IllegalStateException("지원하지 않는 jwt.signing.algorithm: " + algorithm);
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("ES256 키 생성 실패", e);
+        }
+    }
+
+    private static ECPublicKey decodePublicKey(String encoded) {
+        try {
+            X509EncodedKeySpec spec = new X509EncodedKeySpec(Base64.getMimeDecoder().decode(encoded));
+            return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(spec);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("EC 공개키 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(String encoded) {
+        try {
+            PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(encoded));
+            return KeyFactory.getInstance("EC").generatePrivate(spec);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("EC 개인키 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    // BigInteger 는 부호 바이트가 붙거나 앞자리 0 이 생략될 수 있으므로 32 바이트로 맞춤
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] raw = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        int copyLength = Math.min(raw.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(raw, raw.length - copyLength, fixed, P256_COORDINATE_LENGTH - copyLength, copyLength);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
@@ -0,0 +1,49 @@
+package com.authentication.auth.configuration.token;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * application.properties 파일의 'jwt.signing' 접두사를 가진 액세스 토큰 서명 설정을 매핑하는 record 입니다.
+ *
+ * @param algorithm 액세스 토큰 서명 알고리즘 (HS512 또는 ES256)
+ * @param activeKid 새 토큰 서명에 사용할 키 ID (ES256 모드)
+ * @param keys 서명 키 목록 (교체 기간에는 이전 키를 공개키만 남겨 검증용으로 유지)
+ * @param acceptHmac ES256 모드에서 기존 HS512 토큰을 계속 허용할지 여부 (전환 기간용)
+ * @param jwksMaxAgeSeconds JWKS 응답의 Cache-Control max-age (초)
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+public record JwtSigningProperties(
+        @DefaultValue("HS512") String algorithm,
+        String activeKid,
+        List<SigningKey> keys,
+        @DefaultValue("true") boolean acceptHmac,
+        @DefaultValue("3600") long jwksMaxAgeSeconds
+) {
+
+    public JwtSigningProperties {
+        keys = keys == null ? List.of() : List.copyOf(keys);
+    }
+
+    /**
+     * HS512 기본 설정 (테스트 및 설정이 없는 경우)
+     */
+    public static JwtSigningProperties hmac() {
+        return new JwtSigningProperties("HS512", null, List.of(), true, 3600);
+    }
+
+    /**
+     * 서명 키 한 쌍
+     *
+     * @param kid 키 ID (JWT 헤더의 kid, JWKS 의 kid)
+     * @param privateKey Base64 인코딩된 PKCS#8 EC 개인키 (검증 전용 키는 비워둠)
+     * @param publicKey Base64 인코딩된 X.509 EC 공개키
+     */
+    public record SigningKey(
+            String kid,
+            String privateKey,
+            String publicKey
+    ) {}
+}
@@ -11,6 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -24,27 +25,91 @@ import java.io.PrintWriter;
 import java.security.Key;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtUtility {
 
+    public static final String GENERATION_CLAIM = "gen";
+    public static final String UID_CLAIM = "uid";
+
     private final Key key;
     private final Key key2;
     private final Long ACCESS_TOKEN_VALIDITY; // in seconds
     private final Long REFRESH_TOKEN_VALIDITY; // in seconds
 
+    // JwtParser 는 불변이며 thread-safe 하므로 키별로 한 번만 생성하여 공유
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
+
+    // 액세스 토큰 서명 방식 (HS512 또는 kid 기반 ES256)
+    private final JwtSigningKeys signingKeys;
+    // 사용자별 토큰 세대 (gen 클레임)
+    private final TokenGenerations tokenGenerations;
+
     public JwtUtility(JwtProperties jwtProperties) {
+        this(jwtProperties, JwtSigningKeys.hmac());
+    }
+
+    public JwtUtility(JwtProperties jwtProperties, JwtSigningKeys signingKeys) {
+        this(jwtProperties, signingKeys, TokenGenerations.NONE);
+    }
+
+    @Autowired
+    public JwtUtility(JwtProperties jwtProperties, JwtSigningKeys signingKeys, TokenGenerations tokenGenerations) {
         this.key = Keys.hmacShaKeyFor(jwtProperties.secretKey().getBytes());
         this.key2 = Keys.hmacShaKeyFor(jwtProperties.secretKey2().getBytes());
         this.ACCESS_TOKEN_VALIDITY = jwtProperties.accessTokenExpirationMinutes() * 60L;
         this.REFRESH_TOKEN_VALIDITY = jwtProperties.refreshTokenExpirationMinutes() * 60L;
+        this.signingKeys = signingKeys;
+        this.tokenGenerations = tokenGenerations;
+        this.accessParser = signingKeys.isAsymmetric()
+                ? Jwts.parserBuilder().setSigningKeyResolver(new AccessKeyResolver()).build()
+                : Jwts.parserBuilder().setSigningKey(this.key).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(this.key2).build();
+    }
+
+    /**
+     * ES256 모드의 액세스 토큰 검증 키 선택
+     * 헤더의 kid 로 공개키를 찾고, HS 계열 토큰은 전환 기간(acceptHmac)에만 기존 비밀키로 검증합니다.
+     * 공개키를 HMAC 비밀키로 사용하는 알고리즘 혼동 공격을 막기 위해 alg 와 키 종류를 함께 확인합니다.
+     */
+    private class AccessKeyResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            SignatureAlgorithm alg = SignatureAlgorithm.forName(header.getAlgorithm());
+            if (alg.isHmac()) {
+                if (!signingKeys.acceptHmac()) {
+                    throw new UnsupportedJwtException("HMAC signed access tokens are no longer accepted");
+                }
+                return key;
+            }
+            if (alg != signingKeys.algorithm()) {
+                throw new UnsupportedJwtException("Unsupported access token algorithm: " + alg);
+            }
+            Key publicKey = signingKeys.publicKey(header.getKeyId());
+            if (publicKey == null) {
+                throw new UnsupportedJwtException("Unknown access token key id: " + header.getKeyId());
+            }
+            return publicKey;
+        }
     }
 
 
     public TokenDto buildToken(String userId, Collection<? extends GrantedAuthority> role) {
-        Claims claims = createClaims(userId, role);
+        return buildToken(userId, null, role);
+    }
+
+    /**
+     * 토큰 발급 (사용자 PK 포함)
+     * @param userId 토큰의 userId 클레임 (로그인 경로에 따라 이메일 또는 닉네임)
+     * @param uid users.id (uid 클레임, null 이면 생략)
+     * @param role 권한 목록
+     * @return 액세스 토큰과 리프레시 토큰
+     * @Description uid 는 변경되지 않는 값이므로 일기 API 에서 사용자 조회 없이 바로 조건으로 사용합니다.
+     */
+    public TokenDto buildToken(String userId, Long uid, Collection<? extends GrantedAuthority> role) {
+        Claims claims = createClaims(userId, uid, role);
 
         // 토큰 만료 시간 설정
         Instant now = Instant.now();
@@ -52,23 +117,43 @@ public class JwtUtility {
         Instant validity2 = now.plusSeconds(this.REFRESH_TOKEN_VALIDITY);
 
         // 액세스 토큰 생성
-        String accessToken = buildToken(claims, now, validity, this.key, SecurityConstants.TOKEN_TYPE.getValue());
+        String accessToken = buildAccessToken(claims, now, validity);
         // 리프레시 토큰 생성
-        String refreshToken = buildToken(Jwts.claims(), now, validity2, this.key2, SecurityConstants.REFRESH_TOKEN_TYPE.getValue());
+        // jti 로 발급마다 다른 값을 보장하여 교체된 토큰의 재사용을 구분
+        String refreshToken = buildToken(Jwts.claims().setId(UUID.randomUUID().toString()), now, validity2, this.key2, SecurityConstants.REFRESH_TOKEN_TYPE.getValue());
 
         return new TokenDto(accessToken, refreshToken);
     }
-/* <<<<<<<<<<  2f21aafa-d159-41a6-892b-76ef4b9b83f8  >>>>>>>>>>> */
 
     // 클레임 생성 유틸리티 메서드
-    private Claims createClaims(String userId, Collection<? extends GrantedAuthority> role) {
+    // role 은 GrantedAuthority 객체가 아닌 권한 문자열 목록으로 저장하여 검증 시 변환 비용을 줄임
+    private Claims createClaims(String userId, Long uid, Collection<? extends GrantedAuthority> role) {
         Claims claims = Jwts.claims();
         claims.put("userId", userId);
-        claims.put("role", role);
+        if (uid != null) {
+            claims.put(UID_CLAIM, uid);
+        }
+        claims.put("role", role.stream().map(GrantedAuthority::getAuthority).toList());
+        claims.put(GENERATION_CLAIM, tokenGenerations.current(userId));
         return claims;
     }
 
-    // 토큰 생성 유틸리티 메서드
+    // 액세스 토큰 생성: ES256 모드에서는 활성 kid 의 개인키로 서명하고 헤더에 kid 를 기록
+    private String buildAccessToken(Claims claims, Instant issuedAt, Instant expiry) {
+        if (!signingKeys.isAsymmetric()) {
+            return buildToken(claims, issuedAt, expiry, this.key, SecurityConstants.TOKEN_TYPE.getValue());
+        }
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeys.activeKid())
+                .setClaims(claims)
+                .setIssuedAt(Date.from(issuedAt))
+                .setExpiration(Date.from(expiry))
+                .signWith(signingKeys.activePrivateKey(), signingKeys.algorithm())
+                .claim("type", SecurityConstants.TOKEN_TYPE.getValue())
+                .compact();
+    }
+
+    // 토큰 생성 유틸리티 메서드 (HS512)
     private String buildToken(Claims claims, Instant issuedAt, Instant expiry, Key signingKey, String type) {
         return Jwts.builder()
                 .setClaims(claims)
@@ -79,52 +164,108 @@ public class JwtUtility {
                 .compact();
     }
 
-    @SuppressWarnings("unchecked")
-    public UsernamePasswordAuthenticationToken getAuthentication(String JWT){
-        try {
-            Jws<Claims> parsedToken = Jwts.parserBuilder()
-                    .setSigningKey(this.key)
-                    .build()
-                    .parseClaimsJws(JWT);
-
-            log.info("parsedToken : " + parsedToken);
-
-            List<LinkedHashMap<String, String>> roleList =
-                    (List<LinkedHashMap<String, String>>) parsedToken.getBody().get("role");
+    /**
+     * 액세스 토큰을 한 번만 파싱하여 검증된 클레임을 반환
+     * @param JWT 액세스 토큰
+     * @return VerifiedClaims 서명과 만료 검증을 통과한 클레임
+     * @throws JwtException 서명이 유효하지 않거나 만료된 경우
+     * @throws IllegalArgumentException 토큰이 비어있는 경우
+     */
+    public VerifiedClaims verifyAccessToken(String JWT) {
+        Claims claims = accessParser.parseClaimsJws(JWT).getBody();
+        Object userId = claims.get("userId");
+        return new VerifiedClaims(
+                userId != null ? userId.toString() : null,
+                readUid(claims.get(UID_CLAIM)),
+                readRoles(claims.get("role")),
+                readGeneration(claims.get(GENERATION_CLAIM)),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
 
-            List<String> roles = roleList.stream()
-                    .map(roleMap -> roleMap.get("authority"))
-                    .collect(Collectors.toList());
+    /**
+     * 검증된 클레임으로 인증 객체 생성 (토큰 재파싱 없음)
+     * @param verifiedClaims 검증된 클레임
+     * @return UsernamePasswordAuthenticationToken 인증 객체
+     */
+    public UsernamePasswordAuthenticationToken toAuthentication(VerifiedClaims verifiedClaims) {
+        String userId = verifiedClaims.userId();
+
+        User userForPrincipal = User.builder()
+                .id(verifiedClaims.uid())
+                .nickname(userId)
+                .email(userId)
+                .build();
+
+        UserDetails principalDetails = new PrincipalDetails(userForPrincipal);
+
+        List<String> roles = verifiedClaims.roles();
+        String role = roles.isEmpty() ? "USER" : roles.get(0);
+        Collection<GrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority(role.startsWith("ROLE_") ? role : "ROLE_" + role)
+        );
+
+        return new UsernamePasswordAuthenticationToken(principalDetails, "", authorities);
+    }
 
-            String userId = parsedToken.getBody().get("userId").toString();
+    public UsernamePasswordAuthenticationToken getAuthentication(String JWT){
+        try {
+            return toAuthentication(verifyAccessToken(JWT));
+        } catch (ExpiredJwtException e) {
+            log.error("authentication 과정에서 Exception 발생! " + e.getMessage());
+            return null;
+        }
+    }
 
-            User userForPrincipal = User.builder()
-                    .nickname(userId)
-                    .email(userId)
-                    .build();
+    /**
+     * 토큰이 전체 폐기(세대 변경) 대상인지 확인 (만료된 토큰도 허용)
+     * @param JWT 액세스 토큰
+     * @return 토큰 세대가 사용자의 현재 세대보다 낮으면 true
+     * @throws JwtException 서명이 유효하지 않은 경우
+     */
+    public boolean isRevoked(String JWT) {
+        Claims claims;
+        try {
+            claims = accessParser.parseClaimsJws(JWT).getBody();
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        }
+        Object userId = claims.get("userId");
+        return tokenGenerations.isRevoked(userId != null ? userId.toString() : null,
+                readGeneration(claims.get(GENERATION_CLAIM)));
+    }
 
-            UserDetails principalDetails = new PrincipalDetails(userForPrincipal);
+    // gen 클레임이 없는 이전 토큰은 0 세대로 취급
+    private static long readGeneration(Object generationClaim) {
+        return generationClaim instanceof Number generation ? generation.longValue() : 0L;
+    }
 
-            Collection<GrantedAuthority> authorities = Collections.singletonList(
-                    new SimpleGrantedAuthority("ROLE_" + (roles.isEmpty() ? "USER" : roles.get(0)))
-            );
+    // uid 클레임이 없는 이전 토큰은 null (호출 측에서 userId 로 조회)
+    private static Long readUid(Object uidClaim) {
+        return uidClaim instanceof Number uid ? uid.longValue() : null;
+    }
 
-            return new UsernamePasswordAuthenticationToken(principalDetails, "", authorities);
-        } catch (ExpiredJwtException e) {
-            log.error("authentication 과정에서 Exception 발생! " + e.getMessage());
-            return null;
+    // role 클레임 변환: 문자열 목록(현재 형식)과 {"authority": ...} 맵 목록(이전 형식)을 모두 지원
+    private static List<String> readRoles(Object roleClaim) {
+        if (!(roleClaim instanceof Collection<?> roleList)) {
+            return List.of();
         }
+        List<String> roles = new ArrayList<>(roleList.size());
+        for (Object role : roleList) {
+            if (role instanceof String authority) {
+                roles.add(authority);
+            } else if (role instanceof Map<?, ?> roleMap && roleMap.get("authority") != null) {
+                roles.add(roleMap.get("authority").toString());
+            }
+        }
+        return roles;
     }
 
     public boolean validateJWT(String JWT) {
         try {
-            Jws<Claims> parsedToken = Jwts.parserBuilder()
-                    .setSigningKey(this.key)
-                    .build()
-                    .parseClaimsJws(JWT);
-
-            log.info("JWT 유효성 검증 통과 - 만료일: {}", parsedToken.getBody().getExpiration());
-            return !parsedToken.getBody().getExpiration().before(new Date());
+            accessParser.parseClaimsJws(JWT);
+            return true;
         } catch (ExpiredJwtException e) {
             log.error("JWT 만료 - {}", e.getMessage());
             return false;
@@ -146,11 +287,8 @@ public class JwtUtility {
 
     public boolean validateRefreshJWT(String refreshJWT) {
         try{
-            Jws<Claims> parsedRefreshToken = Jwts.parserBuilder()
-                    .setSigningKey(this.key2)
-                    .build()
-                    .parseClaimsJws(refreshJWT);
-            return !parsedRefreshToken.getBody().getExpiration().before(new Date());
+            refreshParser.parseClaimsJws(refreshJWT);
+            return true;
         } catch(ExpiredJwtException e){
             log.error("refresh token expired");
             return false;
@@ -170,12 +308,7 @@ public class JwtUtility {
 
     public Map<String, Object> getClaimsFromAccessToken(String JWT) {
         try {
-            Jws<Claims> parsedToken = Jwts.parserBuilder()
-                    .setSigningKey(this.key)
-                    .build()
-                    .parseClaimsJws(JWT);
-
-            Claims claims = parsedToken.getBody();
+            Claims claims = accessParser.parseClaimsJws(JWT).getBody();
 
             Map<String, Object> claimMap = new HashMap<>();
             claimMap.put("userId", claims.get("userId"));
@@ -203,7 +336,10 @@ public class JwtUtility {
         } catch (JwtException e) {
             throw new RuntimeException("token error");
         }
-        return buildToken(claims, now, newExpiry, this.key, SecurityConstants.TOKEN_TYPE.getValue());
+        // 재발급 토큰은 현재 세대로 갱신 (폐기 여부는 호출 측에서 먼저 확인)
+        Object userId = claims.get("userId");
+        claims.put(GENERATION_CLAIM, tokenGenerations.current(userId != null ? userId.toString() : null));
+        return buildAccessToken(claims, now, newExpiry);
     }
 
 
@@ -212,18 +348,20 @@ public class JwtUtility {
             throw new IllegalArgumentException("Token is null");
         }
 
-        Claims getClaims = this.extractClaims(token);
+        // 재발급 요청은 만료된 액세스 토큰으로 들어오므로 서명이 유효하면 만료는 허용
+        Claims getClaims;
+        try {
+            getClaims = this.extractClaims(token);
+        } catch (ExpiredJwtException e) {
+            getClaims = e.getClaims();
+        }
         return getClaims.get("userId", String.class);  // userId를 String으로 반환
     }
 
 
     // access 토큰에서 Claims 를 추출하는 유틸리티 메서드
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(this.key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return accessParser.parseClaimsJws(token).getBody();
     }
 
     public String checkSnsCookie(HttpServletRequest request, HttpServletResponse response) throws IOException {
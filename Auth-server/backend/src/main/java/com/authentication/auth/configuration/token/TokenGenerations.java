@@ -0,0 +1,31 @@
+package com.authentication.auth.configuration.token;
+
+/**
+ * 사용자별 토큰 세대(generation) 조회
+ * 토큰의 gen 클레임이 현재 세대보다 작으면 폐기된 토큰으로 간주합니다.
+ * 구현체는 요청 경로에서 호출되므로 외부 저장소 조회 없이 메모리에서 응답해야 합니다.
+ * (기동 직후 메모리 적재가 끝나기 전에는 외부 저장소를 조회하며, 확인할 수 없으면 예외를 던집니다.)
+ */
+@FunctionalInterface
+public interface TokenGenerations {
+
+    /**
+     * 세대 관리를 사용하지 않는 경우 (테스트, 벤치마크)
+     */
+    TokenGenerations NONE = userId -> 0L;
+
+    /**
+     * @param userId 토큰의 userId 클레임
+     * @return 현재 세대 (폐기 이력이 없으면 0)
+     */
+    long current(String userId);
+
+    /**
+     * @param userId 토큰의 userId 클레임
+     * @param tokenGeneration 토큰에 기록된 세대
+     * @return 폐기된 토큰이면 true
+     */
+    default boolean isRevoked(String userId, long tokenGeneration) {
+        return userId != null && tokenGeneration < current(userId);
+    }
+}
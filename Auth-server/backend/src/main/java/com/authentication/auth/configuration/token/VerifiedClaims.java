@@ -0,0 +1,29 @@
+package com.authentication.auth.configuration.token;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 서명 검증을 통과한 액세스 토큰의 클레임
+ * 토큰을 한 번만 파싱한 결과를 불변 객체로 보관하여 필터와 서비스에서 재사용합니다.
+ *
+ * @param userId 토큰의 userId 클레임
+ * @param uid 사용자 PK (uid 클레임, 이전 토큰은 null)
+ * @param roles 권한 문자열 목록 (예: ROLE_USER)
+ * @param generation 토큰 세대 (gen 클레임, 없으면 0)
+ * @param issuedAt 발급 시각
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedClaims(
+        String userId,
+        Long uid,
+        List<String> roles,
+        long generation,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    public VerifiedClaims {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+}
@@ -0,0 +1,205 @@
+package com.authentication.auth.configuration.token;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import com.authentication.auth.service.cache.BoundedTtlMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 인증 정보를 보관하는 캐시
+ * 같은 Bearer 토큰으로 반복 요청 시 HMAC 검증과 클레임 파싱을 생략합니다.
+ * 캐시 키는 토큰 원문이 아닌 SHA-256 digest 이며, 항목은 토큰의 exp 보다 오래 유지되지 않습니다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    });
+
+    private final BoundedTtlMap<String, Entry> entries;
+    private final boolean enabled;
+    private final long maxTtlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    // 무효화로 제거한 항목 수 (만료/용량 초과 제거는 entries.evictions())
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param enabled 캐시 사용 여부
+     * @param maxEntries 최대 보관 항목 수
+     * @param maxTtlSeconds 토큰 만료와 별개로 항목을 보관할 최대 시간 (초)
+     */
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-entries:10000}") int maxEntries,
+                              @Value("${jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.enabled = enabled;
+        this.entries = new BoundedTtlMap<>(maxEntries);
+        this.maxTtlMillis = Math.max(1, maxTtlSeconds) * 1000L;
+    }
+
+    /**
+     * 캐시된 인증 정보 조회
+     * @param token Bearer 토큰 원문
+     * @return 새로 생성한 인증 객체 (캐시에 없거나 만료된 경우 null)
+     */
+    public UsernamePasswordAuthenticationToken get(String token) {
+        return get(token, TokenGenerations.NONE);
+    }
+
+    /**
+     * 캐시된 인증 정보 조회 (토큰 세대 확인 포함)
+     * @param token Bearer 토큰 원문
+     * @param tokenGenerations 사용자별 현재 토큰 세대
+     * @return 새로 생성한 인증 객체 (캐시에 없거나 만료 또는 폐기된 경우 null)
+     */
+    public UsernamePasswordAuthenticationToken get(String token, TokenGenerations tokenGenerations) {
+        if (!enabled || token == null) {
+            return null;
+        }
+        String key = digest(token);
+        Entry entry = entries.get(key, System.currentTimeMillis());
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (tokenGenerations.isRevoked(entry.userId(), entry.generation())) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // SecurityContext 에서 변경될 수 있으므로 요청마다 새 인증 객체를 만들어 반환
+        return new UsernamePasswordAuthenticationToken(entry.principal(), "", entry.authorities());
+    }
+
+    /**
+     * 검증된 인증 정보 저장
+     * @param token Bearer 토큰 원문
+     * @param userId 토큰의 userId 클레임 (사용자 단위 무효화에 사용)
+     * @param authentication 검증 후 생성된 인증 객체
+     * @param expiresAt 토큰의 만료 시각
+     */
+    public void put(String token, String userId, UsernamePasswordAuthenticationToken authentication, Instant expiresAt) {
+        put(token, userId, 0L, authentication, expiresAt);
+    }
+
+    /**
+     * 검증된 인증 정보 저장 (토큰 세대 포함)
+     * @param token Bearer 토큰 원문
+     * @param userId 토큰의 userId 클레임 (사용자 단위 무효화에 사용)
+     * @param generation 토큰의 gen 클레임
+     * @param authentication 검증 후 생성된 인증 객체
+     * @param expiresAt 토큰의 만료 시각
+     */
+    public void put(String token, String userId, long generation,
+                    UsernamePasswordAuthenticationToken authentication, Instant expiresAt) {
+        if (!enabled || token == null || authentication == null || expiresAt == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = Math.min(expiresAt.toEpochMilli(), now + maxTtlMillis);
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        entries.put(digest(token), new Entry(userId, generation, authentication.getPrincipal(),
+                List.copyOf(authentication.getAuthorities()), expiresAtMillis), now);
+    }
+
+    /**
+     * 단일 토큰 무효화 (로그아웃 시 사용)
+     * @param token Bearer 토큰 원문
+     */
+    public void invalidate(String token) {
+        if (token != null && entries.remove(digest(token))) {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 특정 사용자의 모든 캐시 항목 무효화 (토큰 폐기, 비밀번호 변경 시 사용)
+     * @param userId 토큰의 userId 클레임
+     */
+    public void invalidateUser(String userId) {
+        if (userId == null) {
+            return;
+        }
+        evictions.add(entries.removeIf(entry -> userId.equals(entry.userId())));
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        evictions.add(entries.clear());
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum() + entries.evictions();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.verified.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Verified token cache lookups")
+                .register(registry);
+        FunctionCounter.builder("jwt.verified.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Verified token cache lookups")
+                .register(registry);
+        FunctionCounter.builder("jwt.verified.cache.evictions", this, VerifiedTokenCache::evictionCount)
+                .description("Verified token cache evictions and invalidations")
+                .register(registry);
+        Gauge.builder("jwt.verified.cache.size", entries, BoundedTtlMap::size)
+                .description("Verified token cache entries")
+                .register(registry);
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private record Entry(String userId,
+                         long generation,
+                         Object principal,
+                         Collection<GrantedAuthority> authorities,
+                         long expiresAtMillis) implements BoundedTtlMap.Expiring {
+    }
+}
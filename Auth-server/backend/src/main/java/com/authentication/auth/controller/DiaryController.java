@@ -1,19 +1,31 @@
 package com.authentication.auth.controller;
 
 import com.authentication.auth.dto.AIResponseDto;
+import com.authentication.auth.dto.common.ResourceVersion;
 import com.authentication.auth.dto.diary.DiaryRequestDto;
 import com.authentication.auth.dto.diary.DiaryCreateRequest;
 import com.authentication.auth.dto.diary.DiaryUpdateRequest;
+import com.authentication.auth.diary.dto.DiaryCalendarResponse;
+import com.authentication.auth.diary.dto.DiaryCursorResponse;
+import com.authentication.auth.diary.dto.DiaryImportResponse;
 import com.authentication.auth.diary.dto.DiaryResponseDto;
+import com.authentication.auth.diary.dto.DiarySearchResponse;
 import com.authentication.auth.service.DiaryService;
+import com.authentication.auth.service.diary.DiaryAnalysisService;
 import com.authentication.auth.service.diary.DiaryManagementService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -21,6 +33,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +44,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class DiaryController {
 
+    private static final int MAX_FEED_SIZE = 50;
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String ANALYSIS_RETRY_AFTER_SECONDS = "30";
+
     private final DiaryService diaryService;
     private final DiaryManagementService diaryManagementService;
 
@@ -48,19 +65,22 @@ public class DiaryController {
 
     /**
      * 일기 목록 조회 (READ) - 페이징 처리 + 검색 + 날짜 필터
+     * view=summary 이면 본문 대신 앞부분(preview)만 포함한 요약 목록을 반환합니다. (기본값 full)
      */
     @GetMapping
-    public ResponseEntity<Page<DiaryResponseDto>> getDiaries(
+    public ResponseEntity<Page<?>> getDiaries(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(value = "q", required = false) String searchQuery,
             @RequestParam(value = "date", required = false) String date,
             @RequestParam(value = "month", required = false) String month,
+            @RequestParam(value = "view", defaultValue = "full") String view,
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
         
-        log.info("사용자 {}의 일기 목록 조회 요청, 검색어: {}, 날짜: {}, 월: {}, 페이지 정보: {}", 
-                userDetails.getUsername(), searchQuery, date, month, pageable);
+        log.info("사용자 {}의 일기 목록 조회 요청, 검색어: {}, 날짜: {}, 월: {}, 보기: {}, 페이지 정보: {}", 
+                userDetails.getUsername(), searchQuery, date, month, view, pageable);
                 
-        Page<DiaryResponseDto> diaries;
+        Page<?> diaries;
+        boolean summary = "summary".equalsIgnoreCase(view);
         
         if (month != null && !month.trim().isEmpty()) {
             // 월별 날짜 목록 조회 (달력 표시용)
@@ -70,18 +90,51 @@ public class DiaryController {
                     .body(Page.empty(pageable));
         } else if (date != null && !date.trim().isEmpty()) {
             // 특정 날짜의 일기 조회
-            diaries = diaryManagementService.findDiariesByDate(userDetails, date, pageable);
+            diaries = summary
+                    ? diaryManagementService.findDiarySummariesByDate(userDetails, date, pageable)
+                    : diaryManagementService.findDiariesByDate(userDetails, date, pageable);
         } else if (searchQuery != null && !searchQuery.trim().isEmpty()) {
             // 검색어로 일기 조회
-            diaries = diaryManagementService.searchDiaries(userDetails, searchQuery, pageable);
+            diaries = summary
+                    ? diaryManagementService.searchDiarySummaries(userDetails, searchQuery, pageable)
+                    : diaryManagementService.searchDiaries(userDetails, searchQuery, pageable);
         } else {
             // 전체 일기 조회
-            diaries = diaryManagementService.findDiariesByUser(userDetails, pageable);
+            diaries = summary
+                    ? diaryManagementService.findDiarySummariesByUser(userDetails, pageable)
+                    : diaryManagementService.findDiariesByUser(userDetails, pageable);
         }
         
         return ResponseEntity.ok(diaries);
     }
 
+    /**
+     * 일기 목록 커서 조회 (READ) - 무한 스크롤용, 최신순
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. (전체 건수는 제공하지 않음)
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<DiaryCursorResponse> getDiaryFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        return ResponseEntity.ok(diaryManagementService.findDiariesByCursor(userDetails, cursor, pageSize));
+    }
+
+    /**
+     * 일기 전문 검색 (READ) - 관련도 순, 하이라이트 문구 포함
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<DiarySearchResponse> searchDiaries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "q") String searchQuery,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        return ResponseEntity.ok(diaryManagementService.searchDiariesByCursor(userDetails, searchQuery, cursor, pageSize));
+    }
+
     /**
      * 월별 일기 작성 날짜 목록 조회 (달력 표시용)
      */
@@ -94,12 +147,54 @@ public class DiaryController {
         return ResponseEntity.ok(Map.of("dates", dates));
     }
 
+    /**
+     * 연간 일기 작성일 비트맵 조회 (달력 표시용)
+     * months[0] 이 1월이며, 각 값의 (일 - 1) 번째 비트가 1 이면 그 날짜에 일기가 있습니다.
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<DiaryCalendarResponse> getDiaryCalendar(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(value = "year") int year) {
+        return ResponseEntity.ok(diaryManagementService.findDiaryCalendarByYear(userDetails, year));
+    }
+
+    /**
+     * 일기 내보내기 - 한 줄에 일기 1건(AI 분석 포함)인 NDJSON 을 스트리밍으로 응답
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportDiaries(@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("일기 내보내기 요청 - 사용자: {}", userDetails.getUsername());
+        StreamingResponseBody body = out -> diaryManagementService.exportDiaries(userDetails, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("diaries.ndjson").build().toString())
+                .body(body);
+    }
+
+    /**
+     * 일기 가져오기 - 내보내기 형식의 NDJSON 본문을 스트리밍으로 읽어 배치 저장
+     */
+    @PostMapping(value = "/import", consumes = {NDJSON, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<DiaryImportResponse> importDiaries(
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) throws IOException {
+        log.info("일기 가져오기 요청 - 사용자: {}", userDetails.getUsername());
+        DiaryImportResponse response = diaryManagementService.importDiaries(userDetails, request.getInputStream());
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
     /**
      * 일기 조회 (READ) - 단일 일기 조회
+     * ETag / Last-Modified 를 제공하며, 변경이 없으면 본문 없이 304 로 응답합니다.
      */
     @GetMapping("/{diaryId}")
-    public ResponseEntity<DiaryResponseDto> getDiary(@PathVariable Long diaryId) {
+    public ResponseEntity<DiaryResponseDto> getDiary(@PathVariable Long diaryId, WebRequest webRequest) {
         log.info("일기 조회 요청 - ID: {}", diaryId);
+        ResourceVersion version = diaryManagementService.findDiaryVersion(diaryId);
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         DiaryResponseDto response = diaryManagementService.findDiaryById(diaryId);
         return ResponseEntity.ok(response);
     }
@@ -131,10 +226,16 @@ public class DiaryController {
 
     /**
      * 일기 분석 조회 (GET) - 분석 결과만 조회
+     * 분석 완료를 기다리며 폴링하는 클라이언트를 위해 상태와 시각으로 만든 ETag 를 제공하고,
+     * 변경이 없으면 분석 본문을 읽지 않고 304 로 응답합니다.
      */
     @GetMapping("/{diaryId}/analysis")
-    public ResponseEntity<?> getAnalysisResult(@PathVariable Long diaryId) {
+    public ResponseEntity<?> getAnalysisResult(@PathVariable Long diaryId, WebRequest webRequest) {
         log.info("일기 분석 결과 조회 - diaryId: {}", diaryId);
+        ResourceVersion version = diaryService.getAnalysisVersion(diaryId);
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         AIResponseDto response = diaryService.getAnalysisByDiaryId(diaryId);
         if (response == null) {
             return ResponseEntity.ok(java.util.Collections.emptyMap());
@@ -155,15 +256,20 @@ public class DiaryController {
             // 먼저 기존 분석 결과가 있는지 확인
             AIResponseDto existingResponse = diaryService.getAnalysisByDiaryId(diaryId);
             
-            if (existingResponse != null && "COMPLETED".equals(existingResponse.getStatus())) {
-                // 완료된 분석 결과가 있으면 반환
-                log.info("기존 완료된 분석 결과 반환 - diaryId: {}", diaryId);
+            if (existingResponse != null && !"FAILED".equals(existingResponse.getStatus())
+                    && !"DEFERRED".equals(existingResponse.getStatus())) {
+                // 완료되었거나 진행 중인 분석은 그대로 반환 (중복 클릭, 폴링 재시도로 분석이 반복 실행되지 않도록)
+                // 일기 수정 시에는 저장 직후 재분석이 요청되므로, 여기서 반환하는 분석은 현재 텍스트의 분석
+                log.info("기존 분석 결과 반환 - diaryId: {}, 상태: {}", diaryId, existingResponse.getStatus());
+                existingResponse.setSkipped(DiaryAnalysisService.SKIPPED_UNCHANGED);
                 return ResponseEntity.ok(existingResponse);
             } else {
-                // 분석 결과가 없거나 완료되지 않았으면 새로 분석 요청
+                // 분석 결과가 없거나 실패, 보류된 경우에만 새로 분석 요청
                 log.info("새로운 분석 요청 시작 - diaryId: {}", diaryId);
                 String username = userDetails != null ? userDetails.getUsername() : "anonymous";
-                diaryService.requestAnalysis(diaryId, username);
+                if (!diaryService.requestAnalysis(diaryId, username)) {
+                    return analysisBusy();
+                }
                 
                 // 즉시 현재 상태 반환 (PENDING 또는 PROCESSING)
                 AIResponseDto currentResponse = diaryService.getAnalysisByDiaryId(diaryId);
@@ -186,6 +292,16 @@ public class DiaryController {
         }
     }
 
+    // 분석 대기열이 가득 찬 경우: 분석 상태는 바뀌지 않았으므로 재시도 시점만 안내
+    private ResponseEntity<?> analysisBusy() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, ANALYSIS_RETRY_AFTER_SECONDS)
+                .body(Map.of(
+                    "status", "BUSY",
+                    "message", "분석 요청이 많습니다. 잠시 후 다시 시도해주세요."
+                ));
+    }
+
     /**
      * 일기 분석 수동 트리거 (FORCE ANALYSIS)
      * 기존 분석 결과가 없거나 재분석이 필요한 경우 사용
@@ -199,7 +315,11 @@ public class DiaryController {
         try {
             // 현재 사용자의 일기인지 확인 후 분석 요청
             DiaryResponseDto diary = diaryManagementService.findDiaryById(diaryId);
-            diaryService.requestAnalysis(diaryId, userDetails.getUsername());
+            if (!diaryService.requestAnalysis(diaryId, userDetails.getUsername())) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, ANALYSIS_RETRY_AFTER_SECONDS)
+                        .body("분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
             
             log.info("일기 분석이 백그라운드에서 시작되었습니다 - diaryId: {}", diaryId);
             return ResponseEntity.ok("분석이 시작되었습니다. 잠시 후 결과를 확인해주세요.");
@@ -1,11 +1,13 @@
 package com.authentication.auth.controller;
 
 import com.authentication.auth.diary.dto.DiaryResponseDto;
+import com.authentication.auth.dto.common.ResourceVersion;
 import com.authentication.auth.service.diary.DiaryManagementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Legacy Diary Posts API Controller
@@ -22,11 +24,15 @@ public class DiaryPostsController {
     /**
      * 일기 조회 (READ) - Legacy API 호환성 지원
      * @param diaryPostId 조회할 일기의 ID
-     * @return 일기 정보
+     * @return 일기 정보 (변경이 없으면 본문 없이 304)
      */
     @GetMapping("/{diaryPostId}")
-    public ResponseEntity<DiaryResponseDto> getDiaryPost(@PathVariable Long diaryPostId) {
+    public ResponseEntity<DiaryResponseDto> getDiaryPost(@PathVariable Long diaryPostId, WebRequest webRequest) {
         log.info("Legacy 일기 조회 요청 - diaryPostId: {}", diaryPostId);
+        ResourceVersion version = diaryManagementService.findDiaryVersion(diaryPostId);
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         DiaryResponseDto response = diaryManagementService.findDiaryById(diaryPostId);
         return ResponseEntity.ok(response);
     }
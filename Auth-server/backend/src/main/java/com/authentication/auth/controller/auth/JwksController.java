@@ -0,0 +1,32 @@
+package com.authentication.auth.controller.auth;
+
+import com.authentication.auth.configuration.token.JwtSigningKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 액세스 토큰 검증용 공개키(JWKS) 제공 컨트롤러
+ * AI 서버 등 다른 서비스는 이 응답을 캐시하여 인증 서버 호출 없이 토큰을 검증합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtSigningKeys signingKeys;
+
+    /**
+     * @return RFC 7517 JWK Set (HS512 모드에서는 빈 keys 목록)
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(signingKeys.jwksMaxAgeSeconds())).cachePublic())
+                .body(signingKeys.jwks());
+    }
+}
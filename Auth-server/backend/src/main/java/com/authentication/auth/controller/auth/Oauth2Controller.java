@@ -110,11 +110,11 @@ public class Oauth2Controller {
         // state 검증 (네이버의 경우)
         if ("naver".equals(provider.toLowerCase()) && requestBody.containsKey("state")) {
             String state = requestBody.get("state");
-            String savedProvider = redisService.get("oauth_state:" + state);
+            // 조회와 삭제를 한 번에 수행 (state 는 일회용)
+            String savedProvider = redisService.getAndDelete("oauth_state:" + state);
             if (!"naver".equals(savedProvider)) {
                 throw new CustomException(ErrorType.INVALID_OAUTH_STATE, "잘못된 OAuth state 파라미터입니다.");
             }
-            redisService.delete("oauth_state:" + state); // 사용 후 삭제
         }
         
         var loginResponse = oauth2Service.handleOauth2Login(requestBody, response, provider);
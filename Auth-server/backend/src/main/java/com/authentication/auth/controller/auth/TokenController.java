@@ -71,4 +71,19 @@ public class TokenController implements TokenApi {
         TokenRefreshResponse refreshResponse = tokenService.refreshToken(httpRequest, httpResponse, request);
         return ResponseEntity.ok(ApiResponse.success(refreshResponse, "토큰이 성공적으로 갱신되었습니다."));
     }
+
+    /**
+     * 전체 기기 로그아웃
+     * @param authentication 현재 인증 정보
+     * @return 성공 응답
+     * @Description 이 사용자에게 발급된 모든 액세스/리프레시 토큰을 즉시 폐기합니다.
+     */
+    @PostMapping("/api/protected/logout/all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(Authentication authentication) {
+        if (authentication == null) {
+            throw new CustomException(ErrorType.UNAUTHORIZED_ACTION);
+        }
+        tokenService.revokeAllTokens(authentication);
+        return ResponseEntity.ok(ApiResponse.success(null, "모든 기기에서 로그아웃되었습니다."));
+    }
 }
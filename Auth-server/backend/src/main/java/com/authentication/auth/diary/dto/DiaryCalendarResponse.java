@@ -0,0 +1,15 @@
+package com.authentication.auth.diary.dto;
+
+import java.util.List;
+
+/**
+ * 연간 일기 작성일 비트맵 응답
+ *
+ * @param year 연도
+ * @param months 1월부터 12월까지의 작성일 비트맵 (각 값의 (일 - 1) 번째 비트가 1 이면 그 날짜에 일기가 있음)
+ */
+public record DiaryCalendarResponse(
+        int year,
+        List<Integer> months
+) {
+}
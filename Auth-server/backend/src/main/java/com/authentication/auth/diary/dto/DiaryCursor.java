@@ -0,0 +1,53 @@
+package com.authentication.auth.diary.dto;
+
+import com.authentication.auth.domain.Diary;
+import com.authentication.auth.exception.CustomException;
+import com.authentication.auth.exception.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일기 목록 커서 (created_at DESC, id DESC 정렬 기준의 마지막 항목 위치)
+ * 클라이언트에는 내용을 해석할 필요가 없는 불투명 문자열로 전달합니다.
+ *
+ * @param createdAt 마지막 항목의 작성 시각
+ * @param id 마지막 항목의 ID (같은 시각의 항목 구분)
+ */
+public record DiaryCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static DiaryCursor of(Diary diary) {
+        return new DiaryCursor(diary.getCreatedAt(), diary.getId());
+    }
+
+    /**
+     * @return URL 에 그대로 사용할 수 있는 Base64url 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode() 로 만든 문자열
+     * @return 커서
+     * @throws CustomException 형식이 올바르지 않은 경우 (INVALID_REQUEST)
+     */
+    public static DiaryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("separator not found");
+            }
+            return new DiaryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorType.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.authentication.auth.diary.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 일기 목록 응답 (전체 건수 없음)
+ *
+ * @param content 일기 목록
+ * @param nextCursor 다음 요청에 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record DiaryCursorResponse(
+        List<DiaryResponseDto> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,71 @@
+package com.authentication.auth.diary.dto;
+
+import com.authentication.auth.domain.AIResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일기 내보내기/가져오기 NDJSON 한 줄 (일기 1건과 AI 분석 결과)
+ *
+ * @param sourceId 내보낸 서버의 일기 ID (가져오기 시 새 ID 가 발급되며 참고용으로만 사용)
+ * @param title 제목
+ * @param date 일기 날짜
+ * @param content 본문
+ * @param isNegative 부정적 감정 포함 여부
+ * @param alternativeThought 대안적 사고
+ * @param createdAt 작성 시각
+ * @param updatedAt 수정 시각
+ * @param analysis AI 분석 결과 (없으면 생략)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DiaryExportRecord(
+        Long sourceId,
+        String title,
+        LocalDate date,
+        String content,
+        Boolean isNegative,
+        String alternativeThought,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Analysis analysis
+) {
+
+    /**
+     * ai_responses 문서 중 일기와 사용자 식별자를 제외한 분석 내용
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Analysis(
+            AIResponse.AnalysisStatus status,
+            List<AIResponse.Emotion> emotions,
+            String summary,
+            String coaching,
+            String errorMessage,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+
+        public static Analysis of(AIResponse response) {
+            return new Analysis(response.getStatus(), response.getEmotions(), response.getSummary(),
+                    response.getCoaching(), response.getErrorMessage(), response.getCreatedAt(), response.getUpdatedAt());
+        }
+
+        public AIResponse toResponse(Long diaryId, String userId, String diaryTitle, String diaryContent) {
+            return AIResponse.builder()
+                    .diaryId(diaryId)
+                    .userId(userId)
+                    .diaryTitle(diaryTitle)
+                    .diaryContent(diaryContent)
+                    .status(status != null ? status : AIResponse.AnalysisStatus.COMPLETED)
+                    .emotions(emotions)
+                    .summary(summary)
+                    .coaching(coaching)
+                    .errorMessage(errorMessage)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.authentication.auth.diary.dto;
+
+/**
+ * 일기 가져오기 결과
+ *
+ * @param imported 저장한 일기 수
+ * @param analyses 함께 저장한 AI 분석 수
+ */
+public record DiaryImportResponse(
+        int imported,
+        int analyses
+) {
+}
@@ -0,0 +1,36 @@
+package com.authentication.auth.diary.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일기 검색 응답 (관련도 순, 커서 기반)
+ *
+ * @param content 검색 결과
+ * @param nextCursor 다음 요청에 전달할 커서 (마지막 페이지면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record DiarySearchResponse(
+        List<Item> content,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * @param id 일기 ID
+     * @param title 제목
+     * @param highlight 검색어를 &lt;em&gt; 으로 감싼 본문 일부 (HTML 이스케이프 처리됨)
+     * @param score 관련도
+     * @param createdAt 작성 시각
+     */
+    public record Item(
+            Long id,
+            String title,
+            String highlight,
+            double score,
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime createdAt
+    ) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.authentication.auth.diary.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일기 목록 요약 (view=summary)
+ * 본문 전체와 작성자를 읽지 않고 JPQL 생성자 표현식으로 필요한 컬럼만 조회합니다.
+ *
+ * @param id 일기 ID
+ * @param title 제목
+ * @param date 일기 날짜
+ * @param preview 본문 앞부분 (최대 PREVIEW_LENGTH 자)
+ * @param createdAt 작성 시각
+ * @param updatedAt 수정 시각
+ */
+public record DiarySummaryDto(
+        Long id,
+        String title,
+        LocalDate date,
+        String preview,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime createdAt,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime updatedAt
+) {
+    public static final int PREVIEW_LENGTH = 120;
+}
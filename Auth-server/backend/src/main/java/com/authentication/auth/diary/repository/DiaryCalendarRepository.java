@@ -0,0 +1,29 @@
+package com.authentication.auth.diary.repository;
+
+import com.authentication.auth.domain.DiaryCalendar;
+import com.authentication.auth.domain.DiaryCalendarId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DiaryCalendarRepository extends JpaRepository<DiaryCalendar, DiaryCalendarId> {
+
+    List<DiaryCalendar> findById_UserIdAndId_MonthKeyBetween(Long userId, Integer fromMonthKey, Integer toMonthKey);
+
+    // 비트 추가 (OR 병합이므로 동시에 계산한 값이 서로를 덮어쓰지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO diary_calendar (user_id, month_key, day_mask) VALUES (:userId, :monthKey, :mask)"
+            + " ON DUPLICATE KEY UPDATE day_mask = day_mask | VALUES(day_mask)", nativeQuery = true)
+    int mergeDays(@Param("userId") Long userId, @Param("monthKey") int monthKey, @Param("mask") int mask);
+
+    // 비트 제거 (keep 에 남길 비트만 설정)
+    @Modifying
+    @Query(value = "UPDATE diary_calendar SET day_mask = day_mask & :keep"
+            + " WHERE user_id = :userId AND month_key = :monthKey", nativeQuery = true)
+    int retainDays(@Param("userId") Long userId, @Param("monthKey") int monthKey, @Param("keep") int keep);
+}
@@ -1,32 +1,105 @@
 package com.authentication.auth.diary.repository;
 
+import com.authentication.auth.diary.dto.DiarySummaryDto;
 import com.authentication.auth.domain.Diary;
-import com.authentication.auth.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 일기 조회는 토큰의 uid 클레임(users.id)으로 diary.user_id 를 바로 조건에 사용합니다.
+ * 목록 조회는 응답의 작성자 닉네임을 위해 user 를 같은 쿼리에서 함께 가져옵니다.
+ * 요약 목록(Summary)은 엔티티 대신 DiarySummaryDto 로 필요한 컬럼과 본문 앞부분만 조회합니다.
+ */
 @Repository
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
+
+    String SUMMARY_SELECT = "select new com.authentication.auth.diary.dto.DiarySummaryDto("
+            + "d.id, d.title, d.date, substring(d.content, 1, " + DiarySummaryDto.PREVIEW_LENGTH + "), d.createdAt, d.updatedAt)"
+            + " from Diary d";
+
     Optional<Diary> findByIdAndUserId(Long diaryId, Long userId);
+
+    @EntityGraph(attributePaths = "user")
     Optional<Diary> findByIdAndUser_Id(Long id, Long userId);
 
-    Page<Diary> findByUser(User user, Pageable pageable);
+    // 트랜잭션 밖(분석 실행기)에서 작성자 정보까지 사용하기 위해 함께 조회
+    @EntityGraph(attributePaths = "user")
+    Optional<Diary> findWithUserById(Long id);
+
+    @EntityGraph(attributePaths = "user")
+    Page<Diary> findByUser_Id(Long userId, Pageable pageable);
+
+    // 조건부 GET 용 버전 조회 (본문 없이 일기의 수정 횟수와 일기, 작성자의 수정 시각만 조회)
+    @Query("select d.version as diaryVersion, d.updatedAt as diaryUpdatedAt, u.updatedAt as userUpdatedAt"
+            + " from Diary d join d.user u where d.id = :id and u.id = :userId")
+    Optional<VersionView> findVersionByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 요약 목록 (본문 TEXT 전체와 user 를 읽지 않음)
+    @Query(value = SUMMARY_SELECT + " where d.user.id = :userId",
+            countQuery = "select count(d) from Diary d where d.user.id = :userId")
+    Page<DiarySummaryDto> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + " where d.user.id = :userId and d.date = :date",
+            countQuery = "select count(d) from Diary d where d.user.id = :userId and d.date = :date")
+    Page<DiarySummaryDto> findSummariesByUserIdAndDate(@Param("userId") Long userId,
+                                                       @Param("date") LocalDate date,
+                                                       Pageable pageable);
 
-    // 검색 기능: 제목이나 내용에 검색어 포함
-    Page<Diary> findByUserAndTitleContainingOrUserAndContentContaining(
-            User user1, String titleKeyword,
-            User user2, String contentKeyword,
-            Pageable pageable);
+    @Query(SUMMARY_SELECT + " where d.user.id = :userId and d.id in :ids")
+    List<DiarySummaryDto> findSummariesByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 커서 기반 목록: 첫 페이지 (Slice 반환으로 count 쿼리 없이 size + 1 건만 조회)
+    @EntityGraph(attributePaths = "user")
+    @Query("select d from Diary d where d.user.id = :userId order by d.createdAt desc, d.id desc")
+    Slice<Diary> findFirstSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 기반 목록: 커서 이후 페이지 (idx_diary_user_created_at 범위 조회, 같은 시각은 id 로 구분)
+    @EntityGraph(attributePaths = "user")
+    @Query("select d from Diary d where d.user.id = :userId"
+            + " and (d.createdAt < :createdAt or (d.createdAt = :createdAt and d.id < :id))"
+            + " order by d.createdAt desc, d.id desc")
+    Slice<Diary> findSliceByUserIdAfter(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 검색 엔진 결과의 일기 조회 (작성자 조건 포함)
+    @EntityGraph(attributePaths = "user")
+    List<Diary> findByUser_IdAndIdIn(Long userId, Collection<Long> ids);
 
     // 특정 날짜의 일기 조회
-    Page<Diary> findByUserAndDate(User user, LocalDate date, Pageable pageable);
+    @EntityGraph(attributePaths = "user")
+    Page<Diary> findByUser_IdAndDate(Long userId, LocalDate date, Pageable pageable);
+
+    // 같은 날짜에 남은 일기가 있는지 확인 (달력 비트 제거 여부 판단)
+    boolean existsByUser_IdAndDate(Long userId, LocalDate date);
 
     // 월별 일기 작성 날짜 목록 조회
-    List<LocalDate> findDistinctDatesByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate);
+    @Query("select distinct d.date from Diary d where d.user.id = :userId and d.date between :startDate and :endDate")
+    List<LocalDate> findDistinctDatesByUserIdAndDateBetween(@Param("userId") Long userId,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 일기 응답(DiaryResponseDto)에 영향을 주는 수정 시각 (작성자 닉네임 포함)
+     */
+    interface VersionView {
+        Long getDiaryVersion();
+
+        LocalDateTime getDiaryUpdatedAt();
+
+        LocalDateTime getUserUpdatedAt();
+    }
 }
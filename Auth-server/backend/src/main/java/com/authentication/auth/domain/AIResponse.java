@@ -1,6 +1,8 @@
 package com.authentication.auth.domain;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -17,6 +19,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Document(collection = "ai_responses")
+@CompoundIndexes({
+    @CompoundIndex(name = "idx_diary_created", def = "{'diary_id': 1, 'created_at': -1}"),
+    @CompoundIndex(name = "idx_user_content_hash", def = "{'user_id': 1, 'content_hash': 1, 'status': 1}"),
+    @CompoundIndex(name = "idx_status_updated", def = "{'status': 1, 'updated_at': 1}")
+})
 public class AIResponse {
     
     @Id
@@ -33,6 +40,10 @@ public class AIResponse {
     
     @Field("diary_content")
     private String diaryContent;
+
+    // 분석한 텍스트의 SHA-256 (Diary.contentHashOf), 같은 텍스트의 재분석 생략과 결과 재사용에 사용
+    @Field("content_hash")
+    private String contentHash;
     
     @Field("emotions")
     private List<Emotion> emotions;
@@ -60,7 +71,8 @@ public class AIResponse {
         PENDING,     // 대기중
         PROCESSING,  // 분석중  
         COMPLETED,   // 완료
-        FAILED       // 실패
+        FAILED,      // 실패
+        DEFERRED     // 보류 (AI 서버 과부하로 미룸)
     }
     
     @Data
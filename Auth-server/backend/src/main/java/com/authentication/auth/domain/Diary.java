@@ -1,22 +1,32 @@
 package com.authentication.auth.domain;
 
+import com.authentication.auth.domain.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 
 /**
  * @Date : 2025-06-19
  * @Detail : sort 기능을 위해 user_id, created_at DESC로 인덱스 추가
+ *           날짜별 조회와 달력 비트맵 계산을 위해 user_id, date 인덱스 추가
+ *           INSERT 배치를 위해 ID 를 시간순 53비트 값(TimeSortedId)으로 애플리케이션에서 발급
+ *           AI 재분석 생략과 분석 결과 재사용을 위해 제목 + 본문 SHA-256 (content_hash) 저장
+ *           updated_at 은 초 단위라 같은 초의 수정을 구분하지 못하므로 ETag 에는 수정 횟수(version)를 사용
  */
 @Entity
 @Table(name = "diary", indexes = {
-    @Index(name = "idx_diary_user_created_at", columnList = "user_id, created_at DESC")
+    @Index(name = "idx_diary_user_created_at", columnList = "user_id, created_at DESC"),
+    @Index(name = "idx_diary_user_date", columnList = "user_id, date")
 })
 @Data
 @NoArgsConstructor
@@ -25,7 +35,7 @@ import java.time.LocalDateTime;
 public class Diary {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,6 +60,15 @@ public class Diary {
     @Column(name = "alternative_thought", columnDefinition = "TEXT")
     private String alternativeThought;
 
+    // 제목 + 본문 SHA-256 (저장 시 자동 계산)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 수정할 때마다 1씩 증가 (조건부 GET 의 ETag, 동시 수정 시 낙관적 잠금)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -60,10 +79,28 @@ public class Diary {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        contentHash = contentHashOf(title, content);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        contentHash = contentHashOf(title, content);
+    }
+
+    /**
+     * AI 분석 대상 텍스트의 해시
+     * @param title 제목 (null 이면 빈 문자열)
+     * @param content 본문
+     * @return 분석 서버로 보내는 텍스트(제목 + 빈 줄 + 본문)의 SHA-256 (hex)
+     */
+    public static String contentHashOf(String title, String content) {
+        String text = (title != null ? title : "") + "\n\n" + (content != null ? content : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 }
\ No newline at end of file
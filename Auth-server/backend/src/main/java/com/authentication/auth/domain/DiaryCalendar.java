@@ -0,0 +1,24 @@
+package com.authentication.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 월간 일기 작성일 비트맵
+ * day_mask 의 (일 - 1) 번째 비트가 그 날짜에 일기가 있는지를 나타냅니다. (31비트)
+ * 일기 작성/수정/삭제 시 갱신되며, 달력 화면은 일기 테이블 대신 이 값을 조회합니다.
+ */
+@Entity
+@Table(name = "diary_calendar")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryCalendar {
+    @EmbeddedId
+    private DiaryCalendarId id;
+
+    @Column(name = "day_mask", nullable = false)
+    private Integer dayMask;
+}
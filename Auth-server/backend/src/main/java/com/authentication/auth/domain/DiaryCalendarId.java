@@ -0,0 +1,22 @@
+package com.authentication.auth.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiaryCalendarId implements Serializable {
+    @Column(name = "user_id")
+    private Long userId;
+
+    // yyyyMM (예: 202506)
+    @Column(name = "month_key")
+    private Integer monthKey;
+}
@@ -0,0 +1,18 @@
+package com.authentication.auth.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID 를 애플리케이션에서 발급하는 시간순 53비트 값으로 지정 (IDENTITY 대체)
+ * INSERT 전에 ID 가 정해지므로 hibernate.jdbc.batch_size 설정에 따라 INSERT 가 배치로 실행됩니다.
+ */
+@IdGeneratorType(TimeSortedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeSortedId {
+}
@@ -0,0 +1,42 @@
+package com.authentication.auth.domain.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * {@link TimeSortedId} 의 Hibernate 생성기
+ * 노드 번호는 Hibernate 설정 app.id.node (spring.jpa.properties.app.id.node) 에서 읽습니다.
+ * app.id.node-required 가 true(기본값)인데 노드 번호가 없으면 기동에 실패합니다.
+ */
+public class TimeSortedIdGenerator implements BeforeExecutionGenerator {
+
+    static final String NODE_SETTING = "app.id.node";
+    static final String NODE_REQUIRED_SETTING = "app.id.node-required";
+
+    public TimeSortedIdGenerator(TimeSortedId config, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry().requireService(ConfigurationService.class).getSettings();
+        Object node = settings.get(NODE_SETTING);
+        Object required = settings.get(NODE_REQUIRED_SETTING);
+        TimeSortedIds.configure(
+                node == null || node.toString().isBlank() ? null : Integer.valueOf(node.toString().trim()),
+                required == null || Boolean.parseBoolean(required.toString().trim()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return TimeSortedIds.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
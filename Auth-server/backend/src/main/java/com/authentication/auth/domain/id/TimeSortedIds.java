@@ -0,0 +1,95 @@
+package com.authentication.auth.domain.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.SecureRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 53비트 ID 생성기
+ * [41비트 2025-01-01 기준 밀리초][5비트 노드][7비트 순번] 으로 구성되며,
+ * JavaScript Number 로도 손실 없이 표현되도록 2^53 미만으로 제한합니다.
+ * DB 왕복 없이 ID 를 발급하므로 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있습니다.
+ * 같은 밀리초에 순번(128개)을 모두 쓰거나 시계가 뒤로 가면 마지막 시각을 이어서 사용하여 단조 증가를 유지합니다.
+ */
+@Slf4j
+public final class TimeSortedIds {
+
+    static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static volatile TimeSortedIds shared;
+
+    private final long node;
+    private final LongSupplier clock;
+    private long lastMillis = -1;
+    private long sequence;
+
+    TimeSortedIds(long node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /**
+     * 공용 생성기의 노드 번호 설정 (최초 1회만 적용)
+     * @param node 인스턴스별 노드 번호 (null 이면 임의 값)
+     * @param required 노드 번호 필수 여부 (운영에서는 true, 노드 번호가 없으면 기동 실패)
+     */
+    public static synchronized void configure(Integer node, boolean required) {
+        if (shared != null) {
+            return;
+        }
+        shared = new TimeSortedIds(resolveNode(node, required), System::currentTimeMillis);
+    }
+
+    /**
+     * 노드 번호 결정
+     * 32개 중 임의 값은 인스턴스가 몇 개만 되어도 충돌 확률이 높아 ID 가 중복될 수 있으므로,
+     * 필수인 환경에서는 임의 값으로 대신하지 않고 기동을 실패시킴
+     */
+    static long resolveNode(Integer node, boolean required) {
+        if (node != null) {
+            return node;
+        }
+        if (required) {
+            throw new IllegalStateException("ID 노드 번호(app.id.node, APP_ID_NODE)가 설정되지 않았습니다. 인스턴스마다 0 ~ " + MAX_NODE + " 사이의 서로 다른 값을 지정하세요.");
+        }
+        long resolved = new SecureRandom().nextInt((int) MAX_NODE + 1);
+        log.warn("ID 노드 번호가 설정되지 않아 임의 값({})을 사용합니다. 단일 인스턴스(dev/test)에서만 허용됩니다.", resolved);
+        return resolved;
+    }
+
+    /**
+     * @return 공용 생성기에서 발급한 새 ID
+     */
+    public static long next() {
+        TimeSortedIds generator = shared;
+        if (generator == null) {
+            // Hibernate 생성기를 거치지 않은 경우(단위 테스트 등)에만 도달
+            configure(null, false);
+            generator = shared;
+        }
+        return generator.nextId();
+    }
+
+    synchronized long nextId() {
+        long now = Math.max(clock.getAsLong(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 이번 밀리초의 순번을 모두 사용하면 다음 밀리초를 미리 사용
+                now = lastMillis + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -0,0 +1,13 @@
+package com.authentication.auth.dto.ai;
+
+import java.util.List;
+
+/**
+ * AI 서버 일괄 분석 요청 (/diary/analyze/batch)
+ * @param items 분석할 텍스트 목록 (id 는 응답과 짝을 맞추기 위한 요청 내 식별자)
+ */
+public record AIBatchAnalysisRequest(List<Item> items) {
+
+    public record Item(String id, String text) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.authentication.auth.dto.ai;
+
+import java.util.List;
+
+/**
+ * AI 서버 일괄 분석 응답
+ * @param results 항목별 결과 (실패한 항목은 error 만 포함)
+ */
+public record AIBatchAnalysisResponse(List<Result> results) {
+
+    public record Result(String id, String emotion, String solution, String error) {
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
@@ -47,6 +48,11 @@ public class AIResponseDto {
     
     @JsonProperty("errorMessage")
     private String errorMessage;
+
+    // 분석 요청을 AI 서버 호출 없이 처리한 경우의 사유 (unchanged: 같은 텍스트 분석이 완료/진행 중, reused: 동일 텍스트 결과 재사용)
+    @JsonProperty("skipped")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String skipped;
     
     @Data
     @NoArgsConstructor
@@ -0,0 +1,31 @@
+package com.authentication.auth.dto.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * 조건부 GET (If-None-Match / If-Modified-Since) 판단용 리소스 버전
+ * 본문을 만들지 않고 수정 시각만 조회하여 만들며, WebRequest.checkNotModified 에 그대로 전달합니다.
+ *
+ * @param etag 강한 ETag 값 (따옴표 없이, 표현에 영향을 주는 수정 시각과 상태를 모두 포함)
+ * @param lastModified 마지막 수정 시각 (epoch ms, 알 수 없으면 -1)
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    /**
+     * @param resource 리소스 식별 문자열 (종류, ID, 상태 등)
+     * @param timestamps 표현에 영향을 주는 수정 시각들 (null 은 무시)
+     * @return 시각들을 ETag 에 모두 포함하고 가장 늦은 시각을 Last-Modified 로 사용하는 버전
+     */
+    public static ResourceVersion of(String resource, LocalDateTime... timestamps) {
+        StringBuilder etag = new StringBuilder(resource);
+        long lastModified = -1;
+        for (LocalDateTime timestamp : timestamps) {
+            long millis = Objects.isNull(timestamp) ? 0 : timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            etag.append('-').append(Long.toHexString(millis));
+            lastModified = Math.max(lastModified, Objects.isNull(timestamp) ? -1 : millis);
+        }
+        return new ResourceVersion(etag.toString(), lastModified);
+    }
+}
@@ -66,6 +66,13 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
         return user;
     }
 
+    /**
+     * @return 사용자 PK (토큰으로 만든 인증 객체는 uid 클레임 값, 이전 토큰은 null)
+     */
+    public Long getUid() {
+        return user.getId();
+    }
+
     public String getNickname() {
         return user.getNickname();
     }
@@ -66,6 +66,9 @@ public enum ErrorType {
     FORBIDDEN_ACTION(HttpStatus.FORBIDDEN, "금지된 작업입니다."), // OK
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 리소스를 찾을 수 없습니다."), // OK
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."), // OK
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청에서 먼저 수정되었습니다. 다시 시도해 주세요."),
+    REQUEST_BODY_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다."),
 
     // File specific errors
     EMPTY_FILE(HttpStatus.BAD_REQUEST, "업로드된 파일이 비어있습니다."), // OK
@@ -90,6 +93,7 @@ public enum ErrorType {
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."), // OK
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND, "리프레시 토큰을 찾을 수 없습니다."), // OK
     REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 만료되었습니다."), // OK
+    TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "폐기된 토큰입니다. 다시 로그인해 주세요."),
 
     // OAuth2 specific errors
     OAUTH2_AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "OAuth2 인증에 실패했습니다."), // OK
@@ -120,6 +124,7 @@ public enum ErrorType {
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않거나 만료된 리프레시 토큰입니다."),
     INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "만료된 액세스 토큰에서 사용자 ID를 추출할 수 없습니다."),
     REFRESH_TOKEN_MISMATCH(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 일치하지 않습니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요."),
     TOKEN_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "토큰 생성에 실패했습니다."),
     EMAIL_SEND_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "이메일 발송에 실패했습니다."); // Added from old version
 
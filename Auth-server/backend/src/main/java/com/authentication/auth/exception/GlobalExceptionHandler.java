@@ -4,6 +4,7 @@ import com.authentication.auth.dto.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -78,6 +79,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorType.INVALID_REQUEST_BODY.getHttpStatus()).body(response);
     }
 
+    /**
+     * 낙관적 잠금 충돌 처리 (같은 일기를 동시에 수정한 경우)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("Concurrent modification detected: {}", e.getMessage());
+
+        ApiResponse<Map<String, Object>> response = ApiResponse.error(
+            ErrorType.CONCURRENT_MODIFICATION,
+            Map.of("details", ErrorType.CONCURRENT_MODIFICATION.getMessage())
+        );
+
+        return ResponseEntity.status(ErrorType.CONCURRENT_MODIFICATION.getHttpStatus()).body(response);
+    }
+
     /**
      * IllegalArgumentException 처리
      */
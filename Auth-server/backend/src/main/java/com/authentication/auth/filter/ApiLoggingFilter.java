@@ -42,8 +42,10 @@ public class ApiLoggingFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         // Skip logging for H2 console and Swagger UI to reduce noise
+        // Streaming diary export/import bodies must not be buffered in memory by the caching wrappers
         String path = request.getRequestURI();
-        if (path.startsWith("/h2-console") || path.startsWith("/swagger-ui") || path.startsWith("/v3/api-docs")) {
+        if (path.startsWith("/h2-console") || path.startsWith("/swagger-ui") || path.startsWith("/v3/api-docs")
+                || path.endsWith("/api/diaries/export") || path.endsWith("/api/diaries/import")) {
             filterChain.doFilter(request, response);
             return;
         }
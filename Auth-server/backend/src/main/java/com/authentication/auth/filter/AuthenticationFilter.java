@@ -96,7 +96,7 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             // Successful authentication logic
             SecurityContextHolder.getContext().setAuthentication(authResult);
             PrincipalDetails principal = (PrincipalDetails) authResult.getPrincipal();
-            TokenDto tokenDto = jwtUtility.buildToken(authResult.getName(), authResult.getAuthorities());
+            TokenDto tokenDto = jwtUtility.buildToken(authResult.getName(), principal.getUid(), authResult.getAuthorities());
 
             redisService.saveRToken(
                     principal.getUser().getEmail(),
@@ -1,17 +1,22 @@
 package com.authentication.auth.filter;
 
 import com.authentication.auth.configuration.token.JwtUtility;
+import com.authentication.auth.configuration.token.TokenGenerations;
+import com.authentication.auth.configuration.token.VerifiedClaims;
+import com.authentication.auth.configuration.token.VerifiedTokenCache;
 import com.authentication.auth.dto.response.ApiResponse;
 import com.authentication.auth.exception.ErrorType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -27,15 +32,22 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
 
     private final JwtUtility jwtUtility;
     private final ObjectMapper objectMapper;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenGenerations tokenGenerations;
 
     /**
      * JwtVerificationFilter 생성자
      * @param jwtUtility JWT 토큰 생성 및 검증 유틸리티
      * @param objectMapper JSON 직렬화/역직렬화를 위한 ObjectMapper
+     * @param verifiedTokenCache 검증된 토큰의 인증 정보 캐시
+     * @param tokenGenerations 사용자별 토큰 세대 (폐기 여부 확인)
      */
-    public JwtVerificationFilter(JwtUtility jwtUtility, ObjectMapper objectMapper) {
+    public JwtVerificationFilter(JwtUtility jwtUtility, ObjectMapper objectMapper,
+                                 VerifiedTokenCache verifiedTokenCache, TokenGenerations tokenGenerations) {
         this.jwtUtility = jwtUtility;
         this.objectMapper = objectMapper;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenGenerations = tokenGenerations;
     }
 
     /**
@@ -56,8 +68,8 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         try {
             String token = extractToken(request);
 
-            if (token != null && jwtUtility.validateJWT(token)) {
-                Authentication authentication = jwtUtility.getAuthentication(token);
+            if (token != null) {
+                Authentication authentication = resolveAuthentication(token);
                 if (authentication != null) {
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), request.getRequestURI());
@@ -65,19 +77,18 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
                     log.debug("유효한 JWT 토큰이지만, 인증 정보 생성에 실패했습니다. uri: {}", request.getRequestURI());
                     // Depending on policy, might send an error or allow request to proceed unauthenticated
                 }
-            } else if (token == null) {
+            } else {
                 log.debug("JWT 토큰이 없습니다, uri: {}", request.getRequestURI());
                 // If token is required for the path and is missing, an error might be appropriate.
                 // However, shouldNotFilter should handle public paths. If it reaches here and token is null,
                 // it might be an implicitly protected path or a misconfiguration.
                 // For now, let it proceed, relying on subsequent security mechanisms or endpoint-specific checks.
-            } else { // Token is not null but invalid
-                log.warn("유효하지 않은 JWT 토큰입니다, uri: {}", request.getRequestURI());
-                sendErrorResponse(response, ErrorType.INVALID_TOKEN);
-                return; // Stop processing if token is invalid
             }
 
             filterChain.doFilter(request, response);
+        } catch (RevokedTokenException e) {
+            log.info("폐기된 JWT 토큰입니다, uri: {}: {}", request.getRequestURI(), e.getMessage());
+            sendErrorResponse(response, ErrorType.TOKEN_REVOKED);
         } catch (ExpiredJwtException e) {
             log.warn("만료된 JWT 토큰입니다, uri: {}: {}", request.getRequestURI(), e.getMessage());
             sendErrorResponse(response, ErrorType.TOKEN_EXPIRED);
@@ -91,6 +102,36 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 토큰으로부터 인증 정보 조회
+     * @param token JWT 토큰
+     * @return Authentication 인증 정보 (생성 실패 시 null)
+     * @throws JwtException 서명이 유효하지 않거나 만료된 토큰인 경우
+     * @throws RevokedTokenException 토큰 세대가 사용자의 현재 세대보다 낮은 경우
+     * @Description 검증 캐시에 있으면 서명 검증 없이 반환하고, 없으면 토큰을 검증한 뒤 만료 시각까지 캐시에 저장합니다.
+     *              세대 확인은 메모리 조회만으로 수행되며 캐시 적중 시에도 적용됩니다.
+     */
+    private Authentication resolveAuthentication(String token) {
+        if (token.isBlank()) {
+            throw new MalformedJwtException("JWT 토큰이 비어있습니다");
+        }
+        UsernamePasswordAuthenticationToken cached = verifiedTokenCache.get(token, tokenGenerations);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 서명 검증과 클레임 디코딩은 토큰당 한 번만 수행
+        VerifiedClaims claims = jwtUtility.verifyAccessToken(token);
+        if (tokenGenerations.isRevoked(claims.userId(), claims.generation())) {
+            throw new RevokedTokenException("토큰 세대 " + claims.generation() + " 은(는) 폐기되었습니다");
+        }
+        UsernamePasswordAuthenticationToken authentication = jwtUtility.toAuthentication(claims);
+        if (claims.expiresAt() != null) {
+            verifiedTokenCache.put(token, claims.userId(), claims.generation(), authentication, claims.expiresAt());
+        }
+        return authentication;
+    }
+
     /**
      * 요청에서 JWT 토큰 추출
      * @param request HTTP 요청
@@ -126,4 +167,13 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         objectMapper.writeValue(response.getOutputStream(), 
                                ApiResponse.error(errorType));
     }
+
+    /**
+     * 전체 폐기(세대 변경)로 무효화된 토큰
+     */
+    private static class RevokedTokenException extends JwtException {
+        RevokedTokenException(String message) {
+            super(message);
+        }
+    }
 }
@@ -0,0 +1,222 @@
+package com.authentication.auth.filter;
+
+import com.authentication.auth.configuration.ratelimit.RateLimitProperties;
+import com.authentication.auth.dto.response.ApiResponse;
+import com.authentication.auth.exception.ErrorType;
+import com.authentication.auth.service.ratelimit.RateLimitService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 공개 엔드포인트 요청 제한 필터
+ * 보안 필터 체인보다 먼저 실행되어 DB 조회, BCrypt, SMTP 작업 전에 초과 요청을 429 로 거부합니다.
+ * 규칙별로 클라이언트 IP 또는 JSON 본문 필드(로그인 ID, 이메일)를 키로 사용합니다.
+ * 본문 키 규칙이 걸린 경로에서 본문이 maxBodyBytes 를 넘으면 키를 만들 수 없으므로 규칙을 건너뛰지 않고 413 으로 거부합니다.
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr() 가 실제 클라이언트 IP 를 반환해야 합니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitService rateLimitService, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || properties.rules().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        List<RateLimitProperties.Rule> rules = matchingRules(request);
+        if (rules.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest current = request;
+        JsonNode body = null;
+        if (rules.stream().anyMatch(rule -> rule.key() == RateLimitProperties.KeyType.BODY)) {
+            CachedBodyRequest cached = CachedBodyRequest.wrap(request, properties.maxBodyBytes());
+            if (!cached.isComplete()) {
+                // 공백 등으로 본문을 늘려 본문 키 규칙을 피하지 못하도록 거부
+                log.info("요청 본문 크기 초과: uri={}, 최대={}바이트", request.getRequestURI(), properties.maxBodyBytes());
+                sendError(response, ErrorType.REQUEST_BODY_TOO_LARGE);
+                return;
+            }
+            current = cached;
+            body = readJson(cached.body());
+        }
+
+        for (RateLimitProperties.Rule rule : rules) {
+            String key = resolveKey(rule, request, body);
+            if (key == null) {
+                continue;
+            }
+            long waitMillis = rateLimitService.tryAcquire(rule, key);
+            if (waitMillis > 0) {
+                log.info("요청 제한 초과: 규칙={}, uri={}", rule.name(), request.getRequestURI());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (waitMillis + 999) / 1000)));
+                sendError(response, ErrorType.TOO_MANY_REQUESTS);
+                return;
+            }
+        }
+        filterChain.doFilter(current, response);
+    }
+
+    private List<RateLimitProperties.Rule> matchingRules(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        List<RateLimitProperties.Rule> matched = new ArrayList<>(2);
+        for (RateLimitProperties.Rule rule : properties.rules()) {
+            if (rule.method().equalsIgnoreCase(request.getMethod()) && pathMatcher.match(rule.path(), path)) {
+                matched.add(rule);
+            }
+        }
+        return matched;
+    }
+
+    private static String resolveKey(RateLimitProperties.Rule rule, HttpServletRequest request, JsonNode body) {
+        if (rule.key() == RateLimitProperties.KeyType.IP) {
+            return request.getRemoteAddr();
+        }
+        if (body == null) {
+            return null;
+        }
+        for (String field : rule.fields()) {
+            JsonNode value = body.get(field);
+            if (value != null && value.isTextual() && !value.asText().isBlank()) {
+                return value.asText().trim().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
+    // 본문 형식 오류는 이후 단계에서 처리되므로 여기서는 키만 포기
+    private JsonNode readJson(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node != null && node.isObject() ? node : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void sendError(HttpServletResponse response, ErrorType errorType) throws IOException {
+        response.setStatus(errorType.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(errorType));
+    }
+
+    /**
+     * 본문을 최대 maxBytes 까지 미리 읽어 두고, 이후 단계에는 읽은 본문을 다시 제공하는 요청 래퍼
+     * 본문이 maxBytes 를 넘으면 isComplete() 가 false 이며, 이 경우 요청은 거부되어야 합니다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] cachedBody;
+        private final boolean complete;
+        private final InputStream body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] cachedBody, boolean complete) {
+            super(request);
+            this.cachedBody = cachedBody;
+            this.complete = complete;
+            this.body = new ByteArrayInputStream(cachedBody);
+        }
+
+        static CachedBodyRequest wrap(HttpServletRequest request, int maxBytes) throws IOException {
+            byte[] read = request.getInputStream().readNBytes(maxBytes + 1);
+            return new CachedBodyRequest(request, read, read.length <= maxBytes);
+        }
+
+        byte[] body() {
+            return cachedBody;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = body.read();
+                    finished = b == -1;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = body.read(buffer, offset, length);
+                    finished = n == -1;
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("비동기 읽기는 지원하지 않습니다.");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.authentication.auth.filter;
+
+import com.authentication.auth.service.redis.RedisRoundTrips;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 Redis 왕복 횟수 측정 필터
+ * 보안 필터 체인보다 바깥에서 실행되어 로그인 필터의 Redis 호출까지 집계합니다.
+ * 결과는 redis.roundtrips.per.request 분포로 기록됩니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RedisRoundTripMetricsFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/public/login";
+
+    private final MeterRegistry meterRegistry;
+
+    public RedisRoundTripMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RedisRoundTrips.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int roundTrips = RedisRoundTrips.end();
+            if (roundTrips > 0) {
+                DistributionSummary.builder("redis.roundtrips.per.request")
+                        .description("Redis round-trips made while serving one HTTP request")
+                        .tag("uri", uriTag(request))
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(roundTrips);
+            }
+        }
+    }
+
+    // 태그 카디널리티를 제한하기 위해 매핑된 URI 패턴만 사용 (로그인은 보안 필터에서 처리되어 패턴이 없음)
+    private static String uriTag(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return LOGIN_PATH.equals(request.getRequestURI()) ? LOGIN_PATH : "UNMAPPED";
+    }
+}
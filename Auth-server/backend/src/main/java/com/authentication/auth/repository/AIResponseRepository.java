@@ -6,6 +6,7 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,9 +30,30 @@ public interface AIResponseRepository extends MongoRepository<AIResponse, String
     Optional<AIResponse> findTopByUserIdOrderByCreatedAtDesc(String userId);
     
     /**
-     * 특정 일기 ID로 AI 응답 조회
+     * 특정 일기 ID로 AI 응답 조회 (이전 버전에서 재분석마다 문서가 추가된 경우 최신 문서)
      */
-    Optional<AIResponse> findByDiaryId(Long diaryId);
+    Optional<AIResponse> findFirstByDiaryIdOrderByCreatedAtDesc(Long diaryId);
+
+    /**
+     * 특정 일기 AI 응답의 상태와 시각만 조회 (조건부 GET 버전 확인용)
+     */
+    @Query(fields = "{'status': 1, 'created_at': 1, 'updated_at': 1}")
+    Optional<AIResponse> findFirstVersionByDiaryIdOrderByCreatedAtDesc(Long diaryId);
+
+    /**
+     * 같은 사용자의 동일 텍스트 분석 결과 조회 (재사용)
+     */
+    Optional<AIResponse> findFirstByUserIdAndContentHashAndStatus(String userId, String contentHash, AIResponse.AnalysisStatus status);
+
+    /**
+     * 일정 시각 이후 갱신되지 않은 진행 중 분석 조회 (작업자 장애로 남은 PENDING/PROCESSING 회수)
+     */
+    List<AIResponse> findByStatusInAndUpdatedAtBefore(Collection<AIResponse.AnalysisStatus> statuses, LocalDateTime updatedBefore);
+
+    /**
+     * 여러 일기의 AI 응답 조회 (내보내기 시 배치 단위)
+     */
+    List<AIResponse> findByDiaryIdIn(Collection<Long> diaryIds);
     
     /**
      * 특정 사용자의 응답 개수 조회
@@ -2,8 +2,11 @@ package com.authentication.auth.repository;
 
 import com.authentication.auth.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,6 +24,24 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
 
     boolean existsByEmail(String email);
 
+    /**
+     * 이메일 또는 로그인 ID 가 일치하는 사용자 조회 (두 컬럼 모두 unique 인덱스이므로 최대 2건)
+     */
+    @Query("select u from User u where u.email = :identifier or u.loginId = :identifier")
+    List<User> findAllByEmailOrLoginId(@Param("identifier") String identifier);
+
+    /**
+     * 이메일 또는 로그인 ID 로 한 번의 쿼리로 사용자 조회
+     * 서로 다른 사용자의 이메일과 로그인 ID 가 같은 경우 이메일이 일치하는 사용자를 우선합니다.
+     */
+    default Optional<User> findByEmailOrLoginId(String identifier) {
+        List<User> users = findAllByEmailOrLoginId(identifier);
+        return users.stream()
+                .filter(user -> identifier.equals(user.getEmail()))
+                .findFirst()
+                .or(() -> users.stream().findFirst());
+    }
+
     // For backward compatibility with tests
     default Optional<User> findByUserName(String userName) {
         return findByLoginId(userName);
@@ -1,6 +1,7 @@
 package com.authentication.auth.service;
 
 import com.authentication.auth.dto.AIResponseDto;
+import com.authentication.auth.dto.common.ResourceVersion;
 import com.authentication.auth.dto.diary.DiaryRequestDto;
 import com.authentication.auth.diary.dto.DiaryResponseDto;
 
@@ -14,12 +15,16 @@ public interface DiaryService {
     DiaryResponseDto findDiary(Long diaryId);
     String callAIServer(Long diaryId) throws IOException;
     AIResponseDto getAnalysisByDiaryId(Long diaryId);
+    ResourceVersion getAnalysisVersion(Long diaryId);
     List<AIResponseDto> getAllAIResponses(String userId);
     Optional<AIResponseDto> getAIResponseById(String id);
     List<AIResponseDto> getAIResponsesByDateRange(String userId, String startDate, String endDate);
     AIResponseDto updateAIResponse(String id, AIResponseDto updateDto);
     void deleteAIResponse(String id);
 
-    void requestAnalysis(Long diaryId, String userId);
+    /**
+     * @return 분석 대기열에 등록되었으면 true, 대기열이 가득 차 거부되었으면 false
+     */
+    boolean requestAnalysis(Long diaryId, String userId);
 
 }
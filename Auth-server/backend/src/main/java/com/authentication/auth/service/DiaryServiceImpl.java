@@ -2,17 +2,19 @@ package com.authentication.auth.service;
 
 import com.authentication.auth.domain.AIResponse;
 import com.authentication.auth.dto.AIResponseDto;
+import com.authentication.auth.dto.common.ResourceVersion;
 import com.authentication.auth.dto.diary.DiaryRequestDto;
 import com.authentication.auth.diary.dto.DiaryResponseDto;
 import com.authentication.auth.domain.Diary;
 import com.authentication.auth.diary.repository.DiaryRepository;
 import com.authentication.auth.repository.AIResponseRepository;
+import com.authentication.auth.service.diary.AnalysisDeferredException;
+import com.authentication.auth.service.diary.AnalysisExecutor;
+import com.authentication.auth.service.diary.AnalysisJobQueue;
 import com.authentication.auth.service.diary.DiaryAnalysisService;
 import com.authentication.auth.service.sse.SseService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.scheduling.annotation.Async;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
@@ -36,6 +38,12 @@ public class DiaryServiceImpl implements DiaryService {
   @Autowired
   private SseService sseService;
 
+  @Autowired
+  private AnalysisExecutor analysisExecutor;
+
+  @Autowired
+  private AnalysisJobQueue analysisJobQueue;
+
   @Override
   public void save(String userEmail, DiaryRequestDto diaryRequestDto) {
     // 1. 사용자 조회 (이 부분은 실제 UserRepository 접근이 필요)
@@ -70,11 +78,21 @@ public class DiaryServiceImpl implements DiaryService {
   @Override
   public AIResponseDto getAnalysisByDiaryId(Long diaryId) {
     // diaryId를 사용하여 직접 AI 응답을 조회합니다.
-    return aiResponseRepository.findByDiaryId(diaryId)
+    return aiResponseRepository.findFirstByDiaryIdOrderByCreatedAtDesc(diaryId)
             .map(this::convertToDto)
             .orElse(null);
   }
 
+  @Override
+  public ResourceVersion getAnalysisVersion(Long diaryId) {
+    // 폴링 시 본문(감정, 요약, 코칭) 없이 상태와 시각만 읽어 변경 여부를 판단합니다.
+    return aiResponseRepository.findFirstVersionByDiaryIdOrderByCreatedAtDesc(diaryId)
+            .map(response -> ResourceVersion.of(
+                    "analysis-" + diaryId + "-" + response.getId() + "-" + response.getStatus(),
+                    response.getCreatedAt(), response.getUpdatedAt()))
+            .orElseGet(() -> new ResourceVersion("analysis-" + diaryId + "-none", -1));
+  }
+
   @Override
   public List<AIResponseDto> getAllAIResponses(String userId) {
     // ...existing code...
@@ -106,22 +124,43 @@ public class DiaryServiceImpl implements DiaryService {
 
 
 
-  @Async
-  @Transactional
+  /**
+   * 일기 분석 요청
+   * @Description 작업 큐(Redis Streams)에 추가하여 재시작에도 유실되지 않고 모든 인스턴스가 나누어 처리합니다.
+   *              작업 큐를 사용하지 않거나 Redis 장애로 추가하지 못하면 이 인스턴스의 제한된 분석 실행기에 등록합니다.
+   *              분석 작업은 트랜잭션 없이 실행되어 AI 서버를 기다리는 동안 DB 커넥션을 점유하지 않습니다.
+   */
   @Override
-  public void requestAnalysis(Long diaryId, String userId) {
+  public boolean requestAnalysis(Long diaryId, String userId) {
+    if (analysisJobQueue.isEnabled() && analysisJobQueue.enqueue(diaryId, userId)) {
+      return true;
+    }
+    boolean accepted = analysisExecutor.submit(diaryId,
+        () -> analyze(diaryId, userId),
+        () -> notifyBusy(diaryId, userId));
+    if (!accepted) {
+      notifyBusy(diaryId, userId);
+    }
+    return accepted;
+  }
+
+  private void analyze(Long diaryId, String userId) {
     log.info("비동기 일기 분석 시작 - diaryId: {}, userId: {}", diaryId, userId);
     
     try {
-        Diary diary = diaryRepository.findById(diaryId)
+        Diary diary = diaryRepository.findWithUserById(diaryId)
                 .orElseThrow(() -> new RuntimeException("Diary not found with id: " + diaryId));
 
         // AI 분석 및 저장 (Diary 엔티티를 직접 전달)
         // 이 메소드 내부에서 SSE로 실시간 상태 업데이트가 전송됩니다
-        AIResponseDto analysisResult = diaryAnalysisService.analyzeAndSaveDiary(diary);
+        diaryAnalysisService.analyzeAndSaveDiary(diary);
 
         log.info("비동기 일기 분석 완료 - diaryId: {}, userId: {}", diaryId, userId);
         
+    } catch (AnalysisDeferredException e) {
+        // 분석 문서는 DEFERRED 로 남으며, 다시 요청하면 새로 분석
+        log.info("AI 서버 과부하로 분석을 미뤘습니다 - diaryId: {}, userId: {}", diaryId, userId);
+        notifyBusy(diaryId, userId);
     } catch (Exception e) {
         log.error("비동기 일기 분석 중 오류 발생 - diaryId: {}, userId: {}, 오류: {}", diaryId, userId, e.getMessage(), e);
         
@@ -138,6 +177,19 @@ public class DiaryServiceImpl implements DiaryService {
     }
   }
 
+  // 대기열 포화 또는 대기 시간 초과: 분석 문서는 그대로 두고 재시도만 안내
+  private void notifyBusy(Long diaryId, String userId) {
+    try {
+        sseService.sendEventToUser(userId, "analysis_busy", java.util.Map.of(
+            "diaryId", diaryId,
+            "message", "분석 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.",
+            "timestamp", LocalDateTime.now()
+        ));
+    } catch (Exception sseException) {
+        log.error("SSE 분석 지연 알림 전송 실패: {}", sseException.getMessage());
+    }
+  }
+
   private AIResponseDto convertToDto(AIResponse aiResponse) {
     if (aiResponse == null) {
         return null;
@@ -0,0 +1,233 @@
+package com.authentication.auth.service.ai;
+
+import com.authentication.auth.configuration.diary.AnalysisLimiterProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI 서버 적응형 동시성 제한기 (Gradient 방식)
+ * 응답 시간의 단기 평균과 장기 평균을 비교해, 단기 응답 시간이 늘어나면(AI 서버 대기열이 쌓이면) 동시 요청 수를 줄이고
+ * 응답 시간이 안정적이면 √limit 만큼씩 늘립니다. 시간 초과, 5xx, 429 응답은 과부하로 보고 제한값을 backoffRatio 배로 줄입니다.
+ * 제한에 걸린 요청은 maxWait 까지 기다리며, 그 뒤에도 허용되지 않으면 호출자가 분석을 미룹니다(DEFERRED).
+ * 가상 스레드에서 대기하므로 synchronized 대신 ReentrantLock 을 사용합니다.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double SHORT_ALPHA = 0.3;
+    private static final double LONG_ALPHA = 0.05;
+    // 단기 응답 시간이 장기 평균의 1.5배까지는 정상 변동으로 보고 제한값을 줄이지 않음
+    private static final double TOLERANCE = 1.5;
+    private static final Permit NOOP = new Permit(null, 0);
+
+    private final AnalysisLimiterProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final LongAdder deferred = new LongAdder();
+
+    private double limit;
+    private int inFlight;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(AnalysisLimiterProperties properties) {
+        this.properties = properties;
+        this.limit = clamp(properties.initialLimit());
+    }
+
+    /**
+     * 요청 허용 대기
+     * @return 허용되면 결과를 기록할 Permit, maxWait 안에 허용되지 않거나 대기 중 중단되면 null
+     */
+    public Permit acquire() {
+        if (!properties.enabled()) {
+            return NOOP;
+        }
+        long remaining = properties.maxWait().toNanos();
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    deferred.increment();
+                    log.debug("AI 서버 동시 요청 제한 대기 시간 초과. limit={}, inFlight={}", (int) limit, inFlight);
+                    return null;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return new Permit(this, inFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("diary.analysis.limiter.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit toward the AI server")
+                .register(registry);
+        Gauge.builder("diary.analysis.limiter.inflight", this, AdaptiveConcurrencyLimiter::inFlight)
+                .description("AI server calls holding a limiter permit")
+                .register(registry);
+        Gauge.builder("diary.analysis.limiter.latency.short", this, limiter -> limiter.rttMillis(true))
+                .description("Short-term average AI server latency")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("diary.analysis.limiter.latency.long", this, limiter -> limiter.rttMillis(false))
+                .description("Long-term average AI server latency")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("diary.analysis.limiter.deferred", deferred, LongAdder::sum)
+                .description("Analyses deferred because no permit was granted within max wait")
+                .register(registry);
+    }
+
+    private double rttMillis(boolean shortTerm) {
+        lock.lock();
+        try {
+            return (shortTerm ? shortRttNanos : longRttNanos) / 1_000_000.0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSample(long rttNanos, int inFlightAtStart) {
+        lock.lock();
+        try {
+            if (longRttNanos == 0) {
+                shortRttNanos = rttNanos;
+                longRttNanos = rttNanos;
+            } else {
+                shortRttNanos += (rttNanos - shortRttNanos) * SHORT_ALPHA;
+                longRttNanos += (rttNanos - longRttNanos) * LONG_ALPHA;
+                // 부하가 줄어 응답이 계속 빠르면 장기 평균도 빨리 따라가도록 보정
+                if (longRttNanos > shortRttNanos * 2) {
+                    longRttNanos *= 0.95;
+                }
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+            // 제한값의 절반도 사용하지 않는 상태에서는 늘리지 않음 (부하 없이 제한값만 커지는 것 방지)
+            double growth = inFlightAtStart >= limit / 2 ? Math.sqrt(limit) : 0;
+            double target = limit * gradient + growth;
+            update(limit * (1 - properties.smoothing()) + target * properties.smoothing());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onOverload() {
+        lock.lock();
+        try {
+            update(limit * properties.backoffRatio());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 을 잡은 상태에서 호출
+    private void update(double newLimit) {
+        int before = (int) limit;
+        limit = clamp(newLimit);
+        if ((int) limit != before) {
+            log.debug("AI 서버 동시 요청 제한 변경: {} -> {} (short={}ms, long={}ms)",
+                    before, (int) limit, (long) (shortRttNanos / 1_000_000), (long) (longRttNanos / 1_000_000));
+            released.signalAll();
+        }
+    }
+
+    private double clamp(double value) {
+        int min = Math.max(1, properties.minLimit());
+        return Math.max(min, Math.min(Math.max(min, properties.maxLimit()), value));
+    }
+
+    /**
+     * 허용된 요청 한 건
+     * 요청이 끝나면 결과에 맞는 메서드를 정확히 한 번 호출해야 하며, 두 번째 호출부터는 무시됩니다.
+     */
+    public static final class Permit {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final int inFlightAtStart;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Permit(AdaptiveConcurrencyLimiter limiter, int inFlightAtStart) {
+            this.limiter = limiter;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 정상 응답 (응답 시간을 제한값 계산에 반영)
+         */
+        public void onSuccess() {
+            if (finish()) {
+                limiter.onSample(System.nanoTime() - startedAt, inFlightAtStart);
+            }
+        }
+
+        /**
+         * 시간 초과, 과부하 응답 (제한값 감소)
+         */
+        public void onDropped() {
+            if (finish()) {
+                limiter.onOverload();
+            }
+        }
+
+        /**
+         * AI 서버 부하와 무관한 실패 (제한값 유지)
+         */
+        public void onIgnore() {
+            finish();
+        }
+
+        private boolean finish() {
+            if (limiter == null || !done.compareAndSet(false, true)) {
+                return false;
+            }
+            limiter.release();
+            return true;
+        }
+    }
+}
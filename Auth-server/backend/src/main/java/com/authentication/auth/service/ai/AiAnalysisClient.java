@@ -0,0 +1,91 @@
+package com.authentication.auth.service.ai;
+
+import com.authentication.auth.configuration.diary.AnalysisBatchProperties;
+import com.authentication.auth.dto.DiaryAnalysisRequestDto;
+import com.authentication.auth.dto.ai.AIAnalysisResponse;
+import com.authentication.auth.dto.ai.AIBatchAnalysisRequest;
+import com.authentication.auth.dto.ai.AIBatchAnalysisResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI 서버 분석 클라이언트
+ * 공유 연결 풀의 aiWebClient 로 요청하고 Resilience4j aiService 정책(벌크헤드, 서킷 브레이커, 시간 제한)을 적용한 Mono 를 반환합니다.
+ * 시간 제한이 가장 안쪽에 있어 시간 초과도 서킷 브레이커 실패로 기록되고, 서킷이 열려 있거나 벌크헤드가 가득 차면 요청을 보내지 않습니다.
+ */
+@Slf4j
+@Component
+public class AiAnalysisClient {
+
+    static final String INSTANCE = "aiService";
+    static final String BATCH_TIME_LIMITER = "aiServiceBatch";
+
+    private final WebClient aiWebClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final TimeLimiter batchTimeLimiter;
+
+    public AiAnalysisClient(@Qualifier("aiWebClient") WebClient aiWebClient,
+                            CircuitBreakerRegistry circuitBreakerRegistry,
+                            BulkheadRegistry bulkheadRegistry,
+                            TimeLimiterRegistry timeLimiterRegistry,
+                            AnalysisBatchProperties batchProperties) {
+        this.aiWebClient = aiWebClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(INSTANCE);
+        // 일괄 요청은 항목 수만큼 오래 걸리므로 diary.analysis.batch.timeout 을 제한 시간으로 사용
+        this.batchTimeLimiter = timeLimiterRegistry.timeLimiter(BATCH_TIME_LIMITER,
+                TimeLimiterConfig.custom().timeoutDuration(batchProperties.timeout()).build());
+    }
+
+    /**
+     * 일기 한 건 분석 (/diary/analyze)
+     * @param text 제목 + 본문
+     * @return 감정과 해결책 (형식이 잘못된 응답은 오류)
+     */
+    public Mono<AIAnalysisResponse> analyze(String text) {
+        return aiWebClient.post()
+                .uri("/diary/analyze")
+                .bodyValue(DiaryAnalysisRequestDto.builder().text(text).build())
+                .retrieve()
+                .bodyToMono(AIAnalysisResponse.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI 서버 응답이 비어 있습니다.")))
+                .flatMap(response -> response.getEmotion() == null || response.getSolution() == null
+                        ? Mono.error(new IllegalStateException("AI 서버로부터 유효하지 않은 형식의 응답을 받았습니다."))
+                        : Mono.just(response))
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    /**
+     * 여러 일기 일괄 분석 (/diary/analyze/batch)
+     * @param request 항목 목록
+     * @return 항목별 결과 (항목 단위 실패는 결과의 error 로 전달되며 서킷 브레이커 실패로 기록하지 않음)
+     */
+    public Mono<AIBatchAnalysisResponse> analyzeBatch(AIBatchAnalysisRequest request) {
+        return aiWebClient.post()
+                .uri("/diary/analyze/batch")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(AIBatchAnalysisResponse.class)
+                .transformDeferred(TimeLimiterOperator.of(batchTimeLimiter))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+}
@@ -0,0 +1,133 @@
+package com.authentication.auth.service.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 최대 항목 수와 항목별 만료 시각을 가진 로컬 캐시용 맵
+ * 가득 찬 상태에서 저장하면 만료 항목을 먼저 제거하고, 그래도 가득 차 있으면 임의 항목을 제거하여 10% 여유 공간을 확보합니다.
+ * 만료된 항목은 조회 시 제거되며 없는 것으로 처리합니다.
+ *
+ * @param <K> 키
+ * @param <V> 만료 시각을 가진 값
+ */
+public final class BoundedTtlMap<K, V extends BoundedTtlMap.Expiring> {
+
+    /**
+     * 만료 시각을 가진 값 (record 의 expiresAtMillis 컴포넌트로 구현)
+     */
+    public interface Expiring {
+
+        long expiresAtMillis();
+
+        default boolean isExpired(long now) {
+            return now >= expiresAtMillis();
+        }
+    }
+
+    private final ConcurrentHashMap<K, V> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    // 만료 또는 용량 초과로 이 맵이 직접 제거한 항목 수
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlMap(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * @param key 키
+     * @param now 현재 시각 (ms)
+     * @return 만료되지 않은 값 (없거나 만료되었으면 null)
+     */
+    public V get(K key, long now) {
+        V value = entries.get(key);
+        if (value != null && value.isExpired(now)) {
+            if (entries.remove(key, value)) {
+                evictions.increment();
+            }
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * 값 저장 (가득 차 있으면 먼저 공간 확보)
+     * @param key 키
+     * @param value 값
+     * @param now 현재 시각 (ms)
+     */
+    public void put(K key, V value, long now) {
+        if (entries.size() >= maxEntries) {
+            trim(now);
+        }
+        entries.put(key, value);
+    }
+
+    /**
+     * @return 제거했으면 true
+     */
+    public boolean remove(K key) {
+        return entries.remove(key) != null;
+    }
+
+    /**
+     * 값이 같을 때만 제거 (그 사이 다른 값으로 바뀌었으면 유지)
+     * @return 제거했으면 true
+     */
+    public boolean remove(K key, V value) {
+        return entries.remove(key, value);
+    }
+
+    /**
+     * @param filter 제거할 값 조건
+     * @return 제거한 항목 수
+     */
+    public int removeIf(Predicate<? super V> filter) {
+        int[] removed = {0};
+        entries.values().removeIf(value -> {
+            boolean matched = filter.test(value);
+            if (matched) {
+                removed[0]++;
+            }
+            return matched;
+        });
+        return removed[0];
+    }
+
+    /**
+     * @return 제거한 항목 수
+     */
+    public int clear() {
+        int size = entries.size();
+        entries.clear();
+        return size;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return 만료 또는 용량 초과로 제거한 누적 항목 수 (remove/removeIf/clear 로 제거한 항목은 제외)
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private synchronized void trim(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        evictions.add(removeIf(value -> value.isExpired(now)));
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<K> iterator = new ArrayList<>(entries.keySet()).iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            if (entries.remove(iterator.next()) != null) {
+                evictions.increment();
+            }
+        }
+    }
+}
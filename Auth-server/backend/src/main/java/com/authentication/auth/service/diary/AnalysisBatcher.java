@@ -0,0 +1,194 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisBatchProperties;
+import com.authentication.auth.dto.ai.AIAnalysisResponse;
+import com.authentication.auth.dto.ai.AIBatchAnalysisRequest;
+import com.authentication.auth.dto.ai.AIBatchAnalysisResponse;
+import com.authentication.auth.service.ai.AiAnalysisClient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 서버 일괄 분석기
+ * 분석 작업자들이 동시에 요청한 텍스트를 최대 maxSize 개 또는 linger 시간까지 모아 /diary/analyze/batch 로 한 번에 보내고,
+ * 항목별 결과를 각 요청자에게 돌려줍니다. 일부 항목만 실패한 경우 해당 요청자만 예외를 받습니다.
+ */
+@Slf4j
+@Component
+public class AnalysisBatcher implements MeterBinder {
+
+    private final AnalysisBatchProperties properties;
+    private final AiAnalysisClient aiAnalysisClient;
+    private final BlockingQueue<Pending> pending = new LinkedBlockingQueue<>();
+    private final AtomicReference<DistributionSummary> batchSizes = new AtomicReference<>();
+    private final LongAdder failedItems = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AnalysisBatcher(AnalysisBatchProperties properties, AiAnalysisClient aiAnalysisClient) {
+        this.properties = properties;
+        this.aiAnalysisClient = aiAnalysisClient;
+    }
+
+    record Pending(String text, CompletableFuture<AIAnalysisResponse> result) {
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("analysis-batcher").daemon(true).start(this::flushLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+        List<Pending> remaining = new ArrayList<>();
+        pending.drainTo(remaining);
+        remaining.forEach(item -> item.result().completeExceptionally(
+                new IllegalStateException("서버 종료로 분석 요청이 취소되었습니다.")));
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 텍스트 분석 (다른 요청과 함께 일괄 전송될 때까지 대기)
+     * @param text 분석할 텍스트 (제목 + 본문)
+     * @return 감정과 해결책
+     * @throws RuntimeException 일괄 요청 실패, 항목 실패, 응답 시간 초과
+     */
+    public AIAnalysisResponse analyze(String text) {
+        CompletableFuture<AIAnalysisResponse> result = new CompletableFuture<>();
+        pending.add(new Pending(text, result));
+        long waitMillis = properties.timeout().plus(properties.linger()).toMillis() + 1000;
+        try {
+            return result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause() != null ? e.getCause().getMessage() : e.getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("AI 서버 일괄 분석 응답 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 분석 대기 중 중단되었습니다.");
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        batchSizes.set(DistributionSummary.builder("diary.analysis.batch.size")
+                .description("Diaries sent per AI server batch request")
+                .register(registry));
+        FunctionCounter.builder("diary.analysis.batch.failed.items", failedItems, LongAdder::sum)
+                .description("Batch items that returned an error")
+                .register(registry);
+    }
+
+    // 첫 요청이 들어오면 maxSize 가 차거나 linger 가 지날 때까지 모은 뒤 전송 (전송은 비동기, 응답을 기다리지 않음)
+    private void flushLoop() {
+        int maxSize = Math.max(1, properties.maxSize());
+        long lingerNanos = properties.linger().toNanos();
+        while (running) {
+            try {
+                Pending first = pending.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Pending> batch = new ArrayList<>(maxSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("일괄 분석 전송 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    void send(List<Pending> batch) {
+        DistributionSummary sizes = batchSizes.get();
+        if (sizes != null) {
+            sizes.record(batch.size());
+        }
+        List<AIBatchAnalysisRequest.Item> items = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            items.add(new AIBatchAnalysisRequest.Item(String.valueOf(i), batch.get(i).text()));
+        }
+        log.debug("AI 서버 일괄 분석 요청: {}건", batch.size());
+        aiAnalysisClient.analyzeBatch(new AIBatchAnalysisRequest(items))
+                // 완료 콜백은 정상 응답 뒤에도 실행되므로 사용하지 않고, 빈 응답만 전체 실패로 처리
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI 서버 일괄 응답이 비어 있습니다.")))
+                .subscribe(response -> fanOut(batch, response), error -> failAll(batch, error));
+    }
+
+    void fanOut(List<Pending> batch, AIBatchAnalysisResponse response) {
+        Map<String, AIBatchAnalysisResponse.Result> byId = new HashMap<>();
+        if (response != null && response.results() != null) {
+            for (AIBatchAnalysisResponse.Result result : response.results()) {
+                if (result != null && result.id() != null) {
+                    byId.put(result.id(), result);
+                }
+            }
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<AIAnalysisResponse> future = batch.get(i).result();
+            AIBatchAnalysisResponse.Result result = byId.get(String.valueOf(i));
+            if (result == null || result.error() != null || result.emotion() == null || result.solution() == null) {
+                failedItems.increment();
+            }
+            if (result == null) {
+                future.completeExceptionally(new IllegalStateException("AI 서버 일괄 응답에 결과가 없습니다."));
+            } else if (result.error() != null) {
+                future.completeExceptionally(new IllegalStateException("AI 서버 분석 실패: " + result.error()));
+            } else if (result.emotion() == null || result.solution() == null) {
+                future.completeExceptionally(new IllegalStateException("AI 서버로부터 유효하지 않은 형식의 응답을 받았습니다."));
+            } else {
+                future.complete(new AIAnalysisResponse(result.emotion(), result.solution()));
+            }
+        }
+    }
+
+    private void failAll(List<Pending> batch, Throwable error) {
+        log.error("AI 서버 일괄 분석 호출 실패: {}건, 원인={}", batch.size(), error.getMessage());
+        failedItems.add(batch.size());
+        RuntimeException cause = new RuntimeException("AI 서버 호출에 실패했습니다.", error);
+        batch.forEach(item -> item.result().completeExceptionally(cause));
+    }
+}
@@ -0,0 +1,11 @@
+package com.authentication.auth.service.diary;
+
+/**
+ * AI 서버 동시 요청 제한으로 분석을 미뤘을 때 발생 (분석 문서는 DEFERRED 상태로 남고 작업 큐가 나중에 다시 실행)
+ */
+public class AnalysisDeferredException extends RuntimeException {
+
+    public AnalysisDeferredException(String message) {
+        super(message);
+    }
+}
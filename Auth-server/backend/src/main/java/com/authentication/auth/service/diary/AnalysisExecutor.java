@@ -0,0 +1,156 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisExecutorProperties;
+import com.authentication.auth.configuration.diary.AnalysisLimiterProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 분석 실행기
+ * 기본 @Async 실행기 대신 작업 스레드 수(= AI 서버 동시 요청 수)와 대기열 길이가 제한된 전용 실행기에서 분석을 실행합니다.
+ * 대기열이 가득 차면 요청을 거부하고, 대기 시간이 maxQueueWait 를 넘은 작업은 실행하지 않고 만료 처리합니다.
+ * 두 경우 모두 호출자가 사용자에게 재시도를 안내합니다.
+ * 적응형 동시성 제한을 사용하면 작업 스레드 수를 limiter.max-limit 으로 두어, AI 서버 동시 요청 수는 제한기만 결정합니다.
+ */
+@Slf4j
+@Component
+public class AnalysisExecutor implements MeterBinder {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+    private final AtomicReference<Timer> queueWait = new AtomicReference<>();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final int workers;
+
+    public AnalysisExecutor(AnalysisExecutorProperties properties, AnalysisLimiterProperties limiterProperties) {
+        int concurrency = workerCount(properties, limiterProperties);
+        this.workers = concurrency;
+        ThreadFactory threadFactory = properties.virtualThreads()
+                ? Thread.ofVirtual().name("analysis-", 1).factory()
+                : Thread.ofPlatform().name("analysis-", 1).daemon(true).factory();
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.maxQueueWaitNanos = properties.maxQueueWait().toNanos();
+    }
+
+    /**
+     * 분석 작업 등록
+     * @param diaryId 일기 ID (로그용)
+     * @param task 분석 작업
+     * @param onExpired 대기 시간이 초과되어 실행하지 않은 경우 호출
+     * @return 대기열에 등록되었으면 true, 대기열이 가득 차 거부되었으면 false
+     */
+    public boolean submit(Long diaryId, Runnable task, Runnable onExpired) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(diaryId, task, onExpired, enqueuedAt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("분석 대기열이 가득 차 요청을 거부합니다. diaryId: {}, 대기: {}", diaryId, executor.getQueue().size());
+            return false;
+        }
+    }
+
+    // 고정 작업 스레드 수가 제한기보다 작으면 제한값이 그 이상 늘어날 수 없으므로 제한기의 상한에 맞춤
+    // (허용을 기다리는 작업도 스레드를 점유하므로 상한까지 스레드를 두고, 대기열 길이만 제한)
+    static int workerCount(AnalysisExecutorProperties properties, AnalysisLimiterProperties limiterProperties) {
+        if (limiterProperties != null && limiterProperties.enabled()) {
+            return Math.max(1, limiterProperties.maxLimit());
+        }
+        return Math.max(1, properties.maxConcurrency());
+    }
+
+    /**
+     * @return 작업 스레드 수
+     */
+    public int workers() {
+        return workers;
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return 거부 없이 더 등록할 수 있는 작업 수
+     */
+    public int remainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("diary.analysis.queue.depth", executor, e -> e.getQueue().size())
+                .description("Analysis tasks waiting for a worker")
+                .register(registry);
+        Gauge.builder("diary.analysis.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Analysis tasks running against the AI server")
+                .register(registry);
+        FunctionCounter.builder("diary.analysis.dropped", rejected, LongAdder::sum)
+                .tag("reason", "queue_full")
+                .description("Analysis tasks not executed")
+                .register(registry);
+        FunctionCounter.builder("diary.analysis.dropped", expired, LongAdder::sum)
+                .tag("reason", "expired")
+                .description("Analysis tasks not executed")
+                .register(registry);
+        queueWait.set(Timer.builder("diary.analysis.queue.wait")
+                .description("Time analysis tasks spent in the queue")
+                .register(registry));
+    }
+
+    // 진행 중인 분석은 AI 서버 응답 제한 시간 안에 끝나므로 그만큼만 기다림
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("종료 시 실행되지 않은 분석 작업: {}", executor.shutdownNow().size());
+        }
+    }
+
+    private void run(Long diaryId, Runnable task, Runnable onExpired, long enqueuedAt) {
+        long waited = System.nanoTime() - enqueuedAt;
+        Timer timer = queueWait.get();
+        if (timer != null) {
+            timer.record(Duration.ofNanos(waited));
+        }
+        if (waited > maxQueueWaitNanos) {
+            expired.increment();
+            log.warn("분석 대기 시간 초과로 실행하지 않습니다. diaryId: {}, 대기: {}ms", diaryId, waited / 1_000_000);
+            runQuietly(diaryId, onExpired);
+            return;
+        }
+        runQuietly(diaryId, task);
+    }
+
+    private static void runQuietly(Long diaryId, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            log.error("분석 작업 중 오류 발생 - diaryId: {}: {}", diaryId, e.getMessage(), e);
+        }
+    }
+}
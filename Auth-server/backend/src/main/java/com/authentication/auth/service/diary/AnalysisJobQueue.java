@@ -0,0 +1,315 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisJobProperties;
+import com.authentication.auth.service.redis.RedisRoundTrips;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * AI 분석 작업 큐 (Redis Streams)
+ * 일기 저장 시 작업을 스트림(AI_ANALYSIS_JOBS)에 추가하고, 모든 인스턴스가 같은 소비자 그룹으로 나누어 가져갑니다.
+ * 완료 확인(ACK)하지 않은 작업은 visibilityTimeout 뒤 다른 작업자가 회수하며,
+ * 실패한 작업은 지수 백오프로 재시도 집합(ZSET)에 두었다가 다시 추가하고, maxAttempts 를 넘으면 dead-letter 스트림으로 옮깁니다.
+ */
+@Slf4j
+@Component
+public class AnalysisJobQueue {
+
+    static final String STREAM_KEY = "AI_ANALYSIS_JOBS";
+    static final String DEAD_LETTER_KEY = "AI_ANALYSIS_DLQ";
+    static final String RETRY_KEY = "AI_ANALYSIS_RETRY";
+    static final String GROUP = "analysis-workers";
+    private static final String QUEUED_KEY_PREFIX = "AI_ANALYSIS_QUEUED:";
+    private static final long DEAD_LETTER_MAX_LENGTH = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final AnalysisJobProperties properties;
+    private final String consumerName;
+
+    public AnalysisJobQueue(StringRedisTemplate redisTemplate, AnalysisJobProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        // 재시작 후에도 같은 이름을 쓰도록 호스트 이름 우선 (컨테이너 환경의 HOSTNAME)
+        String hostname = System.getenv("HOSTNAME");
+        this.consumerName = hostname != null && !hostname.isBlank()
+                ? hostname
+                : "worker-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 분석 작업
+     * @param id 스트림 레코드 ID
+     * @param diaryId 일기 ID
+     * @param userId 알림을 받을 사용자 (로그인 ID)
+     * @param attempt 이전 시도 횟수 (처음이면 0)
+     */
+    public record Job(RecordId id, Long diaryId, String userId, int attempt) {
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 분석 작업 추가
+     * @param diaryId 일기 ID
+     * @param userId 사용자 로그인 ID
+     * @return 큐에 추가되었거나 이미 대기 중이면 true, Redis 장애로 추가하지 못했으면 false
+     * @Description 같은 일기의 작업이 아직 처리되지 않았으면 새로 추가하지 않습니다. (작업자는 항상 최신 일기를 분석)
+     */
+    public boolean enqueue(Long diaryId, String userId) {
+        boolean marked = false;
+        try {
+            RedisRoundTrips.record();
+            Boolean first = redisTemplate.opsForValue()
+                    .setIfAbsent(QUEUED_KEY_PREFIX + diaryId, "1", properties.visibilityTimeout());
+            if (Boolean.FALSE.equals(first)) {
+                log.debug("이미 대기 중인 분석 작업이 있습니다. diaryId: {}", diaryId);
+                return true;
+            }
+            marked = true;
+            add(diaryId, userId, 0);
+            return true;
+        } catch (Exception e) {
+            log.warn("분석 작업 추가 실패: diaryId={}, 원인={}", diaryId, e.getMessage());
+            // 작업 없이 대기 표시만 남으면 이후 수정이 모두 '이미 대기 중'으로 생략되므로 제거
+            if (marked) {
+                clearQueued(diaryId);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 소비자 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+     */
+    public void ensureGroup() {
+        try {
+            RedisRoundTrips.record();
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+            log.info("분석 작업 소비자 그룹 생성: {}", GROUP);
+        } catch (Exception e) {
+            if (!String.valueOf(e.getMessage()).contains("BUSYGROUP")
+                    && (e.getCause() == null || !String.valueOf(e.getCause().getMessage()).contains("BUSYGROUP"))) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 새 작업 가져오기
+     * @param count 최대 작업 수
+     * @return 이 작업자에게 배정된 작업 (ACK 전까지 다른 작업자에게 배정되지 않음)
+     */
+    public List<Job> read(int count) {
+        RedisRoundTrips.record();
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(count).block(properties.pollTimeout()),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+        return toJobs(records);
+    }
+
+    /**
+     * visibilityTimeout 동안 완료 확인이 없는 작업 회수
+     * @param count 최대 확인 수
+     * @return 이 작업자가 가져온 작업 (시도 횟수가 초과된 작업은 dead-letter 로 옮기고 제외)
+     */
+    public List<Job> reclaim(int count) {
+        RedisRoundTrips.record();
+        List<RecordId> stale = new ArrayList<>();
+        Map<RecordId, Long> deliveries = new HashMap<>();
+        for (PendingMessage pending : redisTemplate.opsForStream()
+                .pending(STREAM_KEY, GROUP, Range.unbounded(), count)) {
+            if (pending.getElapsedTimeSinceLastDelivery().compareTo(properties.visibilityTimeout()) >= 0) {
+                stale.add(pending.getId());
+                deliveries.put(pending.getId(), pending.getTotalDeliveryCount());
+            }
+        }
+        if (stale.isEmpty()) {
+            return List.of();
+        }
+        RedisRoundTrips.record();
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(STREAM_KEY, GROUP,
+                consumerName, XClaimOptions.minIdle(properties.visibilityTimeout()).ids(stale.toArray(RecordId[]::new)));
+        List<Job> jobs = new ArrayList<>();
+        for (Job job : toJobs(claimed)) {
+            // 처리 중 작업자가 종료된 경우도 한 번의 시도로 계산
+            // 레코드의 attempt 는 재추가 전까지 바뀌지 않으므로 Redis 가 기록한 전달 횟수(XPENDING)를 더함
+            // (같은 레코드가 작업자를 반복해서 종료시켜도 maxAttempts 에서 dead-letter 로 옮겨짐)
+            int delivered = (int) Math.min(Math.max(1, deliveries.getOrDefault(job.id(), 1L)), properties.maxAttempts());
+            Job counted = new Job(job.id(), job.diaryId(), job.userId(), job.attempt() + delivered);
+            if (counted.attempt() >= properties.maxAttempts()) {
+                deadLetter(counted, "처리 중 작업자가 응답하지 않았습니다.");
+            } else {
+                jobs.add(counted);
+            }
+        }
+        if (!jobs.isEmpty()) {
+            log.info("완료되지 않은 분석 작업 {}건을 회수했습니다.", jobs.size());
+        }
+        return jobs;
+    }
+
+    /**
+     * 작업 처리 시작 표시 (이후 같은 일기의 수정은 새 작업으로 추가됨)
+     */
+    public void markStarted(Job job) {
+        clearQueued(job.diaryId());
+    }
+
+    /**
+     * 작업 완료 (ACK 후 스트림에서 삭제)
+     */
+    public void complete(Job job) {
+        RedisRoundTrips.record();
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, job.id());
+        RedisRoundTrips.record();
+        redisTemplate.opsForStream().delete(STREAM_KEY, job.id());
+    }
+
+    /**
+     * 작업 실패 처리
+     * @param job 실패한 작업
+     * @param error 실패 원인
+     * @return 재시도 예정이면 true, dead-letter 로 옮겼으면 false
+     */
+    public boolean fail(Job job, String error) {
+        int attempt = job.attempt() + 1;
+        boolean retry = attempt < properties.maxAttempts();
+        if (retry) {
+            long dueAt = System.currentTimeMillis() + backoff(attempt).toMillis();
+            RedisRoundTrips.record();
+            redisTemplate.opsForZSet().add(RETRY_KEY, retryMember(attempt, job.diaryId(), job.userId()), dueAt);
+            log.info("분석 작업 재시도 예약: diaryId={}, 시도={}, 대기={}", job.diaryId(), attempt, backoff(attempt));
+        } else {
+            deadLetter(new Job(job.id(), job.diaryId(), job.userId(), attempt), error);
+        }
+        complete(job);
+        return retry;
+    }
+
+    /**
+     * AI 서버 또는 분석 실행기 과부하로 미룬 작업을 retryBackoff 뒤에 다시 실행하도록 예약
+     * @param job 미룬 작업
+     * @Description 실패가 아니므로 시도 횟수를 늘리지 않습니다. 작업은 ACK 되어 회수 대상에서 빠집니다.
+     */
+    public void defer(Job job) {
+        long dueAt = System.currentTimeMillis() + properties.retryBackoff().toMillis();
+        RedisRoundTrips.record();
+        redisTemplate.opsForZSet().add(RETRY_KEY, retryMember(job.attempt(), job.diaryId(), job.userId()), dueAt);
+        log.info("분석 작업 보류: diaryId={}, 대기={}", job.diaryId(), properties.retryBackoff());
+        complete(job);
+    }
+
+    /**
+     * 재시도 시각이 된 작업을 스트림에 다시 추가
+     * @param count 최대 이동 수
+     * @return 이동한 작업 수
+     * @Description ZREM 에 성공한 인스턴스만 추가하므로 여러 인스턴스가 동시에 실행해도 한 번만 추가됩니다.
+     */
+    public int promoteDueRetries(int count) {
+        RedisRoundTrips.record();
+        Set<String> due = redisTemplate.opsForZSet()
+                .rangeByScore(RETRY_KEY, 0, System.currentTimeMillis(), 0, count);
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+        int promoted = 0;
+        for (String member : due) {
+            RedisRoundTrips.record();
+            Long removed = redisTemplate.opsForZSet().remove(RETRY_KEY, member);
+            if (removed == null || removed == 0) {
+                continue;
+            }
+            String[] parts = member.split(":", 3);
+            add(Long.parseLong(parts[1]), parts[2], Integer.parseInt(parts[0]));
+            promoted++;
+        }
+        return promoted;
+    }
+
+    Duration backoff(int attempt) {
+        long multiplier = 1L << Math.min(attempt - 1, 20);
+        Duration delay = properties.retryBackoff().multipliedBy(multiplier);
+        return delay.compareTo(properties.maxRetryBackoff()) > 0 ? properties.maxRetryBackoff() : delay;
+    }
+
+    static String retryMember(int attempt, Long diaryId, String userId) {
+        return attempt + ":" + diaryId + ":" + userId;
+    }
+
+    private void add(Long diaryId, String userId, int attempt) {
+        RedisRoundTrips.record();
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of("diaryId", String.valueOf(diaryId),
+                        "userId", userId,
+                        "attempt", String.valueOf(attempt))));
+    }
+
+    private void clearQueued(Long diaryId) {
+        try {
+            RedisRoundTrips.record();
+            redisTemplate.delete(QUEUED_KEY_PREFIX + diaryId);
+        } catch (Exception e) {
+            log.warn("분석 작업 대기 표시 제거 실패: diaryId={}, 원인={}", diaryId, e.getMessage());
+        }
+    }
+
+    private void deadLetter(Job job, String error) {
+        log.error("분석 작업을 dead-letter 로 옮깁니다. diaryId={}, 시도={}, 원인={}", job.diaryId(), job.attempt(), error);
+        RedisRoundTrips.record();
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(DEAD_LETTER_KEY)
+                .ofMap(Map.of("diaryId", String.valueOf(job.diaryId()),
+                        "userId", job.userId(),
+                        "attempts", String.valueOf(job.attempt()),
+                        "error", error != null ? error : "",
+                        "failedAt", LocalDateTime.now().toString())));
+        RedisRoundTrips.record();
+        redisTemplate.opsForStream().trim(DEAD_LETTER_KEY, DEAD_LETTER_MAX_LENGTH, true);
+        complete(job);
+    }
+
+    // 형식이 잘못된 레코드는 ACK 하여 반복 배정되지 않도록 함
+    private List<Job> toJobs(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        List<Job> jobs = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            try {
+                jobs.add(new Job(record.getId(),
+                        Long.parseLong(String.valueOf(value.get("diaryId"))),
+                        String.valueOf(value.get("userId")),
+                        Integer.parseInt(String.valueOf(value.getOrDefault("attempt", "0")))));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 분석 작업 레코드를 제거합니다. id={}, 값={}", record.getId(), value);
+                complete(new Job(record.getId(), null, null, 0));
+            }
+        }
+        return jobs;
+    }
+}
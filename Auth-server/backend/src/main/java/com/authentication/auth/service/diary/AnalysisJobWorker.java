@@ -0,0 +1,228 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisJobProperties;
+import com.authentication.auth.diary.repository.DiaryRepository;
+import com.authentication.auth.domain.AIResponse;
+import com.authentication.auth.domain.Diary;
+import com.authentication.auth.repository.AIResponseRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 분석 작업자
+ * 작업 큐에서 분석 실행기의 남은 용량만큼 작업을 가져와 실행하고, 결과에 따라 완료/재시도/dead-letter 처리합니다.
+ * 주기적으로 완료 확인이 없는 작업과, 작업자 장애로 PENDING/PROCESSING/DEFERRED 상태에 남은 분석 문서를 회수합니다.
+ */
+@Slf4j
+@Component
+public class AnalysisJobWorker implements MeterBinder {
+
+    private static final Duration MAX_ERROR_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration FULL_EXECUTOR_PAUSE = Duration.ofMillis(200);
+    private static final List<AIResponse.AnalysisStatus> IN_PROGRESS =
+            List.of(AIResponse.AnalysisStatus.PENDING, AIResponse.AnalysisStatus.PROCESSING,
+                    AIResponse.AnalysisStatus.DEFERRED);
+
+    private final AnalysisJobQueue jobQueue;
+    private final AnalysisExecutor analysisExecutor;
+    private final DiaryAnalysisService diaryAnalysisService;
+    private final DiaryRepository diaryRepository;
+    private final AIResponseRepository aiResponseRepository;
+    private final AnalysisJobProperties properties;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+
+    private volatile boolean running;
+    private Thread poller;
+
+    public AnalysisJobWorker(AnalysisJobQueue jobQueue,
+                             AnalysisExecutor analysisExecutor,
+                             DiaryAnalysisService diaryAnalysisService,
+                             DiaryRepository diaryRepository,
+                             AIResponseRepository aiResponseRepository,
+                             AnalysisJobProperties properties) {
+        this.jobQueue = jobQueue;
+        this.analysisExecutor = analysisExecutor;
+        this.diaryAnalysisService = diaryAnalysisService;
+        this.diaryRepository = diaryRepository;
+        this.aiResponseRepository = aiResponseRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 기동 시 이전에 중단된 분석을 회수하고 작업 수신을 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        poller = Thread.ofPlatform().name("analysis-jobs").daemon(true).start(this::poll);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+    }
+
+    /**
+     * 작업자 장애로 진행 중 상태에 남은 분석 문서를 다시 큐에 추가
+     * @return 다시 추가한 작업 수
+     * @Description 진행 중인 분석의 중복 실행 방지 기간(DiaryAnalysisService.CLAIM_TTL)이 지난 문서만 대상으로 합니다.
+     */
+    public int recoverOrphans() {
+        Duration threshold = properties.visibilityTimeout().compareTo(DiaryAnalysisService.CLAIM_TTL) > 0
+                ? properties.visibilityTimeout()
+                : DiaryAnalysisService.CLAIM_TTL;
+        List<AIResponse> orphans = aiResponseRepository.findByStatusInAndUpdatedAtBefore(
+                IN_PROGRESS, LocalDateTime.now().minus(threshold));
+        int recovered = 0;
+        for (AIResponse orphan : orphans) {
+            if (orphan.getDiaryId() != null && jobQueue.enqueue(orphan.getDiaryId(), orphan.getUserId())) {
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            log.info("중단된 분석 {}건을 다시 요청했습니다.", recovered);
+        }
+        return recovered;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("diary.analysis.jobs", completed, LongAdder::sum)
+                .tag("result", "completed")
+                .description("Analysis jobs finished by this instance")
+                .register(registry);
+        FunctionCounter.builder("diary.analysis.jobs", retried, LongAdder::sum)
+                .tag("result", "retried")
+                .description("Analysis jobs finished by this instance")
+                .register(registry);
+        FunctionCounter.builder("diary.analysis.jobs", deadLettered, LongAdder::sum)
+                .tag("result", "dead_letter")
+                .description("Analysis jobs finished by this instance")
+                .register(registry);
+        FunctionCounter.builder("diary.analysis.jobs", deferred, LongAdder::sum)
+                .tag("result", "deferred")
+                .description("Analysis jobs finished by this instance")
+                .register(registry);
+    }
+
+    // Redis 장애 시에는 대기 시간을 늘려가며 재연결 (최대 30초)
+    private void poll() {
+        long maintenanceIntervalMillis = Math.max(1000, properties.visibilityTimeout().toMillis() / 2);
+        long nextMaintenance = 0;
+        Duration errorBackoff = Duration.ofSeconds(1);
+        boolean groupReady = false;
+        while (running) {
+            try {
+                if (!groupReady) {
+                    jobQueue.ensureGroup();
+                    groupReady = true;
+                }
+                if (System.currentTimeMillis() >= nextMaintenance) {
+                    recoverOrphans();
+                    // 실행기에 여유가 없으면 회수를 다음 주기로 미룸 (회수한 작업은 전달 횟수가 시도로 계산됨)
+                    int reclaimCapacity = Math.min(properties.batchSize(), analysisExecutor.remainingCapacity());
+                    if (reclaimCapacity > 0) {
+                        dispatch(jobQueue.reclaim(reclaimCapacity));
+                    }
+                    nextMaintenance = System.currentTimeMillis() + maintenanceIntervalMillis;
+                }
+                jobQueue.promoteDueRetries(properties.batchSize());
+
+                int capacity = Math.min(properties.batchSize(), analysisExecutor.remainingCapacity());
+                if (capacity <= 0) {
+                    Thread.sleep(FULL_EXECUTOR_PAUSE.toMillis());
+                    continue;
+                }
+                dispatch(jobQueue.read(capacity));
+                errorBackoff = Duration.ofSeconds(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("분석 작업 수신 실패, {}초 후 재시도: {}", errorBackoff.toSeconds(), e.getMessage());
+                try {
+                    Thread.sleep(errorBackoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                errorBackoff = errorBackoff.multipliedBy(2).compareTo(MAX_ERROR_BACKOFF) > 0
+                        ? MAX_ERROR_BACKOFF
+                        : errorBackoff.multipliedBy(2);
+            }
+        }
+    }
+
+    // 실행기가 거부하거나 대기 시간이 초과된 작업은 실행되지 않았으므로 시도 횟수를 늘리지 않고 보류
+    // (ACK 하지 않고 두면 회수될 때 전달 횟수가 시도로 계산되어, 과부하가 이어지면 실행 없이 dead-letter 로 옮겨짐)
+    void dispatch(List<AnalysisJobQueue.Job> jobs) {
+        for (int i = 0; i < jobs.size(); i++) {
+            AnalysisJobQueue.Job job = jobs.get(i);
+            if (!analysisExecutor.submit(job.diaryId(), () -> process(job), () -> deferUnstarted(job))) {
+                // 실행기가 가득 찼으므로 남은 작업도 함께 보류
+                jobs.subList(i, jobs.size()).forEach(this::deferUnstarted);
+                return;
+            }
+        }
+    }
+
+    // 보류에 실패하면(Redis 장애) 작업은 ACK 되지 않은 채 남아 visibilityTimeout 뒤 회수됨
+    private void deferUnstarted(AnalysisJobQueue.Job job) {
+        try {
+            jobQueue.defer(job);
+            deferred.increment();
+        } catch (Exception e) {
+            log.warn("실행하지 못한 분석 작업 보류 실패: diaryId={}, 원인={}", job.diaryId(), e.getMessage());
+        }
+    }
+
+    void process(AnalysisJobQueue.Job job) {
+        jobQueue.markStarted(job);
+        Optional<Diary> diary = diaryRepository.findWithUserById(job.diaryId());
+        if (diary.isEmpty()) {
+            log.info("삭제된 일기의 분석 작업을 제거합니다. diaryId: {}", job.diaryId());
+            jobQueue.complete(job);
+            return;
+        }
+        try {
+            diaryAnalysisService.analyzeAndSaveDiary(diary.get());
+            jobQueue.complete(job);
+            completed.increment();
+        } catch (AnalysisDeferredException e) {
+            jobQueue.defer(job);
+            deferred.increment();
+        } catch (Exception e) {
+            log.warn("분석 작업 실패: diaryId={}, 시도={}, 원인={}", job.diaryId(), job.attempt() + 1, e.getMessage());
+            if (jobQueue.fail(job, e.getMessage())) {
+                retried.increment();
+            } else {
+                deadLettered.increment();
+            }
+        }
+    }
+}
@@ -4,32 +4,34 @@ import com.authentication.auth.domain.AIResponse;
 import com.authentication.auth.domain.Diary;
 import com.authentication.auth.dto.ai.AIAnalysisResponse;
 import com.authentication.auth.dto.AIResponseDto;
-import com.authentication.auth.dto.DiaryAnalysisRequestDto;
 import com.authentication.auth.repository.AIResponseRepository;
+import com.authentication.auth.service.ai.AdaptiveConcurrencyLimiter;
+import com.authentication.auth.service.ai.AiAnalysisClient;
+import com.authentication.auth.service.redis.RedisRoundTrips;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
 
 
 import jakarta.annotation.PostConstruct;
 
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import com.authentication.auth.service.sse.SseService;
 
@@ -38,13 +40,19 @@ import com.authentication.auth.service.sse.SseService;
 @RequiredArgsConstructor
 public class DiaryAnalysisService {
 
+    public static final String SKIPPED_UNCHANGED = "unchanged";
+    public static final String SKIPPED_REUSED = "reused";
+    private static final String CLAIM_KEY_PREFIX = "AI_ANALYSIS_CLAIM:";
+    // 분석이 끝나면 해제하며, 해제하지 못한 경우에도 AI 서버 응답 제한 시간 뒤에는 만료
+    static final Duration CLAIM_TTL = Duration.ofMinutes(10);
+
     private final AIResponseRepository aiResponseRepository;
-    private final WebClient.Builder webClientBuilder;
     private final ObjectMapper objectMapper;
     private final SseService sseService;
-
-    @Value("${ai.server.url}")
-    private String aiServerUrl;
+    private final StringRedisTemplate redisTemplate;
+    private final AnalysisBatcher analysisBatcher;
+    private final AiAnalysisClient aiAnalysisClient;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     @PostConstruct
     private void configureObjectMapper() {
@@ -53,51 +61,103 @@ public class DiaryAnalysisService {
         log.info("ObjectMapper configured to allow unquoted control characters");
     }
 
-    @Async
-    public void requestDiaryAnalysis(Diary diary) {
-        log.info("비동기 일기 분석 시작 - 사용자 ID: {}", diary.getUser().getLoginId());
-        try {
-            analyzeAndSaveDiary(diary);
-            log.info("비동기 일기 분석 완료 - 사용자 ID: {}", diary.getUser().getLoginId());
-        } catch (Exception e) {
-            log.error("비동기 일기 분석 중 오류 발생 - 사용자 ID: {}: {}", diary.getUser().getLoginId(), e.getMessage(), e);
-        }
-    }
-
+    /**
+     * 일기 분석 후 저장
+     * @param diary 분석할 일기
+     * @return 분석 결과 (AI 서버를 호출하지 않은 경우 skipped 에 사유 포함)
+     * @Description 제목 + 본문 해시(content_hash)가 같은 분석이 완료되었거나 진행 중이면 AI 서버를 호출하지 않고,
+     *              같은 사용자의 동일 텍스트 분석 결과가 있으면 복사하여 사용합니다.
+     *              일기마다 하나의 분석 문서를 유지하며 재분석 시 같은 문서를 갱신합니다.
+     *              AI 서버 동시 요청 제한에 걸려 maxWait 안에 허용되지 않으면 DEFERRED 로 저장하고 AnalysisDeferredException 을 던집니다.
+     */
     public AIResponseDto analyzeAndSaveDiary(Diary diary) {
         String userId = diary.getUser().getLoginId();
-        
+        String contentHash = diary.getContentHash() != null
+                ? diary.getContentHash()
+                : Diary.contentHashOf(diary.getTitle(), diary.getContent());
+        Optional<AIResponse> current = aiResponseRepository.findFirstByDiaryIdOrderByCreatedAtDesc(diary.getId());
+
+        // 1. 같은 텍스트의 분석이 완료되었거나 진행 중이면 생략 (같은 내용 수정, 중복 클릭, 재시도)
+        //    CLAIM_TTL 이 지나도록 진행 중인 문서는 작업자 장애로 남은 것이므로 다시 분석
+        if (current.isPresent() && contentHash.equals(current.get().getContentHash())
+                && (current.get().getStatus() == AIResponse.AnalysisStatus.COMPLETED || isInProgress(current.get()))) {
+            log.info("같은 텍스트의 분석이 이미 있어 생략합니다. diaryId: {}, Status: {}", diary.getId(), current.get().getStatus());
+            return notifySkipped(userId, skipped(convertToDto(current.get()), SKIPPED_UNCHANGED));
+        }
+        // 동시에 들어온 같은 텍스트의 요청은 하나만 진행
+        if (!claim(diary.getId(), contentHash)) {
+            log.info("같은 텍스트의 분석이 진행 중이어서 생략합니다. diaryId: {}", diary.getId());
+            return notifySkipped(userId, skipped(current.map(this::convertToDto)
+                    .orElseGet(() -> AIResponseDto.builder().status(AIResponse.AnalysisStatus.PENDING.name()).build()),
+                    SKIPPED_UNCHANGED));
+        }
+
+        AIResponse response = current.orElseGet(() -> AIResponse.builder()
+                .diaryId(diary.getId())
+                .createdAt(LocalDateTime.now())
+                .build());
+        response.setUserId(userId);
+        response.setDiaryTitle(diary.getTitle());
+        response.setDiaryContent(diary.getContent());
+        response.setContentHash(contentHash);
+        response.setErrorMessage(null);
+
         try {
-            // 1. 먼저 PENDING 상태의 AIResponse 레코드를 생성하고 저장
-            AIResponse pendingResponse = AIResponse.builder()
-                    .diaryId(diary.getId())
-                    .userId(userId)
-                    .diaryTitle(diary.getTitle())
-                    .diaryContent(diary.getContent())
-                    .status(AIResponse.AnalysisStatus.PENDING)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            
-            AIResponse savedPendingResponse = aiResponseRepository.save(pendingResponse);
-            log.info("AI 분석 요청 레코드 생성됨. ID: {}, Status: PENDING", savedPendingResponse.getId());
+            // 2. 같은 사용자의 동일 텍스트 분석 결과가 있으면 AI 서버 호출 없이 재사용
+            Optional<AIResponse> cached = aiResponseRepository.findFirstByUserIdAndContentHashAndStatus(
+                    userId, contentHash, AIResponse.AnalysisStatus.COMPLETED);
+            if (cached.isPresent()) {
+                response.setEmotions(cached.get().getEmotions());
+                response.setSummary(cached.get().getSummary());
+                response.setCoaching(cached.get().getCoaching());
+                response.setStatus(AIResponse.AnalysisStatus.COMPLETED);
+                response.setUpdatedAt(LocalDateTime.now());
+                AIResponseDto reusedDto = convertToDto(aiResponseRepository.save(response));
+                log.info("동일 텍스트 분석 결과를 재사용했습니다. diaryId: {}, 원본 ID: {}", diary.getId(), cached.get().getId());
+                sseService.sendEventToUser(userId, "analysis_complete", reusedDto);
+                return skipped(reusedDto, SKIPPED_REUSED);
+            }
+
+            // 3. PENDING 상태로 저장
+            response.setStatus(AIResponse.AnalysisStatus.PENDING);
+            response.setUpdatedAt(LocalDateTime.now());
+            AIResponse savedPendingResponse = aiResponseRepository.save(response);
+            log.info("AI 분석 요청 레코드 저장됨. ID: {}, Status: PENDING", savedPendingResponse.getId());
 
             // SSE로 PENDING 상태 알림
             AIResponseDto pendingDto = convertToDto(savedPendingResponse);
             sseService.sendEventToUser(userId, "analysis_status", pendingDto);
 
-            // 2. AI 서버를 호출하여 구조화된 응답(DTO)을 받습니다.
-            savedPendingResponse.setStatus(AIResponse.AnalysisStatus.PROCESSING);
-            savedPendingResponse.setUpdatedAt(LocalDateTime.now());
-            aiResponseRepository.save(savedPendingResponse);
-            log.info("AI 분석 시작. ID: {}, Status: PROCESSING", savedPendingResponse.getId());
-
-            // SSE로 PROCESSING 상태 알림
-            AIResponseDto processingDto = convertToDto(savedPendingResponse);
-            sseService.sendEventToUser(userId, "analysis_status", processingDto);
+            // AI 서버 동시 요청 제한 대기 (과부하 중에는 분석을 미루고 작업 큐가 나중에 다시 실행)
+            AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire();
+            if (permit == null) {
+                savedPendingResponse.setStatus(AIResponse.AnalysisStatus.DEFERRED);
+                savedPendingResponse.setUpdatedAt(LocalDateTime.now());
+                aiResponseRepository.save(savedPendingResponse);
+                log.info("AI 서버 과부하로 분석을 미룹니다. ID: {}, Status: DEFERRED", savedPendingResponse.getId());
+                sseService.sendEventToUser(userId, "analysis_status", convertToDto(savedPendingResponse));
+                throw new AnalysisDeferredException("AI 서버 요청이 많아 분석을 미뤘습니다.");
+            }
 
-            AIAnalysisResponse aiAnalysisResponse = callAIServer(diary);
+            AIAnalysisResponse aiAnalysisResponse;
+            try {
+                // 4. AI 서버를 호출하여 구조화된 응답(DTO)을 받습니다.
+                savedPendingResponse.setStatus(AIResponse.AnalysisStatus.PROCESSING);
+                savedPendingResponse.setUpdatedAt(LocalDateTime.now());
+                aiResponseRepository.save(savedPendingResponse);
+                log.info("AI 분석 시작. ID: {}, Status: PROCESSING", savedPendingResponse.getId());
+
+                // SSE로 PROCESSING 상태 알림
+                AIResponseDto processingDto = convertToDto(savedPendingResponse);
+                sseService.sendEventToUser(userId, "analysis_status", processingDto);
+
+                aiAnalysisResponse = callAIServer(diary, permit);
+            } finally {
+                // 결과를 기록하지 못한 경우(상태 저장 실패 등)에도 허용을 반환 (이미 기록했으면 무시됨)
+                permit.onIgnore();
+            }
 
-            // 3. 받은 응답을 바탕으로 AIResponse 엔티티를 완성하고 저장합니다.
+            // 5. 받은 응답을 바탕으로 AIResponse 엔티티를 완성하고 저장합니다.
             AIResponse.Emotion emotion = AIResponse.Emotion.builder()
                     .category(aiAnalysisResponse.getEmotion())
                     .build();
@@ -110,7 +170,7 @@ public class DiaryAnalysisService {
             AIResponse completedResponse = aiResponseRepository.save(savedPendingResponse);
             log.info("AI 분석 완료 및 저장. ID: {}, Status: COMPLETED", completedResponse.getId());
 
-            // 4. 저장된 엔티티를 DTO로 변환하여 반환합니다.
+            // 6. 저장된 엔티티를 DTO로 변환하여 반환합니다.
             AIResponseDto completedDto = convertToDto(completedResponse);
             
             // SSE로 완료 상태 및 최종 결과 알림
@@ -118,22 +178,22 @@ public class DiaryAnalysisService {
             
             return completedDto;
 
+        } catch (AnalysisDeferredException e) {
+            throw e;
         } catch (Exception e) {
             log.error("일기 분석 및 저장 중 오류 발생: {}", e.getMessage(), e);
             
             // 실패 상태로 업데이트 시도
             try {
-                Optional<AIResponse> existingResponse = aiResponseRepository.findByDiaryId(diary.getId());
-                if (existingResponse.isPresent()) {
-                    AIResponse failedResponse = existingResponse.get();
-                    failedResponse.setStatus(AIResponse.AnalysisStatus.FAILED);
-                    failedResponse.setErrorMessage(e.getMessage());
-                    failedResponse.setUpdatedAt(LocalDateTime.now());
-                    aiResponseRepository.save(failedResponse);
-                    log.info("AI 분석 실패 상태로 업데이트됨. ID: {}, Status: FAILED", failedResponse.getId());
+                if (response.getId() != null) {
+                    response.setStatus(AIResponse.AnalysisStatus.FAILED);
+                    response.setErrorMessage(e.getMessage());
+                    response.setUpdatedAt(LocalDateTime.now());
+                    aiResponseRepository.save(response);
+                    log.info("AI 분석 실패 상태로 업데이트됨. ID: {}, Status: FAILED", response.getId());
                     
                     // SSE로 실패 상태 알림
-                    AIResponseDto failedDto = convertToDto(failedResponse);
+                    AIResponseDto failedDto = convertToDto(response);
                     sseService.sendEventToUser(userId, "analysis_failed", failedDto);
                 }
             } catch (Exception updateException) {
@@ -141,42 +201,85 @@ public class DiaryAnalysisService {
             }
             
             throw new RuntimeException("일기 분석 및 저장 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            release(diary.getId(), contentHash);
         }
     }
 
-    private AIAnalysisResponse callAIServer(Diary diary) {
-        WebClient webClient = webClientBuilder
-                .baseUrl(aiServerUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+    private static boolean isInProgress(AIResponse response) {
+        boolean pending = response.getStatus() == AIResponse.AnalysisStatus.PENDING
+                || response.getStatus() == AIResponse.AnalysisStatus.PROCESSING;
+        return pending && response.getUpdatedAt() != null
+                && response.getUpdatedAt().isAfter(LocalDateTime.now().minus(CLAIM_TTL));
+    }
 
-        // AI 서버에는 일기 내용만 보내도록 단순화합니다.
-        DiaryAnalysisRequestDto analysisRequest = DiaryAnalysisRequestDto.builder()
-                .text(diary.getTitle() + "\n\n" + diary.getContent())
-                .build();
+    private static AIResponseDto skipped(AIResponseDto dto, String reason) {
+        dto.setSkipped(reason);
+        return dto;
+    }
+
+    // 분석을 요청한 클라이언트가 결과를 기다리지 않도록 생략 사유(skipped)와 현재 상태를 SSE 로 전달
+    private AIResponseDto notifySkipped(String userId, AIResponseDto dto) {
+        String event = AIResponse.AnalysisStatus.COMPLETED.name().equals(dto.getStatus())
+                ? "analysis_complete"
+                : "analysis_status";
+        sseService.sendEventToUser(userId, event, dto);
+        return dto;
+    }
 
+    // Redis 장애 시에는 선점 없이 진행 (content_hash 확인만으로 대부분의 중복을 거름)
+    private boolean claim(Long diaryId, String contentHash) {
         try {
-            // AI 서버의 응답을 AIAnalysisResponse DTO로 직접 변환합니다.
-            AIAnalysisResponse aiResponse = webClient
-                    .post()
-                    .uri("/diary/analyze")
-                    .bodyValue(analysisRequest)
-                    .retrieve()
-                    .bodyToMono(AIAnalysisResponse.class)
-                    .block();
-
-            if (aiResponse == null || aiResponse.getEmotion() == null || aiResponse.getSolution() == null) {
-                log.error("AI 서버로부터 유효하지 않은 응답을 받았습니다. 응답: {}", aiResponse);
-                throw new RuntimeException("AI 서버로부터 유효하지 않은 형식의 응답을 받았습니다.");
-            }
+            RedisRoundTrips.record();
+            Boolean claimed = redisTemplate.opsForValue()
+                    .setIfAbsent(CLAIM_KEY_PREFIX + diaryId + ":" + contentHash, "1", CLAIM_TTL);
+            return !Boolean.FALSE.equals(claimed);
+        } catch (Exception e) {
+            log.warn("분석 선점 확인 실패, 선점 없이 진행: diaryId={}, 원인={}", diaryId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(Long diaryId, String contentHash) {
+        try {
+            RedisRoundTrips.record();
+            redisTemplate.delete(CLAIM_KEY_PREFIX + diaryId + ":" + contentHash);
+        } catch (Exception e) {
+            log.warn("분석 선점 해제 실패: diaryId={}, 원인={}", diaryId, e.getMessage());
+        }
+    }
 
+    // 일괄 분석을 사용하면 다른 작업자의 요청과 묶어 /diary/analyze/batch 로 전송
+    // 분석 실행기의 가상 스레드에서만 호출되므로 응답을 기다리는 동안 캐리어 스레드와 Netty 이벤트 루프를 점유하지 않음
+    // 응답 시간과 과부하 여부를 동시성 제한기에 기록 (AI 서버 부하와 무관한 실패는 제한값에 반영하지 않음)
+    private AIAnalysisResponse callAIServer(Diary diary, AdaptiveConcurrencyLimiter.Permit permit) {
+        String text = diary.getTitle() + "\n\n" + diary.getContent();
+        try {
+            AIAnalysisResponse aiResponse = analysisBatcher.isEnabled()
+                    ? analysisBatcher.analyze(text)
+                    : aiAnalysisClient.analyze(text).block();
+            permit.onSuccess();
             log.info("AI 서버 구조화 응답: Emotion='{}', Solution='{}'", aiResponse.getEmotion(), aiResponse.getSolution());
             return aiResponse;
 
         } catch (WebClientResponseException e) {
+            if (isOverload(e)) {
+                permit.onDropped();
+            } else {
+                permit.onIgnore();
+            }
             log.error("AI 서버 호출 실패: Status {}, Body {}", e.getRawStatusCode(), e.getResponseBodyAsString(), e);
             throw new RuntimeException("AI 서버 호출에 실패했습니다.");
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            permit.onIgnore();
+            log.warn("AI 서버 호출 차단: {}", e.getMessage());
+            throw new RuntimeException("AI 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
         } catch (Exception e) {
+            if (isOverload(e)) {
+                permit.onDropped();
+            } else {
+                permit.onIgnore();
+            }
             log.error("AI 서버 호출 중 예상치 못한 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("AI 서버와 통신 중 오류가 발생했습니다.");
         }
@@ -184,6 +287,21 @@ public class DiaryAnalysisService {
 
 
 
+    // 시간 초과, 연결 실패, 5xx/429 응답 (일괄 분석기는 원인을 RuntimeException 으로 감싸서 전달)
+    private static boolean isOverload(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof WebClientRequestException
+                    || (cause instanceof WebClientResponseException response
+                        && (response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429))) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
     private AIResponseDto convertToDto(AIResponse aiResponse) {
         if (aiResponse == null) {
             return null;
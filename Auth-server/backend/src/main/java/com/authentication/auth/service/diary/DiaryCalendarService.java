@@ -0,0 +1,294 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.diary.repository.DiaryCalendarRepository;
+import com.authentication.auth.diary.repository.DiaryRepository;
+import com.authentication.auth.domain.DiaryCalendar;
+import com.authentication.auth.service.redis.RedisRoundTrips;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일기 달력 비트맵 서비스
+ * 사용자/월별 작성일을 31비트 마스크(diary_calendar)로 보관하고 Redis 해시(DIARY_CAL:{userId})에 캐시합니다.
+ * 달력 조회는 캐시 적중 시 Redis 1회 조회로 끝나며, 연간 조회도 12개월을 한 번에 읽습니다.
+ * 비트맵이 없는 달(기능 도입 이전 일기)은 처음 조회할 때 일기 테이블에서 계산하여 저장합니다.
+ * 캐시 해시의 버전 필드(v)는 제거할 때마다 증가하며, 조회한 값은 조회 시작 시점의 버전이 그대로일 때만 캐시에 채웁니다.
+ * 따라서 조회 도중 커밋된 변경의 제거 뒤에 변경 전 값이 다시 채워지지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryCalendarService {
+
+    private static final String CACHE_KEY_PREFIX = "DIARY_CAL:";
+    private static final Duration CACHE_TTL = Duration.ofDays(1);
+    private static final int ALL_DAYS = 0x7FFFFFFF;
+    static final String VERSION_FIELD = "v";
+
+    /**
+     * 버전이 같을 때만 캐시 채우기
+     * KEYS[1] 캐시 키, ARGV[1] 조회 시작 시점의 버전 (없으면 빈 문자열), ARGV[2] TTL (초), ARGV[3..] 필드/값 쌍
+     * 반환값: 1 저장, 0 조회 중 제거가 있어 저장하지 않음
+     */
+    static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'v') or ''
+            if current ~= ARGV[1] then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 버전을 올리고 달 필드 제거
+     * KEYS[1] 캐시 키, ARGV[1] 달 필드, ARGV[2] TTL (초)
+     */
+    static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HINCRBY', KEYS[1], 'v', 1)
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final DiaryCalendarRepository calendarRepository;
+    private final DiaryRepository diaryRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 월간 작성일 비트맵 조회
+     * @param userId 사용자 ID
+     * @param month 조회할 달
+     * @return (일 - 1) 번째 비트가 작성 여부인 마스크
+     */
+    @Transactional
+    public int monthMask(Long userId, YearMonth month) {
+        return masks(userId, month, month)[0];
+    }
+
+    /**
+     * 연간 작성일 비트맵 조회
+     * @param userId 사용자 ID
+     * @param year 연도
+     * @return 1월부터 12월까지의 마스크
+     */
+    @Transactional
+    public int[] yearMasks(Long userId, int year) {
+        return masks(userId, YearMonth.of(year, 1), YearMonth.of(year, 12));
+    }
+
+    /**
+     * 일기가 추가된 날짜 반영 (작성, 날짜 변경)
+     * @param userId 사용자 ID
+     * @param date 일기 날짜
+     * @Description 같은 트랜잭션에서 저장한 일기를 포함해 그 달을 다시 계산하고 OR 로 병합합니다.
+     *              비트맵이 없던 달도 이전 일기까지 포함하여 생성됩니다.
+     */
+    @Transactional
+    public void onDiaryAdded(Long userId, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        calendarRepository.mergeDays(userId, monthKey(month), computeMask(userId, month));
+        evictAfterCommit(userId, month);
+    }
+
+    /**
+     * 일기가 제거된 날짜 반영 (삭제, 날짜 변경)
+     * @param userId 사용자 ID
+     * @param date 이전 일기 날짜
+     * @Description 같은 날짜에 다른 일기가 남아 있으면 비트를 유지합니다.
+     */
+    @Transactional
+    public void onDiaryRemoved(Long userId, LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        if (!diaryRepository.existsByUser_IdAndDate(userId, date)) {
+            calendarRepository.retainDays(userId, monthKey(month), ALL_DAYS & ~dayBit(date));
+        }
+        evictAfterCommit(userId, month);
+    }
+
+    /**
+     * @param month 달
+     * @param mask 작성일 비트맵
+     * @return 작성일 목록 (yyyy-MM-dd, 오름차순)
+     */
+    public static List<String> toDates(YearMonth month, int mask) {
+        List<String> dates = new ArrayList<>(Integer.bitCount(mask));
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            if ((mask & (1 << (day - 1))) != 0) {
+                dates.add(month.atDay(day).toString());
+            }
+        }
+        return dates;
+    }
+
+    static int monthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    static int dayBit(LocalDate date) {
+        return 1 << (date.getDayOfMonth() - 1);
+    }
+
+    // 캐시 → diary_calendar → 일기 테이블 순으로 조회하고, 아래 단계에서 얻은 값은 위 단계에 채움
+    private int[] masks(Long userId, YearMonth from, YearMonth to) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        int[] masks = new int[months.size()];
+        boolean[] found = new boolean[months.size()];
+        String cacheKey = CACHE_KEY_PREFIX + userId;
+
+        List<Object> fields = new ArrayList<>(months.size() + 1);
+        months.forEach(month -> fields.add(String.valueOf(monthKey(month))));
+        fields.add(VERSION_FIELD);
+        List<Object> cached = readCache(cacheKey, fields);
+        int missing = 0;
+        for (int i = 0; i < months.size(); i++) {
+            Object value = cached != null ? cached.get(i) : null;
+            if (value != null) {
+                masks[i] = Integer.parseInt(value.toString());
+                found[i] = true;
+            } else {
+                missing++;
+            }
+        }
+        if (missing == 0) {
+            return masks;
+        }
+
+        Map<Integer, Integer> stored = new HashMap<>();
+        for (DiaryCalendar calendar : calendarRepository.findById_UserIdAndId_MonthKeyBetween(
+                userId, monthKey(from), monthKey(to))) {
+            stored.put(calendar.getId().getMonthKey(), calendar.getDayMask());
+        }
+
+        YearMonth firstMissing = null;
+        YearMonth lastMissing = null;
+        for (int i = 0; i < months.size(); i++) {
+            if (found[i]) {
+                continue;
+            }
+            Integer mask = stored.get(monthKey(months.get(i)));
+            if (mask != null) {
+                masks[i] = mask;
+                found[i] = true;
+            } else {
+                firstMissing = firstMissing == null ? months.get(i) : firstMissing;
+                lastMissing = months.get(i);
+            }
+        }
+
+        // 비트맵이 없는 달은 한 번의 범위 조회로 계산하여 저장 (일기가 없는 달도 0 으로 저장)
+        if (firstMissing != null) {
+            Map<Integer, Integer> computed = new HashMap<>();
+            for (LocalDate date : diaryRepository.findDistinctDatesByUserIdAndDateBetween(
+                    userId, firstMissing.atDay(1), lastMissing.atEndOfMonth())) {
+                computed.merge(monthKey(YearMonth.from(date)), dayBit(date), (a, b) -> a | b);
+            }
+            for (int i = 0; i < months.size(); i++) {
+                if (!found[i]) {
+                    int key = monthKey(months.get(i));
+                    masks[i] = computed.getOrDefault(key, 0);
+                    calendarRepository.mergeDays(userId, key, masks[i]);
+                }
+            }
+        }
+
+        Map<String, String> fill = new HashMap<>();
+        for (int i = 0; i < months.size(); i++) {
+            if (cached == null || cached.get(i) == null) {
+                fill.put(String.valueOf(monthKey(months.get(i))), String.valueOf(masks[i]));
+            }
+        }
+        // 캐시를 읽지 못했으면 버전을 알 수 없으므로 채우지 않음
+        if (cached != null) {
+            Object version = cached.get(months.size());
+            writeCache(cacheKey, version != null ? version.toString() : "", fill);
+        }
+        return masks;
+    }
+
+    // Redis 장애 시에는 DB 값으로 응답
+    private List<Object> readCache(String cacheKey, List<Object> fields) {
+        try {
+            RedisRoundTrips.record();
+            return redisTemplate.opsForHash().multiGet(cacheKey, fields);
+        } catch (Exception e) {
+            log.warn("달력 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String cacheKey, String version, Map<String, String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(values.size() * 2 + 2);
+        args.add(version);
+        args.add(String.valueOf(CACHE_TTL.toSeconds()));
+        values.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        try {
+            RedisRoundTrips.record();
+            Long written = redisTemplate.execute(FILL_SCRIPT, List.of(cacheKey), args.toArray());
+            if (Long.valueOf(0).equals(written)) {
+                log.debug("조회 중 달력이 변경되어 캐시를 채우지 않습니다: {}", cacheKey);
+            }
+        } catch (Exception e) {
+            log.warn("달력 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 롤백된 변경이 캐시에 반영되지 않도록 커밋 후 해당 달만 제거 (다음 조회 시 DB 값으로 채움)
+    // 버전을 함께 올려 이미 DB 를 읽은 조회가 변경 전 값을 채우지 못하게 함
+    private void evictAfterCommit(Long userId, YearMonth month) {
+        Runnable evict = () -> {
+            try {
+                RedisRoundTrips.record();
+                redisTemplate.execute(EVICT_SCRIPT, List.of(CACHE_KEY_PREFIX + userId),
+                        String.valueOf(monthKey(month)), String.valueOf(CACHE_TTL.toSeconds()));
+            } catch (Exception e) {
+                log.warn("달력 캐시 제거 실패: 사용자 ID={}, 원인={}", userId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    private int computeMask(Long userId, YearMonth month) {
+        int mask = 0;
+        for (LocalDate date : diaryRepository.findDistinctDatesByUserIdAndDateBetween(
+                userId, month.atDay(1), month.atEndOfMonth())) {
+            mask |= dayBit(date);
+        }
+        return mask;
+    }
+}
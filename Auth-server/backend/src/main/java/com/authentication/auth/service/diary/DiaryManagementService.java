@@ -1,15 +1,30 @@
 package com.authentication.auth.service.diary;
 
+import com.authentication.auth.diary.dto.DiaryCalendarResponse;
+import com.authentication.auth.diary.dto.DiaryCursor;
+import com.authentication.auth.diary.dto.DiaryCursorResponse;
+import com.authentication.auth.diary.dto.DiaryImportResponse;
 import com.authentication.auth.diary.dto.DiaryResponseDto;
+import com.authentication.auth.diary.dto.DiarySearchResponse;
+import com.authentication.auth.diary.dto.DiarySummaryDto;
 import com.authentication.auth.diary.repository.DiaryRepository;
 import com.authentication.auth.domain.Diary;
 import com.authentication.auth.domain.User;
+import com.authentication.auth.dto.common.ResourceVersion;
 import com.authentication.auth.dto.diary.DiaryCreateRequest;
 import com.authentication.auth.dto.diary.DiaryUpdateRequest;
 import com.authentication.auth.dto.diary.DiaryRequestDto;
+import com.authentication.auth.dto.token.PrincipalDetails;
+import com.authentication.auth.exception.CustomException;
+import com.authentication.auth.exception.ErrorType;
 import com.authentication.auth.repository.UserRepository;
 import com.authentication.auth.service.diary.DiaryAnalysisService;
 import com.authentication.auth.service.DiaryService;
+import com.authentication.auth.service.diary.search.DiarySearchCursor;
+import com.authentication.auth.service.diary.search.DiarySearchEngine;
+import com.authentication.auth.service.diary.search.DiarySearchRequest;
+import com.authentication.auth.service.diary.search.DiarySearchResult;
+import com.authentication.auth.service.security.UserPrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -17,13 +32,31 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import lombok.extern.slf4j.Slf4j;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service("diaryManagementService")
 @RequiredArgsConstructor
@@ -32,12 +65,26 @@ import java.util.Optional;
 public class DiaryManagementService {
 
     private final DiaryRepository diaryRepository;
-    private final UserRepository userRepository;
     private final DiaryAnalysisService diaryAnalysisService;
     private final DiaryService diaryService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserRepository userRepository;
+    private final DiarySearchEngine diarySearchEngine;
+    private final DiaryCalendarService diaryCalendarService;
+    private final DiaryTransferService diaryTransferService;
 
-        public DiaryResponseDto createDiaryPost(DiaryCreateRequest request, UserDetails userDetails) {
-        User user = findUserByUsernameOrEmail(userDetails.getUsername());
+    /**
+     * 일기 작성
+     * @param request 작성 요청 (제목, 본문, 날짜)
+     * @param userDetails 인증 사용자
+     * @return 저장된 일기
+     * @Description 같은 트랜잭션에서 검색 색인과 달력 비트를 갱신하고, AI 분석은 커밋 후에 요청합니다.
+     */
+    public DiaryResponseDto createDiaryPost(DiaryCreateRequest request, UserDetails userDetails) {
+        // 응답의 닉네임은 사용자 캐시에서 가져오고, 연관관계 설정에는 PK 만 필요하므로 참조만 사용
+        // (참조 프록시의 PK 외 필드에 접근하면 users 조회가 실행되므로 사용하지 않음)
+        User author = findUserByUsernameOrEmail(userDetails.getUsername());
+        User user = userRepository.getReferenceById(author.getId());
 
         Diary diary = Diary.builder()
                 .title(request.getTitle())
@@ -46,53 +93,58 @@ public class DiaryManagementService {
                 .date(LocalDate.parse(request.getDate()))
                 .build();
 
-        Diary savedDiary = diaryRepository.save(diary);
+        // 애플리케이션에서 ID 를 발급하므로 save 는 INSERT 를 flush 시점까지 미룸
+        // diary_search 는 diary(id) 를 참조하므로 JDBC 로 색인하기 전에 INSERT 를 먼저 실행
+        Diary savedDiary = diaryRepository.saveAndFlush(diary);
+        indexForSearch(savedDiary);
+        diaryCalendarService.onDiaryAdded(author.getId(), savedDiary.getDate());
 
-        // 비동기 AI 분석 요청
-        try {
-            log.info("일기 저장 완료. 비동기 분석을 요청합니다. Diary ID: {}", savedDiary.getId());
-            // DiaryService를 통해 분석 요청 (더 확실한 방법)
-            diaryService.requestAnalysis(savedDiary.getId(), userDetails.getUsername());
-            log.info("일기 생성 후 분석 요청 완료 - Diary ID: {}", savedDiary.getId());
-        } catch (Exception e) {
-            log.error("비동기 분석 요청 중 오류 발생: {}", e.getMessage(), e);
-            // AI 분석 실패가 일기 생성 자체에 영향을 주지 않도록 예외를 던지지 않음
-        }
+        // 비동기 AI 분석 요청 (커밋 후)
+        log.info("일기 저장 완료. 커밋 후 비동기 분석을 요청합니다. Diary ID: {}", savedDiary.getId());
+        requestAnalysisAfterCommit(savedDiary.getId(), userDetails.getUsername());
 
-        return convertToResponseDto(savedDiary);
+        return convertToResponseDto(savedDiary, author.getNickname());
     }
 
     public DiaryResponseDto updateDiaryPost(Long diaryId, DiaryUpdateRequest request, UserDetails userDetails) {
-        User user = findUserByUsernameOrEmail(userDetails.getUsername());
+        Long userId = resolveUserId(userDetails);
 
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException("Diary not found"));
 
-        if (!diary.getUser().getId().equals(user.getId())) {
+        if (!diary.getUser().getId().equals(userId)) {
             throw new AccessDeniedException("Access denied");
         }
 
-        // 기존 내용과 새로운 내용 비교
-        boolean contentChanged = !diary.getContent().equals(request.getContent()) || 
-                                !diary.getTitle().equals(request.getTitle());
+        // 기존 내용과 새로운 내용의 해시 비교 (해시가 없는 이전 일기는 현재 값으로 계산)
+        String previousHash = diary.getContentHash() != null
+                ? diary.getContentHash()
+                : Diary.contentHashOf(diary.getTitle(), diary.getContent());
 
+        LocalDate previousDate = diary.getDate();
         diary.setTitle(request.getTitle());
         diary.setContent(request.getContent());
         diary.setDate(request.getDate());
+        diary.setContentHash(Diary.contentHashOf(request.getTitle(), request.getContent()));
+        boolean contentChanged = !previousHash.equals(diary.getContentHash());
 
         Diary savedDiary = diaryRepository.save(diary);
 
-        // 내용이 변경된 경우에만 재분석 요청
-        if (contentChanged) {
-            try {
-                log.info("일기 수정 완료. 내용 변경으로 인한 재분석을 요청합니다. Diary ID: {}", savedDiary.getId());
-                // DiaryService를 통해 분석 요청 (더 확실한 방법)
-                diaryService.requestAnalysis(savedDiary.getId(), userDetails.getUsername());
-                log.info("일기 수정 후 재분석 요청 완료 - Diary ID: {}", savedDiary.getId());
-            } catch (Exception e) {
-                log.error("수정된 일기 재분석 요청 중 오류 발생: {}", e.getMessage(), e);
-                // AI 분석 실패가 일기 수정 자체에 영향을 주지 않도록 예외를 던지지 않음
+        // 날짜가 바뀐 경우 이전 날짜와 새 날짜의 달력 비트 갱신
+        if (!Objects.equals(previousDate, savedDiary.getDate())) {
+            if (previousDate != null) {
+                diaryCalendarService.onDiaryRemoved(userId, previousDate);
+            }
+            if (savedDiary.getDate() != null) {
+                diaryCalendarService.onDiaryAdded(userId, savedDiary.getDate());
             }
+        }
+
+        // 내용이 변경된 경우에만 재색인 및 재분석 요청
+        if (contentChanged) {
+            indexForSearch(savedDiary);
+            log.info("일기 수정 완료. 내용 변경으로 인한 재분석을 커밋 후 요청합니다. Diary ID: {}", savedDiary.getId());
+            requestAnalysisAfterCommit(savedDiary.getId(), userDetails.getUsername());
         } else {
             log.info("일기 수정 완료. 내용 변경이 없어 재분석을 건너뜁니다. Diary ID: {}", savedDiary.getId());
         }
@@ -101,46 +153,133 @@ public class DiaryManagementService {
     }
 
     public void deleteDiaryPost(Long diaryId, UserDetails userDetails) {
-        User user = findUserByUsernameOrEmail(userDetails.getUsername());
+        Long userId = resolveUserId(userDetails);
 
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new EntityNotFoundException("Diary not found"));
 
-        if (!diary.getUser().getId().equals(user.getId())) {
+        if (!diary.getUser().getId().equals(userId)) {
             throw new AccessDeniedException("Access denied");
         }
 
+        diarySearchEngine.delete(diaryId);
         diaryRepository.delete(diary);
+        if (diary.getDate() != null) {
+            diaryCalendarService.onDiaryRemoved(userId, diary.getDate());
+        }
     }
 
     @Transactional(readOnly = true)
     public Page<DiaryResponseDto> findDiariesByUser(UserDetails userDetails, Pageable pageable) {
-        User user = findUserByUsernameOrEmail(userDetails.getUsername());
-        Page<Diary> diaries = diaryRepository.findByUser(user, pageable);
+        Page<Diary> diaries = diaryRepository.findByUser_Id(resolveUserId(userDetails), pageable);
         return diaries.map(this::convertToResponseDto);
     }
 
+    /**
+     * 일기 요약 목록 조회 (view=summary)
+     * @param userDetails 인증 사용자
+     * @param pageable 페이지 정보
+     * @return 본문 앞부분만 포함한 일기 목록
+     * @Description 엔티티를 만들지 않고 필요한 컬럼만 조회하므로 본문 TEXT 전체와 작성자 조회가 생략됩니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<DiarySummaryDto> findDiarySummariesByUser(UserDetails userDetails, Pageable pageable) {
+        return diaryRepository.findSummariesByUserId(resolveUserId(userDetails), pageable);
+    }
+
+    /**
+     * 커서 기반 일기 목록 조회 (무한 스크롤)
+     * @param userDetails 인증 사용자
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 일기 목록과 다음 커서
+     * @Description 최신순(created_at DESC, id DESC)으로 커서 이후 항목만 조회하므로 스크롤 깊이와 무관하게 일정한 비용이 들고,
+     *              전체 건수 count 쿼리를 실행하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public DiaryCursorResponse findDiariesByCursor(UserDetails userDetails, String cursor, int size) {
+        Long userId = resolveUserId(userDetails);
+        Pageable limit = PageRequest.of(0, size);
+
+        Slice<Diary> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = diaryRepository.findFirstSliceByUserId(userId, limit);
+        } else {
+            DiaryCursor after = DiaryCursor.decode(cursor);
+            slice = diaryRepository.findSliceByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+        }
+
+        List<Diary> diaries = slice.getContent();
+        String nextCursor = slice.hasNext() && !diaries.isEmpty()
+                ? DiaryCursor.of(diaries.get(diaries.size() - 1)).encode()
+                : null;
+        return new DiaryCursorResponse(diaries.stream().map(this::convertToResponseDto).toList(), nextCursor, slice.hasNext());
+    }
+
     @Transactional(readOnly = true)
     public DiaryResponseDto findDiaryById(Long diaryId) {
-        User currentUser = getCurrentUser();
-        Diary diary = diaryRepository.findByIdAndUser_Id(diaryId, currentUser.getId())
+        Diary diary = diaryRepository.findByIdAndUser_Id(diaryId, getCurrentUserId())
                 .orElseThrow(() -> new EntityNotFoundException("Diary not found"));
 
         return convertToResponseDto(diary);
     }
 
     /**
-     * 검색어로 일기 조회
+     * 일기 버전 조회 (조건부 GET)
+     * @param diaryId 일기 ID
+     * @return 일기의 수정 횟수와 일기, 작성자의 수정 시각으로 만든 버전 (수정 시각은 초 단위라 같은 초의 수정은 수정 횟수로 구분)
+     * @Description 엔티티와 본문을 읽지 않으므로 304 응답은 이 조회 한 번으로 끝납니다.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion findDiaryVersion(Long diaryId) {
+        DiaryRepository.VersionView version = diaryRepository.findVersionByIdAndUserId(diaryId, getCurrentUserId())
+                .orElseThrow(() -> new EntityNotFoundException("Diary not found"));
+        return ResourceVersion.of("diary-" + diaryId + "-v" + version.getDiaryVersion(),
+                version.getDiaryUpdatedAt(), version.getUserUpdatedAt());
+    }
+
+    /**
+     * 검색어로 일기 조회 (기존 페이지 API 호환)
+     * @Description 검색 엔진의 관련도 순 결과를 페이지 단위로 반환합니다.
+     *              전체 건수를 세지 않으므로 totalElements 는 현재 페이지까지의 건수(다음 페이지가 있으면 +1)입니다.
      */
     @Transactional(readOnly = true)
     public Page<DiaryResponseDto> searchDiaries(UserDetails userDetails, String searchQuery, Pageable pageable) {
-        User user = findUserByUsernameOrEmail(userDetails.getUsername());
-        
-        // 제목이나 내용에 검색어가 포함된 일기 조회
-        Page<Diary> diaries = diaryRepository.findByUserAndTitleContainingOrUserAndContentContaining(
-                user, searchQuery, user, searchQuery, pageable);
-        
-        return diaries.map(this::convertToResponseDto);
+        return searchPage(resolveUserId(userDetails), searchQuery, pageable,
+                (userId, ids) -> diaryRepository.findByUser_IdAndIdIn(userId, ids).stream()
+                        .map(this::convertToResponseDto)
+                        .toList(),
+                DiaryResponseDto::getId);
+    }
+
+    /**
+     * 검색어로 일기 요약 조회 (view=summary)
+     */
+    @Transactional(readOnly = true)
+    public Page<DiarySummaryDto> searchDiarySummaries(UserDetails userDetails, String searchQuery, Pageable pageable) {
+        return searchPage(resolveUserId(userDetails), searchQuery, pageable,
+                diaryRepository::findSummariesByUserIdAndIdIn, DiarySummaryDto::id);
+    }
+
+    /**
+     * 일기 전문 검색 (관련도 순, 커서 기반)
+     * @param userDetails 인증 사용자
+     * @param searchQuery 검색어
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 하이라이트 문구를 포함한 검색 결과와 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public DiarySearchResponse searchDiariesByCursor(UserDetails userDetails, String searchQuery, String cursor, int size) {
+        DiarySearchCursor after = cursor == null || cursor.isBlank() ? null : DiarySearchCursor.decode(cursor);
+        DiarySearchResult result = diarySearchEngine.search(
+                new DiarySearchRequest(resolveUserId(userDetails), searchQuery, after, 0, size));
+
+        List<DiarySearchResponse.Item> items = result.hits().stream()
+                .map(hit -> new DiarySearchResponse.Item(hit.diaryId(), hit.title(), hit.highlight(), hit.score(), hit.createdAt()))
+                .toList();
+        DiarySearchCursor next = result.nextCursor();
+        return new DiarySearchResponse(items, next != null ? next.encode() : null, result.hasNext());
     }
 
     /**
@@ -148,49 +287,139 @@ public class DiaryManagementService {
      */
     @Transactional(readOnly = true)
     public Page<DiaryResponseDto> findDiariesByDate(UserDetails userDetails, String dateString, Pageable pageable) {
-        User user = findUserByUsernameOrEmail(userDetails.getUsername());
         LocalDate date = LocalDate.parse(dateString);
         
-        Page<Diary> diaries = diaryRepository.findByUserAndDate(user, date, pageable);
+        Page<Diary> diaries = diaryRepository.findByUser_IdAndDate(resolveUserId(userDetails), date, pageable);
         return diaries.map(this::convertToResponseDto);
     }
 
     /**
-     * 월별 일기 작성 날짜 목록 조회 (달력 표시용)
+     * 특정 날짜의 일기 요약 조회 (view=summary)
      */
     @Transactional(readOnly = true)
+    public Page<DiarySummaryDto> findDiarySummariesByDate(UserDetails userDetails, String dateString, Pageable pageable) {
+        return diaryRepository.findSummariesByUserIdAndDate(resolveUserId(userDetails), LocalDate.parse(dateString), pageable);
+    }
+
+    /**
+     * 월별 일기 작성 날짜 목록 조회 (달력 표시용)
+     * @Description 달력 비트맵에서 날짜를 만들며, 비트맵이 없는 달은 계산하여 저장하므로 쓰기 트랜잭션을 사용합니다.
+     */
     public List<String> findDiaryDatesByMonth(UserDetails userDetails, String monthString) {
-        User user = findUserByUsernameOrEmail(userDetails.getUsername());
-        
         // monthString format: "YYYY-MM"
-        String[] parts = monthString.split("-");
-        int year = Integer.parseInt(parts[0]);
-        int month = Integer.parseInt(parts[1]);
-        
-        LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        
-        return diaryRepository.findDistinctDatesByUserAndDateBetween(user, startDate, endDate)
-                .stream()
-                .map(LocalDate::toString)
-                .sorted()
-                .toList();
+        YearMonth month;
+        try {
+            month = YearMonth.parse(monthString.trim());
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorType.INVALID_REQUEST, "month 는 YYYY-MM 형식이어야 합니다.");
+        }
+        return DiaryCalendarService.toDates(month, diaryCalendarService.monthMask(resolveUserId(userDetails), month));
+    }
+
+    /**
+     * 연간 일기 작성일 비트맵 조회 (달력 화면 12개월 한 번에)
+     * @param userDetails 인증 사용자
+     * @param year 연도
+     * @return 1월부터 12월까지의 작성일 비트맵
+     */
+    public DiaryCalendarResponse findDiaryCalendarByYear(UserDetails userDetails, int year) {
+        if (year < 1 || year > 9999) {
+            throw new CustomException(ErrorType.INVALID_REQUEST, "year 가 올바르지 않습니다.");
+        }
+        int[] masks = diaryCalendarService.yearMasks(resolveUserId(userDetails), year);
+        return new DiaryCalendarResponse(year, Arrays.stream(masks).boxed().toList());
     }
 
-    private User getCurrentUser() {
+    /**
+     * 일기 내보내기 (NDJSON, AI 분석 포함)
+     * @param userDetails 인증 사용자
+     * @param out 응답 스트림
+     * @Description 응답을 쓰는 동안 트랜잭션을 유지하지 않도록 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportDiaries(UserDetails userDetails, OutputStream out) throws IOException {
+        diaryTransferService.export(resolveUserId(userDetails), out);
+    }
+
+    /**
+     * 일기 가져오기 (NDJSON)
+     * @param userDetails 인증 사용자
+     * @param in 요청 본문
+     * @return 저장 건수
+     * @Description 배치 단위로 커밋하므로 전체를 하나의 트랜잭션으로 묶지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DiaryImportResponse importDiaries(UserDetails userDetails, InputStream in) throws IOException {
+        return diaryTransferService.importDiaries(resolveUserId(userDetails), in);
+    }
+
+    private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return findUserByUsernameOrEmail(username);
+        if (authentication.getPrincipal() instanceof PrincipalDetails principal && principal.getUid() != null) {
+            return principal.getUid();
+        }
+        return findUserByUsernameOrEmail(authentication.getName()).getId();
+    }
+
+    // 토큰의 uid 클레임을 그대로 사용하고, uid 가 없는 이전 토큰만 이메일 또는 로그인 ID 로 조회
+    private Long resolveUserId(UserDetails userDetails) {
+        if (userDetails instanceof PrincipalDetails principal && principal.getUid() != null) {
+            return principal.getUid();
+        }
+        return findUserByUsernameOrEmail(userDetails.getUsername()).getId();
+    }
+
+    // 검색 엔진의 관련도 순서를 유지하며 ID 목록을 응답 항목으로 변환 (다른 사용자의 일기는 조회 조건에서 제외)
+    private <T> Page<T> searchPage(Long userId, String searchQuery, Pageable pageable,
+                                   BiFunction<Long, Collection<Long>, List<T>> loader, Function<T, Long> idOf) {
+        DiarySearchResult result = diarySearchEngine.search(
+                new DiarySearchRequest(userId, searchQuery, null, pageable.getOffset(), pageable.getPageSize()));
+
+        List<Long> ids = result.hits().stream().map(DiarySearchResult.Hit::diaryId).toList();
+        Map<Long, T> items = ids.isEmpty()
+                ? Map.of()
+                : loader.apply(userId, ids).stream().collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> content = ids.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, pageable.getOffset() + content.size() + (result.hasNext() ? 1 : 0));
+    }
+
+    // 비동기 분석이 커밋 전의 일기(이전 본문, 이전 해시)를 읽지 않도록 커밋 후 요청
+    private void requestAnalysisAfterCommit(Long diaryId, String username) {
+        Runnable request = () -> {
+            try {
+                diaryService.requestAnalysis(diaryId, username);
+            } catch (Exception e) {
+                // AI 분석 실패가 일기 저장 자체에 영향을 주지 않도록 예외를 던지지 않음
+                log.error("비동기 분석 요청 중 오류 발생: {}", e.getMessage(), e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            request.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                request.run();
+            }
+        });
+    }
+
+    // 검색 색인 실패가 일기 저장을 막지 않도록 기록만 남김 (MariaDB 엔진은 다음 기동 시 누락분을 다시 색인)
+    private void indexForSearch(Diary diary) {
+        try {
+            diarySearchEngine.index(diary);
+        } catch (Exception e) {
+            log.warn("일기 검색 색인 실패: 일기 ID={}, 원인={}", diary.getId(), e.getMessage());
+        }
     }
 
+    // 이메일 또는 로그인 ID 로 한 번에 조회 (캐시 적중 시 DB 조회 없음)
     private User findUserByUsernameOrEmail(String username) {
-        // Try finding by loginId first (findByUserName calls findByLoginId)
-        return userRepository.findByUserName(username)
-                .or(() -> {
-                    // If not found, try by email
-                    log.warn("User not found with login_id: {}. Trying by email.", username);
-                    return userRepository.findByEmail(username);
-                })
+        return userPrincipalCache.find(username)
                 .orElseThrow(() -> {
                     log.error("User not found with login_id or email: {}", username);
                     return new EntityNotFoundException("User not found: " + username);
@@ -198,11 +427,15 @@ public class DiaryManagementService {
     }
 
     private DiaryResponseDto convertToResponseDto(Diary diary) {
+        return convertToResponseDto(diary, diary.getUser().getNickname());
+    }
+
+    private DiaryResponseDto convertToResponseDto(Diary diary, String userName) {
         return DiaryResponseDto.builder()
                 .id(diary.getId())
                 .title(diary.getTitle())
                 .content(diary.getContent())
-                .userName(diary.getUser().getNickname())
+                .userName(userName)
                 .createdAt(diary.getCreatedAt())
                 .updatedAt(diary.getUpdatedAt())
                 .build();
@@ -0,0 +1,316 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.DiaryTransferProperties;
+import com.authentication.auth.diary.dto.DiaryExportRecord;
+import com.authentication.auth.diary.dto.DiaryImportResponse;
+import com.authentication.auth.domain.AIResponse;
+import com.authentication.auth.domain.Diary;
+import com.authentication.auth.domain.User;
+import com.authentication.auth.domain.id.TimeSortedIds;
+import com.authentication.auth.exception.CustomException;
+import com.authentication.auth.exception.ErrorType;
+import com.authentication.auth.repository.AIResponseRepository;
+import com.authentication.auth.repository.UserRepository;
+import com.authentication.auth.service.diary.search.DiarySearchEngine;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 일기 내보내기/가져오기 서비스 (NDJSON, 한 줄에 일기 1건)
+ * 내보내기는 forward-only JDBC 커서로 일기를 읽으면서 batchSize 단위로 ai_responses 를 함께 조회하여 바로 출력하고,
+ * 가져오기는 한 줄씩 읽어 batchSize 단위로 INSERT 하므로 일기 수와 관계없이 한 배치만큼의 메모리만 사용합니다.
+ */
+@Slf4j
+@Service
+public class DiaryTransferService {
+
+    private static final String EXPORT_SQL = """
+            SELECT id, title, date, content, is_negative, alternative_thought, created_at, updated_at
+            FROM diary
+            WHERE user_id = ?
+            ORDER BY id
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO diary (id, user_id, title, date, content, content_hash, is_negative, alternative_thought,
+                               created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AIResponseRepository aiResponseRepository;
+    private final UserRepository userRepository;
+    private final DiaryCalendarService diaryCalendarService;
+    private final DiarySearchEngine diarySearchEngine;
+    private final DiaryTransferProperties properties;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public DiaryTransferService(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                AIResponseRepository aiResponseRepository,
+                                UserRepository userRepository,
+                                DiaryCalendarService diaryCalendarService,
+                                DiarySearchEngine diarySearchEngine,
+                                DiaryTransferProperties properties,
+                                ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.aiResponseRepository = aiResponseRepository;
+        this.userRepository = userRepository;
+        this.diaryCalendarService = diaryCalendarService;
+        this.diarySearchEngine = diarySearchEngine;
+        this.properties = properties;
+        // 한 줄씩 이어서 쓰므로 값마다 출력 스트림을 닫지 않음
+        this.writer = objectMapper.writerFor(DiaryExportRecord.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.reader = objectMapper.readerFor(DiaryExportRecord.class);
+    }
+
+    /**
+     * 사용자의 일기 전체를 NDJSON 으로 출력
+     * @param userId 사용자 ID
+     * @param out 응답 스트림
+     * @Description 작성 순서(id 오름차순)로 출력하며, 클라이언트 연결이 끊기면 커서를 닫고 IOException 을 던집니다.
+     */
+    public void export(Long userId, OutputStream out) throws IOException {
+        int batchSize = Math.max(1, properties.batchSize());
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        List<DiaryExportRecord> pending = new ArrayList<>(batchSize);
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(Math.max(1, properties.fetchSize()));
+                statement.setLong(1, userId);
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                pending.add(toRecord(rs));
+                if (pending.size() >= batchSize) {
+                    writeBatch(pending, buffered);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writeBatch(pending, buffered);
+        buffered.flush();
+    }
+
+    /**
+     * NDJSON 으로 일기 가져오기
+     * @param userId 사용자 ID
+     * @param in 요청 본문
+     * @return 저장한 일기와 AI 분석 수
+     * @Description 배치마다 별도 트랜잭션으로 저장하므로, 형식 오류가 있으면 그 줄이 속한 배치부터 저장되지 않고
+     *              이전 배치는 유지됩니다. 가져온 일기는 AI 분석을 다시 요청하지 않습니다.
+     */
+    public DiaryImportResponse importDiaries(Long userId, InputStream in) throws IOException {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND));
+        int batchSize = Math.max(1, properties.batchSize());
+        List<DiaryExportRecord> batch = new ArrayList<>(batchSize);
+        int imported = 0;
+        int analyses = 0;
+        int lineNumber = 0;
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(parse(line, lineNumber, imported));
+            if (batch.size() >= batchSize) {
+                analyses += saveBatch(user, batch);
+                imported += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            analyses += saveBatch(user, batch);
+            imported += batch.size();
+        }
+        log.info("일기 가져오기 완료: 사용자 ID={}, 일기={}건, 분석={}건", userId, imported, analyses);
+        return new DiaryImportResponse(imported, analyses);
+    }
+
+    private DiaryExportRecord parse(String line, int lineNumber, int imported) {
+        DiaryExportRecord record;
+        try {
+            record = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorType.INVALID_REQUEST,
+                    lineNumber + "번째 줄을 읽을 수 없습니다. (이전 " + imported + "건은 저장됨)");
+        }
+        if (record.date() == null || record.content() == null || record.content().isBlank()) {
+            throw new CustomException(ErrorType.INVALID_REQUEST,
+                    lineNumber + "번째 줄에 date 또는 content 가 없습니다. (이전 " + imported + "건은 저장됨)");
+        }
+        return record;
+    }
+
+    // 일기는 한 번의 배치 INSERT 로 저장하고, 커밋 후 새 ID 로 AI 분석을 저장 (Mongo 는 트랜잭션에 포함되지 않음)
+    private int saveBatch(User user, List<DiaryExportRecord> batch) {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> keys = insertDiaries(user.getId(), batch);
+            Set<YearMonth> months = new LinkedHashSet<>();
+            for (int i = 0; i < batch.size(); i++) {
+                DiaryExportRecord record = batch.get(i);
+                months.add(YearMonth.from(record.date()));
+                indexForSearch(user, keys.get(i), record);
+            }
+            months.forEach(month -> diaryCalendarService.onDiaryAdded(user.getId(), month.atDay(1)));
+            return keys;
+        });
+
+        List<AIResponse> responses = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            DiaryExportRecord record = batch.get(i);
+            if (record.analysis() != null) {
+                AIResponse response = record.analysis().toResponse(ids.get(i), user.getLoginId(), record.title(), record.content());
+                response.setContentHash(Diary.contentHashOf(record.title(), record.content()));
+                responses.add(response);
+            }
+        }
+        if (!responses.isEmpty()) {
+            aiResponseRepository.saveAll(responses);
+        }
+        return responses.size();
+    }
+
+    // ID 를 미리 발급하므로 생성 키를 돌려받지 않고 한 번의 배치로 INSERT
+    private List<Long> insertDiaries(Long userId, List<DiaryExportRecord> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            ids.add(TimeSortedIds.next());
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DiaryExportRecord record = batch.get(i);
+                LocalDateTime createdAt = record.createdAt() != null ? record.createdAt() : now;
+                ps.setLong(1, ids.get(i));
+                ps.setLong(2, userId);
+                ps.setString(3, record.title());
+                ps.setDate(4, Date.valueOf(record.date()));
+                ps.setString(5, record.content());
+                ps.setString(6, Diary.contentHashOf(record.title(), record.content()));
+                if (record.isNegative() != null) {
+                    ps.setBoolean(7, record.isNegative());
+                } else {
+                    ps.setNull(7, Types.BOOLEAN);
+                }
+                ps.setString(8, record.alternativeThought());
+                ps.setTimestamp(9, Timestamp.valueOf(createdAt));
+                ps.setTimestamp(10, Timestamp.valueOf(record.updatedAt() != null ? record.updatedAt() : createdAt));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+        return ids;
+    }
+
+    // 검색 색인 실패가 가져오기를 막지 않도록 기록만 남김 (MariaDB 엔진은 다음 기동 시 누락분을 다시 색인)
+    private void indexForSearch(User user, Long diaryId, DiaryExportRecord record) {
+        try {
+            diarySearchEngine.index(Diary.builder()
+                    .id(diaryId)
+                    .user(user)
+                    .title(record.title())
+                    .date(record.date())
+                    .content(record.content())
+                    .createdAt(record.createdAt())
+                    .build());
+        } catch (Exception e) {
+            log.warn("일기 검색 색인 실패: 일기 ID={}, 원인={}", diaryId, e.getMessage());
+        }
+    }
+
+    private void writeBatch(List<DiaryExportRecord> pending, OutputStream out) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = pending.stream().map(DiaryExportRecord::sourceId).toList();
+        // 재분석으로 같은 일기에 여러 문서가 있으면 최신 문서를 사용
+        BinaryOperator<AIResponse> latest = (a, b) -> Comparator
+                .comparing(AIResponse::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .compare(a, b) >= 0 ? a : b;
+        Map<Long, AIResponse> responses = aiResponseRepository.findByDiaryIdIn(ids).stream()
+                .collect(Collectors.toMap(AIResponse::getDiaryId, response -> response, latest));
+        try {
+            for (DiaryExportRecord record : pending) {
+                AIResponse response = responses.get(record.sourceId());
+                DiaryExportRecord line = response == null ? record : new DiaryExportRecord(
+                        record.sourceId(), record.title(), record.date(), record.content(), record.isNegative(),
+                        record.alternativeThought(), record.createdAt(), record.updatedAt(),
+                        DiaryExportRecord.Analysis.of(response));
+                writer.writeValue(out, line);
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pending.clear();
+    }
+
+    private static DiaryExportRecord toRecord(ResultSet rs) throws SQLException {
+        Date date = rs.getDate("date");
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        Boolean isNegative = rs.getBoolean("is_negative");
+        if (rs.wasNull()) {
+            isNegative = null;
+        }
+        return new DiaryExportRecord(
+                rs.getLong("id"),
+                rs.getString("title"),
+                date != null ? date.toLocalDate() : null,
+                rs.getString("content"),
+                isNegative,
+                rs.getString("alternative_thought"),
+                createdAt != null ? createdAt.toLocalDateTime() : null,
+                updatedAt != null ? updatedAt.toLocalDateTime() : null,
+                null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.authentication.auth.service.diary.search;
+
+import com.authentication.auth.exception.CustomException;
+import com.authentication.auth.exception.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 결과 커서 (score DESC, diaryId DESC 정렬 기준의 마지막 항목 위치)
+ *
+ * @param score 마지막 항목의 관련도
+ * @param diaryId 마지막 항목의 일기 ID
+ */
+public record DiarySearchCursor(double score, long diaryId) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = Double.toString(score) + SEPARATOR + diaryId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode() 로 만든 문자열
+     * @return 커서
+     * @throws CustomException 형식이 올바르지 않은 경우 (INVALID_REQUEST)
+     */
+    public static DiarySearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("separator not found");
+            }
+            return new DiarySearchCursor(Double.parseDouble(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorType.INVALID_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.authentication.auth.service.diary.search;
+
+import com.authentication.auth.domain.Diary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+import java.time.LocalDateTime;
+
+/**
+ * Elasticsearch 일기 검색 문서
+ * 제목과 본문은 bigram 분석기(diary_bigram)로 색인하여 MariaDB 엔진과 같은 방식으로 한국어 부분 일치를 지원합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(indexName = "diary", createIndex = false)
+@Setting(settingPath = "elasticsearch/diary-settings.json")
+public class DiarySearchDocument {
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Long)
+    private Long diaryId;
+
+    @Field(type = FieldType.Long)
+    private Long userId;
+
+    @Field(type = FieldType.Text, analyzer = "diary_bigram")
+    private String title;
+
+    @Field(type = FieldType.Text, analyzer = "diary_bigram")
+    private String content;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+    private LocalDateTime createdAt;
+
+    public static DiarySearchDocument of(Diary diary) {
+        return DiarySearchDocument.builder()
+                .id(String.valueOf(diary.getId()))
+                .diaryId(diary.getId())
+                .userId(diary.getUser().getId())
+                .title(diary.getTitle())
+                .content(diary.getContent())
+                .createdAt(diary.getCreatedAt())
+                .build();
+    }
+}
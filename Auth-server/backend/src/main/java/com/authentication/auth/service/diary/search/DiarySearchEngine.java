@@ -0,0 +1,30 @@
+package com.authentication.auth.service.diary.search;
+
+import com.authentication.auth.domain.Diary;
+
+/**
+ * 일기 전문 검색 엔진
+ * 일기 생성/수정/삭제 시 증분 색인되며, 사용자별로 관련도 순 결과와 하이라이트 문구를 커서 기반으로 반환합니다.
+ * 구현체는 diary.search.engine 설정으로 선택합니다. (mariadb, elasticsearch)
+ */
+public interface DiarySearchEngine {
+
+    /**
+     * 일기 색인 (이미 있으면 갱신)
+     * @param diary 저장된 일기 (ID 필수)
+     */
+    void index(Diary diary);
+
+    /**
+     * 일기 색인 제거
+     * @param diaryId 일기 ID
+     */
+    void delete(Long diaryId);
+
+    /**
+     * 일기 검색
+     * @param request 검색 조건
+     * @return 관련도(score DESC, diaryId DESC) 순 결과
+     */
+    DiarySearchResult search(DiarySearchRequest request);
+}
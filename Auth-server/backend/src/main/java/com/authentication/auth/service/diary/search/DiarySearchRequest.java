@@ -0,0 +1,19 @@
+package com.authentication.auth.service.diary.search;
+
+/**
+ * 일기 검색 조건
+ *
+ * @param userId 작성자 ID
+ * @param text 검색어
+ * @param after 이전 결과의 마지막 위치 (첫 페이지 또는 offset 조회는 null)
+ * @param offset 건너뛸 결과 수 (after 가 있으면 무시, 기존 페이지 API 호환용)
+ * @param size 최대 결과 수
+ */
+public record DiarySearchRequest(
+        Long userId,
+        String text,
+        DiarySearchCursor after,
+        long offset,
+        int size
+) {
+}
@@ -0,0 +1,42 @@
+package com.authentication.auth.service.diary.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일기 검색 결과 한 페이지
+ *
+ * @param hits 검색 결과
+ * @param hasNext 다음 결과 존재 여부
+ */
+public record DiarySearchResult(List<Hit> hits, boolean hasNext) {
+
+    public DiarySearchResult {
+        hits = hits == null ? List.of() : List.copyOf(hits);
+    }
+
+    public static DiarySearchResult empty() {
+        return new DiarySearchResult(List.of(), false);
+    }
+
+    /**
+     * @return 다음 요청에 전달할 커서 (마지막 페이지면 null)
+     */
+    public DiarySearchCursor nextCursor() {
+        if (!hasNext || hits.isEmpty()) {
+            return null;
+        }
+        Hit last = hits.get(hits.size() - 1);
+        return new DiarySearchCursor(last.score(), last.diaryId());
+    }
+
+    /**
+     * @param diaryId 일기 ID
+     * @param title 제목
+     * @param highlight 검색어를 &lt;em&gt; 으로 감싼 본문 일부 (HTML 이스케이프 처리됨)
+     * @param score 관련도
+     * @param createdAt 작성 시각
+     */
+    public record Hit(Long diaryId, String title, String highlight, double score, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.authentication.auth.service.diary.search;
+
+import org.apache.commons.text.StringEscapeUtils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색어/본문 분석 유틸리티
+ * 한국어는 조사가 붙어 띄어쓰기 단위 단어로는 검색되지 않으므로("친구와", "친구를") 2글자 단위(bigram)로 색인합니다.
+ * MariaDB 에는 ngram 파서가 없어 애플리케이션에서 bigram 을 만들고, 기본 파서가 그대로 한 단어로 인식하도록
+ * 접두 문자를 붙여 저장합니다. (innodb_ft_min_token_size 기본값 3 을 만족하고 불용어와 겹치지 않음)
+ */
+public final class DiarySearchText {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String TOKEN_PREFIX = "g";
+    private static final String ELLIPSIS = "…";
+
+    private DiarySearchText() {
+    }
+
+    /**
+     * @param text 검색어 또는 본문
+     * @return 정규화(NFKC, 소문자)한 단어 목록 (중복 제거, 순서 유지)
+     */
+    public static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : WORD_SEPARATOR.split(normalized)) {
+            if (!word.isEmpty()) {
+                terms.add(word);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    /**
+     * 색인용 토큰 문자열
+     * @param title 제목
+     * @param content 본문
+     * @return 공백으로 구분한 접두 bigram 토큰 (1글자 단어는 제외)
+     */
+    public static String indexTokens(String title, String content) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigrams(terms(title), tokens);
+        addBigrams(terms(content), tokens);
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * MATCH ... AGAINST (... IN BOOLEAN MODE) 에 사용할 검색식
+     * @param text 검색어
+     * @return 모든 bigram 을 필수(+)로 요구하는 검색식 (2글자 이상 단어가 없으면 빈 문자열)
+     *         1글자 단어는 색인 토큰이 없으므로 검색식에서 제외되며, 1글자 단어만 있으면 호출자가 LIKE 로 대신 검색합니다.
+     */
+    public static String booleanQuery(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        addBigrams(terms(text), tokens);
+        StringBuilder query = new StringBuilder();
+        for (String token : tokens) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(token);
+        }
+        return query.toString();
+    }
+
+    /**
+     * 검색어가 처음 나타나는 위치 주변을 잘라 검색어를 &lt;em&gt; 으로 감싼 문구
+     * @param text 본문
+     * @param terms 검색어 단어 목록 (terms() 결과)
+     * @param length 문구 길이 (문자 수)
+     * @return HTML 이스케이프 처리된 문구
+     */
+    public static String highlight(String text, List<String> terms, int length) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        // 긴 단어를 먼저 비교하여 겹치는 단어 중 가장 긴 것을 감쌈
+        List<String> candidates = new ArrayList<>(terms);
+        candidates.sort(Comparator.comparingInt(String::length).reversed());
+
+        int first = -1;
+        for (String term : candidates) {
+            int index = indexOfIgnoreCase(text, term);
+            if (index >= 0 && (first < 0 || index < first)) {
+                first = index;
+            }
+        }
+        int start = first < 0 ? 0 : Math.max(0, first - length / 4);
+        int end = Math.min(text.length(), start + Math.max(1, length));
+        if (start > 0 && Character.isLowSurrogate(text.charAt(start))) {
+            start++;
+        }
+        if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+
+        StringBuilder out = new StringBuilder(end - start + 16);
+        if (start > 0) {
+            out.append(ELLIPSIS);
+        }
+        int plainStart = start;
+        int i = start;
+        while (i < end) {
+            String matched = matchAt(text, i, end, candidates);
+            if (matched == null) {
+                i++;
+                continue;
+            }
+            out.append(StringEscapeUtils.escapeHtml4(text.substring(plainStart, i)))
+                    .append("<em>")
+                    .append(StringEscapeUtils.escapeHtml4(text.substring(i, i + matched.length())))
+                    .append("</em>");
+            i += matched.length();
+            plainStart = i;
+        }
+        out.append(StringEscapeUtils.escapeHtml4(text.substring(plainStart, end)));
+        if (end < text.length()) {
+            out.append(ELLIPSIS);
+        }
+        return out.toString();
+    }
+
+    private static void addBigrams(List<String> words, Set<String> tokens) {
+        for (String word : words) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(TOKEN_PREFIX + new String(codePoints, i, 2));
+            }
+        }
+    }
+
+    private static String matchAt(String text, int index, int end, List<String> terms) {
+        for (String term : terms) {
+            if (!term.isEmpty() && index + term.length() <= end && text.regionMatches(true, index, term, 0, term.length())) {
+                return term;
+            }
+        }
+        return null;
+    }
+
+    private static int indexOfIgnoreCase(String text, String term) {
+        if (term.isEmpty()) {
+            return -1;
+        }
+        for (int i = 0; i + term.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, term, 0, term.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,176 @@
+package com.authentication.auth.service.diary.search;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import com.authentication.auth.configuration.search.DiarySearchProperties;
+import com.authentication.auth.diary.repository.DiaryRepository;
+import com.authentication.auth.domain.Diary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightFieldParameters;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Elasticsearch 기반 일기 검색 엔진 (diary.search.engine=elasticsearch)
+ * 색인 요청은 DB 트랜잭션 커밋 후에 전송하여 롤백된 일기가 검색되지 않도록 합니다.
+ * 색인 실패는 기록만 하며, 인덱스를 새로 만든 경우 기동 시 전체 일기를 다시 색인합니다.
+ * 로컬 확인은 docker-compose.search.yml 의 단일 노드 Elasticsearch 를 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "diary.search", name = "engine", havingValue = "elasticsearch")
+public class ElasticsearchDiarySearchEngine implements DiarySearchEngine {
+
+    private final ElasticsearchOperations operations;
+    private final DiaryRepository diaryRepository;
+    private final DiarySearchProperties properties;
+    private final HighlightQuery highlightQuery;
+
+    public ElasticsearchDiarySearchEngine(ElasticsearchOperations operations,
+                                          DiaryRepository diaryRepository,
+                                          DiarySearchProperties properties) {
+        this.operations = operations;
+        this.diaryRepository = diaryRepository;
+        this.properties = properties;
+        // 본문은 html 인코더로 이스케이프한 뒤 <em> 태그를 붙임 (MariaDB 엔진과 같은 형식)
+        this.highlightQuery = new HighlightQuery(new Highlight(
+                HighlightParameters.builder().withEncoder("html").build(),
+                List.of(new HighlightField("content", HighlightFieldParameters.builder()
+                        .withFragmentSize(properties.snippetLength())
+                        .withNumberOfFragments(1)
+                        .build()))),
+                DiarySearchDocument.class);
+    }
+
+    @Override
+    public void index(Diary diary) {
+        DiarySearchDocument document = DiarySearchDocument.of(diary);
+        afterCommit(() -> operations.save(document), diary.getId());
+    }
+
+    @Override
+    public void delete(Long diaryId) {
+        afterCommit(() -> operations.delete(String.valueOf(diaryId), DiarySearchDocument.class), diaryId);
+    }
+
+    @Override
+    public DiarySearchResult search(DiarySearchRequest request) {
+        List<String> terms = DiarySearchText.terms(request.text());
+        if (terms.isEmpty()) {
+            return DiarySearchResult.empty();
+        }
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .filter(f -> f.term(t -> t.field("userId").value(request.userId())))
+                        .must(m -> m.multiMatch(mm -> mm
+                                .query(request.text())
+                                .fields("title^2", "content")
+                                .operator(Operator.And)))))
+                .withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("diaryId").order(SortOrder.Desc)))
+                .withHighlightQuery(highlightQuery);
+
+        DiarySearchCursor after = request.after();
+        boolean cursorMode = after != null || request.offset() == 0;
+        if (after != null) {
+            builder.withSearchAfter(List.of(after.score(), after.diaryId()));
+        }
+        // 커서 방식은 1건 더 조회하여 다음 페이지 여부를 판단하고, offset 방식은 전체 건수로 판단
+        builder.withPageable(cursorMode
+                ? PageRequest.of(0, request.size() + 1)
+                : PageRequest.of((int) (request.offset() / request.size()), request.size()));
+
+        SearchHits<DiarySearchDocument> searchHits = operations.search(builder.build(), DiarySearchDocument.class);
+        List<DiarySearchResult.Hit> hits = new ArrayList<>(searchHits.getSearchHits().size());
+        for (SearchHit<DiarySearchDocument> searchHit : searchHits) {
+            DiarySearchDocument document = searchHit.getContent();
+            List<String> fragments = searchHit.getHighlightField("content");
+            String highlight = fragments.isEmpty()
+                    ? DiarySearchText.highlight(document.getContent(), terms, properties.snippetLength())
+                    : fragments.get(0);
+            hits.add(new DiarySearchResult.Hit(document.getDiaryId(), document.getTitle(), highlight,
+                    searchHit.getScore(), document.getCreatedAt()));
+        }
+
+        if (cursorMode) {
+            boolean hasNext = hits.size() > request.size();
+            return new DiarySearchResult(hasNext ? hits.subList(0, request.size()) : hits, hasNext);
+        }
+        return new DiarySearchResult(hits, request.offset() + hits.size() < searchHits.getTotalHits());
+    }
+
+    /**
+     * 기동 시 인덱스가 없으면 매핑과 함께 생성하고 기존 일기 전체를 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            IndexOperations indexOperations = operations.indexOps(DiarySearchDocument.class);
+            if (indexOperations.exists() || !properties.createSchema()) {
+                return;
+            }
+            indexOperations.createWithMapping();
+            log.info("일기 검색 인덱스 생성 완료, 기존 일기 {}건 색인", backfill());
+        } catch (Exception e) {
+            // 검색 색인 문제로 서비스 기동이 실패하지 않도록 기록만 남김
+            log.error("일기 검색 인덱스 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private long backfill() {
+        int batchSize = Math.max(1, properties.backfillBatchSize());
+        PageRequest pageRequest = PageRequest.of(0, batchSize, Sort.by("id"));
+        long total = 0;
+        Page<Diary> page;
+        do {
+            page = diaryRepository.findAll(pageRequest);
+            if (page.hasContent()) {
+                operations.save(page.getContent().stream().map(DiarySearchDocument::of).toList());
+                total += page.getNumberOfElements();
+            }
+            pageRequest = pageRequest.next();
+        } while (page.hasNext());
+        return total;
+    }
+
+    private void afterCommit(Runnable action, Long diaryId) {
+        Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("일기 검색 색인 실패: 일기 ID={}, 원인={}", diaryId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            guarded.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                guarded.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,194 @@
+package com.authentication.auth.service.diary.search;
+
+import com.authentication.auth.configuration.search.DiarySearchProperties;
+import com.authentication.auth.domain.Diary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MariaDB FULLTEXT 기반 일기 검색 엔진 (기본값)
+ * diary_search 테이블에 일기별 bigram 토큰을 저장하고 FULLTEXT 인덱스로 관련도 순 검색을 수행합니다.
+ * 일기 저장과 같은 트랜잭션에서 색인하므로 롤백 시 색인도 함께 취소되며, 일기 삭제 시 FK 로 함께 삭제됩니다.
+ * 1글자 단어만 있는 검색어는 bigram 이 없으므로 사용자의 최근 일기 범위에서 LIKE 로 찾습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "diary.search", name = "engine", havingValue = "mariadb", matchIfMissing = true)
+public class MariaDbDiarySearchEngine implements DiarySearchEngine {
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS diary_search (
+                diary_id BIGINT NOT NULL PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                tokens MEDIUMTEXT NOT NULL,
+                KEY idx_diary_search_user (user_id),
+                FULLTEXT KEY ft_diary_search_tokens (tokens),
+                FOREIGN KEY (diary_id) REFERENCES diary(id) ON DELETE CASCADE
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO diary_search (diary_id, user_id, tokens) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), tokens = VALUES(tokens)
+            """;
+
+    private static final String SEARCH_SELECT_SQL = """
+            SELECT s.diary_id, d.title, d.content, d.created_at,
+                   MATCH(s.tokens) AGAINST (? IN BOOLEAN MODE) AS score
+            FROM diary_search s
+            JOIN diary d ON d.id = s.diary_id
+            WHERE s.user_id = ? AND MATCH(s.tokens) AGAINST (? IN BOOLEAN MODE)
+            """;
+
+    // 최근 일기 N건으로 범위를 제한한 뒤 LIKE 조건을 적용 (관련도 구분이 없으므로 score 는 0, 최신순)
+    private static final String SHORT_QUERY_SELECT_SQL = """
+            SELECT d.id AS diary_id, d.title, d.content, d.created_at, 0 AS score
+            FROM (SELECT id, title, content, created_at FROM diary WHERE user_id = ? ORDER BY id DESC LIMIT ?) d
+            WHERE 1 = 1
+            """;
+
+    private static final String MISSING_SQL = """
+            SELECT d.id, d.user_id, d.title, d.content
+            FROM diary d
+            LEFT JOIN diary_search s ON s.diary_id = d.id
+            WHERE s.diary_id IS NULL
+            ORDER BY d.id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DiarySearchProperties properties;
+
+    public MariaDbDiarySearchEngine(JdbcTemplate jdbcTemplate, DiarySearchProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void index(Diary diary) {
+        jdbcTemplate.update(UPSERT_SQL, diary.getId(), diary.getUser().getId(),
+                DiarySearchText.indexTokens(diary.getTitle(), diary.getContent()));
+    }
+
+    @Override
+    public void delete(Long diaryId) {
+        jdbcTemplate.update("DELETE FROM diary_search WHERE diary_id = ?", diaryId);
+    }
+
+    @Override
+    public DiarySearchResult search(DiarySearchRequest request) {
+        List<String> terms = DiarySearchText.terms(request.text());
+        if (terms.isEmpty()) {
+            return DiarySearchResult.empty();
+        }
+        String query = DiarySearchText.booleanQuery(request.text());
+        if (query.isEmpty()) {
+            return searchShortQuery(request, terms);
+        }
+
+        StringBuilder sql = new StringBuilder(SEARCH_SELECT_SQL);
+        List<Object> args = new ArrayList<>(List.of(query, request.userId(), query));
+        DiarySearchCursor after = request.after();
+        if (after != null) {
+            sql.append(" HAVING score < ? OR (score = ? AND diary_id < ?)");
+            args.add(after.score());
+            args.add(after.score());
+            args.add(after.diaryId());
+        }
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        sql.append(" ORDER BY score DESC, s.diary_id DESC LIMIT ?");
+        args.add(request.size() + 1);
+        if (after == null && request.offset() > 0) {
+            sql.append(" OFFSET ?");
+            args.add(request.offset());
+        }
+
+        return query(sql.toString(), args, terms, request.size());
+    }
+
+    // 1글자 단어는 색인 토큰이 없으므로 모든 단어를 제목 또는 본문에 포함하는 일기를 찾음
+    // (단어는 문자/숫자로만 구성되어 LIKE 와일드카드 문자를 포함하지 않음)
+    private DiarySearchResult searchShortQuery(DiarySearchRequest request, List<String> terms) {
+        StringBuilder sql = new StringBuilder(SHORT_QUERY_SELECT_SQL);
+        List<Object> args = new ArrayList<>(List.of(request.userId(), Math.max(1, properties.shortQueryScanLimit())));
+        for (String term : terms) {
+            sql.append(" AND (d.title LIKE ? OR d.content LIKE ?)");
+            args.add("%" + term + "%");
+            args.add("%" + term + "%");
+        }
+        DiarySearchCursor after = request.after();
+        if (after != null) {
+            sql.append(" AND d.id < ?");
+            args.add(after.diaryId());
+        }
+        sql.append(" ORDER BY d.id DESC LIMIT ?");
+        args.add(request.size() + 1);
+        if (after == null && request.offset() > 0) {
+            sql.append(" OFFSET ?");
+            args.add(request.offset());
+        }
+        return query(sql.toString(), args, terms, request.size());
+    }
+
+    private DiarySearchResult query(String sql, List<Object> args, List<String> terms, int size) {
+        List<DiarySearchResult.Hit> hits = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new DiarySearchResult.Hit(
+                    rs.getLong("diary_id"),
+                    rs.getString("title"),
+                    DiarySearchText.highlight(rs.getString("content"), terms, properties.snippetLength()),
+                    rs.getDouble("score"),
+                    createdAt != null ? createdAt.toLocalDateTime() : null);
+        }, args.toArray());
+
+        boolean hasNext = hits.size() > size;
+        return new DiarySearchResult(hasNext ? hits.subList(0, size) : hits, hasNext);
+    }
+
+    /**
+     * 기동 시 검색 테이블을 만들고, 색인되지 않은 기존 일기를 배치로 색인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (properties.createSchema()) {
+                jdbcTemplate.execute(CREATE_TABLE_SQL);
+            }
+            int indexed = backfill();
+            if (indexed > 0) {
+                log.info("일기 검색 색인 {}건 추가", indexed);
+            }
+        } catch (Exception e) {
+            // 검색 색인 문제로 서비스 기동이 실패하지 않도록 기록만 남김
+            log.error("일기 검색 테이블 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    private int backfill() {
+        int batchSize = Math.max(1, properties.backfillBatchSize());
+        int total = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(MISSING_SQL, (rs, rowNum) -> new Object[]{
+                    rs.getLong("id"),
+                    rs.getLong("user_id"),
+                    DiarySearchText.indexTokens(rs.getString("title"), rs.getString("content"))
+            }, batchSize);
+            if (rows.isEmpty()) {
+                return total;
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            total += rows.size();
+            if (rows.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.authentication.auth.repository.AuthProviderRepository;
 import com.authentication.auth.repository.UserAuthenticationRepository;
 import com.authentication.auth.repository.UserRepository;
 import com.authentication.auth.service.redis.RedisService;
+import com.authentication.auth.service.security.UserPrincipalCache;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +47,7 @@ public class Oauth2Service {
     private final UserAuthenticationRepository userAuthenticationRepository;
     private final RestTemplate restTemplate;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Transactional
     public LoginResponse handleOauth2Login(Map<String, String> requestBody, HttpServletResponse httpServletResponse, String provider) {
@@ -59,7 +61,7 @@ public class Oauth2Service {
 
         User user = saveOrUpdateOauth2User(provider, oauthId, userProfile);
 
-        TokenDto appTokenDto = jwtUtility.buildToken(user.getNickname(), Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getUserRole())));
+        TokenDto appTokenDto = jwtUtility.buildToken(user.getNickname(), user.getId(), Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getUserRole())));
 
         if (refreshToken != null) {
             redisService.saveRToken(oauthId, provider, refreshToken);
@@ -78,6 +80,7 @@ public class Oauth2Service {
             String email = (String) userProfile.get("email");
             user.updateFromOauthProfile(email, user.getNickname());
             user = userRepository.save(user);
+            userPrincipalCache.evict(user);
         } else {
             String email = (String) userProfile.get("email");
             String nickname = (String) userProfile.get("nickname");
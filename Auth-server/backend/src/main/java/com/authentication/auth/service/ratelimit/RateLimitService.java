@@ -0,0 +1,192 @@
+package com.authentication.auth.service.ratelimit;
+
+import com.authentication.auth.configuration.ratelimit.RateLimitProperties;
+import com.authentication.auth.service.redis.RedisRoundTrips;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 제한 서비스
+ * 인스턴스별 토큰 버킷으로 먼저 거르고, 통과한 요청만 Redis 슬라이딩 윈도우로 전체 인스턴스 기준 한도를 확인합니다.
+ * 로컬에서 거부된 요청은 Redis 를 호출하지 않으며, Redis 장애 시에는 로컬 한도만 적용합니다.
+ */
+@Slf4j
+@Service
+public class RateLimitService implements MeterBinder {
+
+    private static final String KEY_PREFIX = "RATE:";
+
+    /**
+     * 슬라이딩 윈도우 스크립트 (ZSET 에 요청 시각을 기록하고 윈도우 밖 항목을 제거)
+     * KEYS[1] 제한 키, ARGV[1] 윈도우 (ms), ARGV[2] 허용 요청 수, ARGV[3] 요청 식별자
+     * 반환값: 0 허용, 양수 재시도까지 남은 시간 (ms)
+     * 인스턴스 간 시계 차이를 피하기 위해 Redis 서버 시각을 사용합니다.
+     */
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, now - window)
+            if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then
+                redis.call('ZADD', KEYS[1], now, ARGV[3])
+                redis.call('PEXPIRE', KEYS[1], window)
+                return 0
+            end
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            return math.max(1, tonumber(oldest[2]) + window - now)
+            """, Long.class);
+
+    private final RateLimitProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Rejections> rejections = new ConcurrentHashMap<>();
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RateLimitService(RateLimitProperties properties, StringRedisTemplate redisTemplate) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        properties.rules().forEach(rule -> rejections.put(rule.name(), new Rejections()));
+    }
+
+    /**
+     * 요청 허용 여부 확인
+     * @param rule 적용할 규칙
+     * @param key 제한 키 (IP, 이메일 등)
+     * @return 0 이면 허용, 양수면 재시도까지 기다려야 하는 시간 (ms)
+     */
+    public long tryAcquire(RateLimitProperties.Rule rule, String key) {
+        long windowMillis = Math.max(1, rule.window().toMillis());
+        long now = System.currentTimeMillis();
+
+        String bucketKey = rule.name() + ":" + key;
+        TokenBucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            if (buckets.size() >= properties.maxLocalKeys()) {
+                trim(now);
+            }
+            bucket = buckets.computeIfAbsent(bucketKey, k -> new TokenBucket(rule.limit(), windowMillis, now));
+        }
+        long localWait = bucket.tryConsume(now);
+        if (localWait > 0) {
+            rejectionsOf(rule).local.increment();
+            return localWait;
+        }
+        if (!properties.distributed()) {
+            return 0;
+        }
+
+        try {
+            RedisRoundTrips.record();
+            Long wait = redisTemplate.execute(SLIDING_WINDOW_SCRIPT,
+                    List.of(KEY_PREFIX + bucketKey),
+                    String.valueOf(windowMillis),
+                    String.valueOf(rule.limit()),
+                    instanceId + ":" + sequence.incrementAndGet());
+            if (wait != null && wait > 0) {
+                rejectionsOf(rule).distributed.increment();
+                return wait;
+            }
+            return 0;
+        } catch (Exception e) {
+            // Redis 장애가 로그인 불가로 이어지지 않도록 로컬 한도만 적용
+            log.warn("요청 제한 Redis 확인 실패, 로컬 한도만 적용: 규칙={}, 원인={}", rule.name(), e.getMessage());
+            return 0;
+        }
+    }
+
+    public int localBucketCount() {
+        return buckets.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        rejections.forEach((rule, counters) -> {
+            FunctionCounter.builder("rate.limit.rejections", counters.local, LongAdder::sum)
+                    .tag("rule", rule)
+                    .tag("source", "local")
+                    .description("Requests rejected by the rate limiter")
+                    .register(registry);
+            FunctionCounter.builder("rate.limit.rejections", counters.distributed, LongAdder::sum)
+                    .tag("rule", rule)
+                    .tag("source", "redis")
+                    .description("Requests rejected by the rate limiter")
+                    .register(registry);
+        });
+    }
+
+    private Rejections rejectionsOf(RateLimitProperties.Rule rule) {
+        return rejections.computeIfAbsent(rule.name(), name -> new Rejections());
+    }
+
+    // 가득 찬(오래 사용되지 않은) 버킷은 새로 만든 버킷과 같으므로 먼저 제거하고, 그래도 많으면 전체 초기화
+    private synchronized void trim(long now) {
+        if (buckets.size() < properties.maxLocalKeys()) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        if (buckets.size() >= properties.maxLocalKeys()) {
+            buckets.clear();
+        }
+    }
+
+    private static final class Rejections {
+        private final LongAdder local = new LongAdder();
+        private final LongAdder distributed = new LongAdder();
+    }
+
+    /**
+     * 인스턴스별 토큰 버킷 (윈도우 동안 limit 개의 토큰이 균등하게 충전)
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerMillis;
+        private double tokens;
+        private long lastRefillMillis;
+
+        TokenBucket(int limit, long windowMillis, long now) {
+            this.capacity = Math.max(1, limit);
+            this.refillPerMillis = capacity / windowMillis;
+            this.tokens = capacity;
+            this.lastRefillMillis = now;
+        }
+
+        /**
+         * @return 0 이면 토큰 사용, 양수면 다음 토큰까지 남은 시간 (ms)
+         */
+        synchronized long tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerMillis));
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > lastRefillMillis) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillMillis) * refillPerMillis);
+                lastRefillMillis = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.authentication.auth.service.redis;
+
+import com.authentication.auth.configuration.redis.RedisNearCacheProperties;
+import com.authentication.auth.configuration.redis.RedisTopologyProperties;
+import com.authentication.auth.service.cache.BoundedTtlMap;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 앞단의 로컬 캐시 (RESP3 client-side caching)
+ * 설정된 키 접두사에 대해 CLIENT TRACKING BCAST 를 활성화하고, Redis 가 보내는 invalidate 푸시 메시지로
+ * 로컬 항목을 제거하여 Redis 를 원본으로 유지합니다.
+ * 추적 연결이 끊긴 동안에는 무효화 메시지를 받을 수 없으므로 캐시를 비우고 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class RedisNearCache implements MeterBinder {
+
+    private final RedisNearCacheProperties properties;
+    private final RedisTopologyProperties.Mode topologyMode;
+    private final List<PrefixRule> rules;
+    private final BoundedTtlMap<String, Entry> entries;
+    // 조회 중 무효화가 발생했는지 판단하기 위한 전역 순번
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Value("${spring.data.redis.host}")
+    private String host;
+
+    @Value("${spring.data.redis.port}")
+    private int port;
+
+    @Value("${spring.data.redis.password}")
+    private String password;
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private volatile boolean trackingActive;
+
+    public RedisNearCache(RedisNearCacheProperties properties, RedisTopologyProperties topology) {
+        this.properties = properties;
+        this.topologyMode = topology.mode();
+        this.entries = new BoundedTtlMap<>(properties.maxEntries());
+        // 긴 접두사가 먼저 매칭되도록 정렬
+        this.rules = properties.prefixes().entrySet().stream()
+                .map(e -> new PrefixRule(e.getKey(), Math.max(1, e.getValue()) * 1000L))
+                .sorted(Comparator.comparingInt((PrefixRule rule) -> rule.prefix().length()).reversed())
+                .toList();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.enabled() || rules.isEmpty()) {
+            return;
+        }
+        // 추적 연결은 단일 노드 기준이므로 sentinel/cluster 구성에서는 사용하지 않음
+        if (topologyMode != RedisTopologyProperties.Mode.STANDALONE) {
+            log.warn("Redis near cache 는 standalone 구성에서만 지원됩니다. (mode={})", topologyMode);
+            return;
+        }
+        RedisURI.Builder uri = RedisURI.builder().withHost(host).withPort(port);
+        if (password != null && !password.isEmpty()) {
+            uri.withPassword(password.toCharArray());
+        }
+        client = RedisClient.create(uri.build());
+        client.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+        client.addListener(new TrackingStateListener());
+
+        connection = client.connect(StringCodec.UTF8);
+        connection.addListener((PushListener) this::onPushMessage);
+        connection.sync().clientTracking(trackingArgs());
+        trackingActive = true;
+        log.info("Redis near cache 활성화: 접두사={}", rules.stream().map(PrefixRule::prefix).toList());
+    }
+
+    @PreDestroy
+    void stop() {
+        trackingActive = false;
+        if (connection != null) {
+            connection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * @param key Redis 키
+     * @return 로컬 캐시 대상 키이고 무효화 추적이 동작 중이면 true
+     */
+    public boolean handles(String key) {
+        return trackingActive && key != null && ruleFor(key) != null;
+    }
+
+    /**
+     * 로컬 캐시를 거쳐 값 조회 (handles(key) 가 true 인 경우에만 호출)
+     * @param key Redis 키
+     * @return 값 (없으면 null)
+     */
+    public String get(String key) {
+        PrefixRule rule = ruleFor(key);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key, now);
+        if (entry != null) {
+            rule.hits().increment();
+            return entry.value();
+        }
+        rule.misses().increment();
+
+        long sequence = invalidationSequence.get();
+        RedisRoundTrips.record();
+        String value = connection.sync().get(key);
+        // 조회하는 사이 무효화가 도착했다면 이전 값일 수 있으므로 저장하지 않음
+        // 저장 후 순번을 다시 확인하여, 확인과 저장 사이에 도착한 무효화도 방금 저장한 항목을 되돌림
+        // (무효화는 순번을 먼저 올린 뒤 항목을 제거하므로 어느 순서로 실행되어도 이전 값이 남지 않음)
+        if (value != null && trackingActive && invalidationSequence.get() == sequence) {
+            Entry stored = new Entry(value, now + rule.ttlMillis());
+            entries.put(key, stored, now);
+            if (invalidationSequence.get() != sequence) {
+                entries.remove(key, stored);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 이 인스턴스에서 쓰기/삭제한 키를 즉시 제거 (무효화 메시지 도착 전 자기 쓰기 읽기 보장)
+     * @param key Redis 키
+     */
+    public void evict(String key) {
+        if (key != null && entries.remove(key)) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * @param keys Redis 키 목록
+     */
+    public void evictAll(Collection<String> keys) {
+        keys.forEach(this::evict);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (PrefixRule rule : rules) {
+            FunctionCounter.builder("redis.near.cache.requests", rule.hits(), LongAdder::sum)
+                    .tag("prefix", rule.prefix())
+                    .tag("result", "hit")
+                    .description("Redis near cache lookups")
+                    .register(registry);
+            FunctionCounter.builder("redis.near.cache.requests", rule.misses(), LongAdder::sum)
+                    .tag("prefix", rule.prefix())
+                    .tag("result", "miss")
+                    .description("Redis near cache lookups")
+                    .register(registry);
+        }
+        FunctionCounter.builder("redis.near.cache.invalidations", invalidations, LongAdder::sum)
+                .description("Redis near cache entries removed by invalidation or local writes")
+                .register(registry);
+        Gauge.builder("redis.near.cache.size", entries, BoundedTtlMap::size)
+                .description("Redis near cache entries")
+                .register(registry);
+    }
+
+    // RESP3 invalidate 푸시: ["invalidate", [key, ...]] 또는 FLUSHALL 시 ["invalidate", null]
+    private void onPushMessage(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        invalidationSequence.incrementAndGet();
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof Collection<?> keyList) {
+            for (Object key : keyList) {
+                evict(String.valueOf(key));
+            }
+        } else {
+            clear();
+        }
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled()
+                .bcast()
+                .prefixes(rules.stream().map(PrefixRule::prefix).toArray(String[]::new));
+    }
+
+    private void clear() {
+        invalidations.add(entries.clear());
+    }
+
+    private PrefixRule ruleFor(String key) {
+        for (PrefixRule rule : rules) {
+            if (key.startsWith(rule.prefix())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 재연결 시 서버의 추적 상태가 사라지므로 캐시를 비우고 추적을 다시 활성화
+     */
+    private class TrackingStateListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+            if (connection == null || handler != connection) {
+                return;
+            }
+            invalidationSequence.incrementAndGet();
+            clear();
+            // 이벤트 루프 스레드이므로 비동기로 요청
+            connection.async().clientTracking(trackingArgs()).whenComplete((result, error) -> {
+                if (error != null) {
+                    log.error("Redis near cache 추적 재활성화 실패", error);
+                    return;
+                }
+                trackingActive = true;
+                log.info("Redis near cache 추적 재활성화");
+            });
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            if (handler != connection) {
+                return;
+            }
+            trackingActive = false;
+            invalidationSequence.incrementAndGet();
+            clear();
+            log.warn("Redis near cache 연결 끊김 - 재연결 전까지 로컬 캐시를 사용하지 않습니다.");
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> handler, Throwable cause) {
+            log.warn("Redis near cache 연결 오류: {}", cause.getMessage());
+        }
+    }
+
+    private record PrefixRule(String prefix, long ttlMillis, LongAdder hits, LongAdder misses) {
+        PrefixRule(String prefix, long ttlMillis) {
+            this(prefix, ttlMillis, new LongAdder(), new LongAdder());
+        }
+    }
+
+    private record Entry(String value, long expiresAtMillis) implements BoundedTtlMap.Expiring {
+    }
+}
@@ -0,0 +1,41 @@
+package com.authentication.auth.service.redis;
+
+/**
+ * 요청 단위 Redis 왕복 횟수 집계
+ * 요청 스레드에서 begin() 이 호출된 경우에만 집계하며, 비동기 스레드 등 요청 밖의 호출은 무시합니다.
+ * 파이프라인이나 다중 키 명령은 명령 수와 관계없이 1회로 기록합니다.
+ */
+public final class RedisRoundTrips {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    private RedisRoundTrips() {
+    }
+
+    /**
+     * 현재 스레드의 집계 시작
+     */
+    public static void begin() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     * @return 집계된 왕복 횟수 (집계 중이 아니면 0)
+     */
+    public static int end() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    /**
+     * Redis 왕복 1회 기록
+     */
+    public static void record() {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.authentication.auth.service.redis;
 
 import com.authentication.auth.others.constants.SecurityConstants;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -15,7 +29,6 @@ import java.util.concurrent.TimeUnit;
  * 토큰 및 인증 관련 데이터를 Redis에 저장하고 관리
  */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class RedisService {
 
@@ -23,14 +36,77 @@ public class RedisService {
     private static final String REFRESH_TOKEN_PREFIX = "REFRESH:";
     private static final String ACCESS_TOKEN_PREFIX = "ACCESS:";
     private static final String EMAIL_CODE_PREFIX = "EMAIL_CODE:";
+    private static final String REFRESH_USED_PREFIX = "REFRESH_USED:";
+    private static final String REFRESH_GRACE_PREFIX = "REFRESH_GRACE:";
+
+    /**
+     * 리프레시 토큰 교체 스크립트 (비교, 교체, TTL 연장을 한 번의 호출로 수행)
+     * KEYS[1] 현재 리프레시 토큰 키, KEYS[2] 교체된 토큰 digest 집합 키, KEYS[3] 제시된 토큰의 재사용 유예 키
+     * ARGV[1] 제시된 토큰, ARGV[2] 제시된 토큰 digest, ARGV[3] 새 토큰, ARGV[4] TTL (초), ARGV[5] 재사용 유예 시간 (초)
+     * 반환값: 1 교체 성공, 2 유예 시간 안에 방금 교체된 토큰이 다시 제시됨 (동시 갱신), 0 불일치,
+     *        -1 이미 교체된 토큰 재사용 (토큰 계열 전체 폐기)
+     */
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[4])
+                redis.call('SADD', KEYS[2], ARGV[2])
+                redis.call('EXPIRE', KEYS[2], ARGV[4])
+                if tonumber(ARGV[5]) > 0 then
+                    redis.call('SET', KEYS[3], '1', 'EX', ARGV[5])
+                end
+                return 1
+            end
+            if current and redis.call('EXISTS', KEYS[3]) == 1 then
+                return 2
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[2]) == 1 then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return -1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 리프레시 토큰 교체 결과
+     */
+    public enum RefreshRotationResult {
+        /** 교체 성공 */
+        ROTATED,
+        /** 유예 시간 안에 방금 교체된 토큰이 다시 제시됨 (여러 탭, 재시도 등 동시 갱신) - 현재 토큰을 그대로 사용 */
+        CONCURRENT,
+        /** 저장된 토큰과 일치하지 않음 (만료 또는 다른 세션) */
+        MISMATCH,
+        /** 이미 교체된 토큰이 다시 사용됨 - 토큰 계열이 폐기됨 */
+        REUSED
+    }
 
     @Value("${REFRESH_TOKEN_VALIDITY}")
     private long refreshExpire;
 
+    // 교체 직후 이전 토큰이 다시 제시되어도 재사용으로 보지 않는 시간 (초)
+    @Value("${REFRESH_TOKEN_REUSE_GRACE:10}")
+    private long refreshReuseGrace;
+
     @Value("${ACCESS_TOKEN_VALIDITY}")
     private long accessExpire;
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> replicaRedisTemplate;
+    private final RedisNearCache nearCache;
+
+    /**
+     * @param redisTemplate        master 연결 (쓰기 및 일반 조회)
+     * @param replicaRedisTemplate replica 우선 연결 (복제 지연을 허용하는 읽기 전용 조회)
+     * @param nearCache            로컬 캐시
+     */
+    public RedisService(@Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+                        @Qualifier("replicaRedisTemplate") RedisTemplate<String, String> replicaRedisTemplate,
+                        RedisNearCache nearCache) {
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.nearCache = nearCache;
+    }
 
     /**
      * 리프레시 토큰을 Redis 키로 변환
@@ -85,7 +161,9 @@ public class RedisService {
     public boolean saveRToken(String userId, String provider, String refreshToken) {
         String redisKey = refreshTokenToRedisKey(userId, provider);
         try {
+            RedisRoundTrips.record();
             redisTemplate.opsForValue().set(redisKey, refreshToken, refreshExpire, TimeUnit.SECONDS);
+            nearCache.evict(redisKey);
             log.info("Redis에 리프레시 토큰 저장 성공: 제공자={}, 사용자={}", provider, userId);
             return true;
         } catch (Exception e) {
@@ -106,6 +184,7 @@ public class RedisService {
     public boolean saveAccessToken(String refreshToken, String accessToken, String userId) {
         String redisKey = accessTokenToRedisKey(refreshToken);
         try {
+            RedisRoundTrips.record();
             redisTemplate.opsForValue().set(redisKey, accessToken, accessExpire, TimeUnit.SECONDS);
             log.info("Redis에 액세스 토큰 저장 성공: 사용자={}", userId);
             return true;
@@ -125,6 +204,7 @@ public class RedisService {
     public String getAccessToken(String refreshToken) {
         String redisKey = accessTokenToRedisKey(refreshToken);
         try {
+            RedisRoundTrips.record();
             String accessToken = redisTemplate.opsForValue().get(redisKey);
 
             if (accessToken == null) {
@@ -150,7 +230,7 @@ public class RedisService {
     public String getRToken(String userId, String provider) {
         String redisKey = refreshTokenToRedisKey(userId, provider);
         try {
-            String refreshToken = redisTemplate.opsForValue().get(redisKey);
+            String refreshToken = readValue(redisKey, replicaRedisTemplate);
             if (refreshToken == null) {
                 log.warn("Redis에서 리프레시 토큰을 찾을 수 없습니다: 제공자={}, 사용자={}", provider, userId);
             }
@@ -173,7 +253,7 @@ public class RedisService {
     public boolean isRTokenExist(String userId, String provider, String refreshToken) {
         String redisKey = refreshTokenToRedisKey(userId, provider);
         try {
-            String storedToken = redisTemplate.opsForValue().get(redisKey);
+            String storedToken = readValue(redisKey, redisTemplate);
             return storedToken != null && storedToken.equals(refreshToken);
         } catch (Exception e) {
             log.error("Redis에서 리프레시 토큰 확인 실패: 제공자={}", provider, e);
@@ -192,7 +272,9 @@ public class RedisService {
     public boolean deleteRToken(String userId, String provider) {
         String redisKey = refreshTokenToRedisKey(userId, provider);
         try {
+            RedisRoundTrips.record();
             Boolean removed = redisTemplate.delete(redisKey);
+            nearCache.evict(redisKey);
             if (removed != null && removed) {
                 log.info("Redis에서 리프레시 토큰 삭제 성공: 제공자={}, 사용자={}", provider, userId);
             }
@@ -215,24 +297,107 @@ public class RedisService {
     @Transactional
     public boolean changeRToken(String userId, String provider, String oldRefreshToken, String newRefreshToken) {
         try {
-            // 기존 토큰이 유효한지 확인
-            if (!isRTokenExist(userId, provider, oldRefreshToken)) {
-                log.warn("기존 리프레시 토큰이 유효하지 않습니다: 제공자={}, 사용자={}", provider, userId);
-                return false;
-            }
-
-            // 기존 토큰 삭제 후 새 토큰 저장
-            deleteRToken(userId, provider);
-            saveRToken(userId, provider, newRefreshToken);
-
-            log.info("리프레시 토큰 변경 성공: 제공자={}, 사용자={}", provider, userId);
-            return true;
+            return rotateRToken(userId, provider, oldRefreshToken, newRefreshToken).result() == RefreshRotationResult.ROTATED;
         } catch (Exception e) {
             log.error("리프레시 토큰 변경 실패: 제공자={}", provider, e);
             return false;
         }
     }
 
+    /**
+     * 리프레시 토큰 원자적 교체
+     * 
+     * @param userId           사용자 ID
+     * @param provider         제공자
+     * @param presentedToken   클라이언트가 제시한 리프레시 토큰
+     * @param newRefreshToken  새 리프레시 토큰
+     * @return 교체 결과와 클라이언트가 사용할 리프레시 토큰
+     * @Description Lua 스크립트로 비교-교체-TTL 연장을 한 번의 왕복으로 수행하여 동시 갱신 경쟁을 제거합니다.
+     *              방금 교체된 토큰이 유예 시간 안에 다시 제시되면 동시 갱신으로 보고 현재 토큰을 돌려주며,
+     *              유예 시간이 지난 뒤 다시 제시되면 탈취로 간주하여 저장된 토큰 계열을 삭제합니다.
+     */
+    public RefreshRotation rotateRToken(String userId, String provider, String presentedToken, String newRefreshToken) {
+        String redisKey = refreshTokenToRedisKey(userId, provider);
+        if (presentedToken == null || presentedToken.isEmpty() || newRefreshToken == null || newRefreshToken.isEmpty()) {
+            throw new IllegalArgumentException("리프레시 토큰 교체에 필요한 토큰이 누락되었습니다");
+        }
+        String digest = tokenDigest(presentedToken);
+        RedisRoundTrips.record();
+        Long result = redisTemplate.execute(
+                ROTATE_REFRESH_TOKEN_SCRIPT,
+                List.of(redisKey, refreshUsedKey(redisKey), refreshGraceKey(redisKey, digest)),
+                presentedToken, digest, newRefreshToken, String.valueOf(refreshExpire), String.valueOf(refreshReuseGrace));
+        nearCache.evict(redisKey);
+
+        if (result != null && result == 1L) {
+            log.info("리프레시 토큰 교체 성공: 제공자={}, 사용자={}", provider, userId);
+            return new RefreshRotation(RefreshRotationResult.ROTATED, newRefreshToken);
+        }
+        if (result != null && result == 2L) {
+            // 먼저 끝난 갱신이 저장한 현재 토큰을 master 에서 읽어 전달 (replica 는 아직 반영되지 않았을 수 있음)
+            RedisRoundTrips.record();
+            String current = redisTemplate.opsForValue().get(redisKey);
+            if (current != null) {
+                log.info("동시 리프레시 토큰 갱신, 현재 토큰 사용: 제공자={}, 사용자={}", provider, userId);
+                return new RefreshRotation(RefreshRotationResult.CONCURRENT, current);
+            }
+        }
+        if (result != null && result == -1L) {
+            log.warn("교체된 리프레시 토큰 재사용 감지, 토큰 계열 폐기: 제공자={}, 사용자={}", provider, userId);
+            return new RefreshRotation(RefreshRotationResult.REUSED, null);
+        }
+        log.warn("리프레시 토큰 불일치: 제공자={}, 사용자={}", provider, userId);
+        return new RefreshRotation(RefreshRotationResult.MISMATCH, null);
+    }
+
+    /**
+     * 리프레시 토큰 교체 결과
+     *
+     * @param result       교체 결과
+     * @param refreshToken 클라이언트 쿠키에 설정할 리프레시 토큰 (ROTATED 는 새 토큰, CONCURRENT 는 현재 토큰, 그 외 null)
+     */
+    public record RefreshRotation(RefreshRotationResult result, String refreshToken) {
+    }
+
+    /**
+     * 교체된 토큰 digest 집합 키
+     * cluster 에서 스크립트의 두 키가 같은 슬롯에 있어야 하므로 리프레시 토큰 키 전체를 hash tag 로 사용합니다.
+     * (중괄호가 없는 키는 키 전체로 슬롯을 계산하므로 기존 리프레시 토큰 키 형식을 바꾸지 않아도 됩니다.)
+     */
+    private static String refreshUsedKey(String refreshTokenKey) {
+        return REFRESH_USED_PREFIX + "{" + refreshTokenKey + "}";
+    }
+
+    // 같은 슬롯에 두기 위해 리프레시 토큰 키를 hash tag 로 사용하고, 교체된 토큰별로 유예 키를 둠
+    private static String refreshGraceKey(String refreshTokenKey, String digest) {
+        return REFRESH_GRACE_PREFIX + "{" + refreshTokenKey + "}:" + digest;
+    }
+
+    // 교체된 토큰은 원문 대신 SHA-256 digest 로 보관
+    private static String tokenDigest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 단일 키 조회 (near cache 대상 접두사이면 로컬 캐시를 먼저 확인)
+     * 
+     * @param key      Redis 키
+     * @param template 로컬 캐시 미대상일 때 사용할 연결 (master 또는 replica)
+     * @return 값 (없으면 null)
+     */
+    private String readValue(String key, RedisTemplate<String, String> template) {
+        if (nearCache.handles(key)) {
+            return nearCache.get(key);
+        }
+        RedisRoundTrips.record();
+        return template.opsForValue().get(key);
+    }
+
     /**
      * 이메일 인증 코드 저장
      * 
@@ -248,7 +413,9 @@ public class RedisService {
         }
         try {
             String redisKey = emailCodeToRedisKey(email);
+            RedisRoundTrips.record();
             redisTemplate.opsForValue().set(redisKey, code, 1800, TimeUnit.SECONDS); // 30분 유효
+            nearCache.evict(redisKey);
             log.info("이메일 인증 코드 저장 성공: 이메일={}", email);
             return true;
         } catch (Exception e) {
@@ -272,7 +439,7 @@ public class RedisService {
         }
         try {
             String redisKey = emailCodeToRedisKey(email);
-            String storedCode = redisTemplate.opsForValue().get(redisKey);
+            String storedCode = readValue(redisKey, replicaRedisTemplate);
             return code.equals(storedCode);
         } catch (Exception e) {
             log.error("이메일 인증 코드 확인 실패: 이메일={}", email, e);
@@ -307,7 +474,9 @@ public class RedisService {
         }
         try {
             String redisKey = emailCodeToRedisKey(email);
+            RedisRoundTrips.record();
             Boolean deleted = redisTemplate.delete(redisKey);
+            nearCache.evict(redisKey);
             if (Boolean.TRUE.equals(deleted)) {
                 log.info("이메일 인증 코드 삭제 성공: 이메일={}", email);
                 return true;
@@ -328,7 +497,9 @@ public class RedisService {
     @Transactional
     public void save(String key, String value, long ttlSeconds) {
         try {
+            RedisRoundTrips.record();
             redisTemplate.opsForValue().set(key, value, ttlSeconds, TimeUnit.SECONDS);
+            nearCache.evict(key);
         } catch (Exception e) {
             log.error("Redis generic save failed: key={}, value={}", key, value, e);
         }
@@ -340,7 +511,7 @@ public class RedisService {
     @Transactional(readOnly = true)
     public String get(String key) {
         try {
-            return redisTemplate.opsForValue().get(key);
+            return readValue(key, redisTemplate);
         } catch (Exception e) {
             log.error("Redis generic get failed: key={}", key, e);
             return null;
@@ -353,9 +524,131 @@ public class RedisService {
     @Transactional
     public void delete(String key) {
         try {
+            RedisRoundTrips.record();
             redisTemplate.delete(key);
+            nearCache.evict(key);
         } catch (Exception e) {
             log.error("Redis generic delete failed: key={}", key, e);
         }
     }
+
+    /**
+     * 여러 키를 한 번의 MGET 으로 조회
+     * 
+     * @param keys 조회할 키 목록
+     * @return 키별 값 (값이 없는 키는 제외, 조회 실패 시 빈 맵)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> multiGet(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keyList = new ArrayList<>(keys);
+        try {
+            RedisRoundTrips.record();
+            List<String> values = redisTemplate.opsForValue().multiGet(keyList);
+            Map<String, String> result = new LinkedHashMap<>();
+            if (values != null) {
+                for (int i = 0; i < keyList.size(); i++) {
+                    if (values.get(i) != null) {
+                        result.put(keyList.get(i), values.get(i));
+                    }
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Redis multi get failed: keys={}", keyList.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 여러 키를 TTL 과 함께 파이프라인으로 저장 (MSET 은 TTL 을 지원하지 않으므로 SET EX 를 한 번에 전송)
+     * 
+     * @param values     저장할 키-값
+     * @param ttlSeconds 만료 시간 (초)
+     * @return 저장 성공 여부
+     */
+    @Transactional
+    public boolean multiSet(Map<String, String> values, long ttlSeconds) {
+        if (values == null || values.isEmpty()) {
+            return true;
+        }
+        try {
+            RedisRoundTrips.record();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                Expiration expiration = Expiration.seconds(ttlSeconds);
+                values.forEach((key, value) -> connection.stringCommands().set(
+                        key.getBytes(StandardCharsets.UTF_8),
+                        value.getBytes(StandardCharsets.UTF_8),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+            nearCache.evictAll(values.keySet());
+            return true;
+        } catch (Exception e) {
+            log.error("Redis multi set failed: keys={}", values.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 여러 키를 한 번의 DEL 로 삭제
+     * 
+     * @param keys 삭제할 키 목록
+     * @return 삭제된 키 수 (실패 시 0)
+     */
+    @Transactional
+    public long multiDelete(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+        try {
+            RedisRoundTrips.record();
+            Long deleted = redisTemplate.delete(keys);
+            nearCache.evictAll(keys);
+            return deleted != null ? deleted : 0;
+        } catch (Exception e) {
+            log.error("Redis multi delete failed: keys={}", keys.size(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 값을 조회하면서 삭제 (GETDEL, 일회용 값 소비에 사용)
+     * 
+     * @param key 키
+     * @return 삭제 전 값 (없으면 null)
+     */
+    @Transactional
+    public String getAndDelete(String key) {
+        try {
+            RedisRoundTrips.record();
+            String value = redisTemplate.opsForValue().getAndDelete(key);
+            nearCache.evict(key);
+            return value;
+        } catch (Exception e) {
+            log.error("Redis getAndDelete failed: key={}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * 여러 제공자의 리프레시 토큰을 한 번에 삭제
+     * 
+     * @param userId    사용자 ID
+     * @param providers 제공자 목록
+     * @return 삭제된 토큰 수
+     */
+    @Transactional
+    public long deleteRTokens(String userId, String... providers) {
+        List<String> keys = new ArrayList<>(providers.length);
+        for (String provider : providers) {
+            keys.add(refreshTokenToRedisKey(userId, provider));
+        }
+        long deleted = multiDelete(keys);
+        log.info("Redis에서 리프레시 토큰 {}건 삭제: 사용자={}", deleted, userId);
+        return deleted;
+    }
 }
@@ -9,14 +9,13 @@ import org.springframework.stereotype.Service;
 
 import com.authentication.auth.dto.token.PrincipalDetails;
 import com.authentication.auth.domain.User;
-import com.authentication.auth.repository.UserRepository;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PrincipalDetailService implements UserDetailsService {
 
-    private final UserRepository repository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
@@ -31,13 +30,12 @@ public class PrincipalDetailService implements UserDetailsService {
             throw new UsernameNotFoundException("유효하지 않은 식별자입니다: " + identifier);
         }
 
-        // 먼저 이메일로 조회하고, 없으면 로그인 ID로 조회한다.
-        User user = repository.findByEmail(identifier)
-                .orElseGet(() -> repository.findByLoginId(identifier)
-                        .orElseThrow(() -> {
-                            log.warn("사용자를 찾을 수 없음 - identifier: '{}'", identifier);
-                            return new UsernameNotFoundException("User not found with email or loginId: " + identifier);
-                        }));
+        // 이메일 또는 로그인 ID 로 한 번에 조회한다. (캐시 적중 시 DB 조회 없음)
+        User user = userPrincipalCache.find(identifier)
+                .orElseThrow(() -> {
+                    log.warn("사용자를 찾을 수 없음 - identifier: '{}'", identifier);
+                    return new UsernameNotFoundException("User not found with email or loginId: " + identifier);
+                });
 
         log.info("사용자 인증 성공 - 사용자 ID: {}, 이메일: {}", user.getId(), user.getEmail());
         return new PrincipalDetails(user);
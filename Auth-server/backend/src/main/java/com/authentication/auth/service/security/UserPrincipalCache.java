@@ -0,0 +1,216 @@
+package com.authentication.auth.service.security;
+
+import com.authentication.auth.domain.User;
+import com.authentication.auth.repository.UserRepository;
+import com.authentication.auth.service.cache.BoundedTtlMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 조회 캐시
+ * 로그인 식별자(이메일 또는 로그인 ID)로 조회한 사용자 정보를 불변 스냅샷으로 보관하여
+ * 로그인과 일기 API 마다 반복되던 사용자 조회 쿼리를 생략합니다.
+ * 비밀번호 변경, 계정 활성화, 프로필 변경 시 evict 로 제거하며, 다른 인스턴스에도 pub/sub 으로 전파합니다.
+ * 제거는 트랜잭션 커밋 후에 실행하고, 조회 도중 제거가 있었으면 조회 결과를 저장하지 않아 변경 전 값이 다시 캐시되지 않습니다.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache implements MessageListener, MeterBinder {
+
+    private static final String INVALIDATION_CHANNEL = "user-principal-invalidate";
+
+    private final BoundedTtlMap<String, Entry> entries;
+    // 제거할 때마다 증가 (조회 시작 시점 값과 다르면 조회 중 변경이 커밋된 것으로 봄)
+    private final AtomicLong evictions = new AtomicLong();
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param enabled 캐시 사용 여부
+     * @param maxEntries 최대 보관 항목 수
+     * @param ttlSeconds 항목 보관 시간 (초, 다른 인스턴스의 무효화 메시지를 놓친 경우의 상한)
+     */
+    public UserPrincipalCache(UserRepository userRepository,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${user.principal-cache.enabled:true}") boolean enabled,
+                              @Value("${user.principal-cache.max-entries:10000}") int maxEntries,
+                              @Value("${user.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.entries = new BoundedTtlMap<>(maxEntries);
+        this.ttlMillis = Math.max(1, ttlSeconds) * 1000L;
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 이메일 또는 로그인 ID 로 사용자 조회
+     * @param identifier 이메일 또는 로그인 ID
+     * @return 영속성 컨텍스트에 속하지 않은 사용자 사본 (없으면 empty)
+     * @Description 캐시에 없으면 한 번의 쿼리로 이메일과 로그인 ID 를 함께 조회합니다.
+     *              호출자가 수정해도 캐시에 영향이 없도록 매번 새 객체를 반환합니다.
+     */
+    public Optional<User> find(String identifier) {
+        if (identifier == null || identifier.isBlank()) {
+            return Optional.empty();
+        }
+        if (enabled) {
+            Entry entry = entries.get(identifier, System.currentTimeMillis());
+            if (entry != null) {
+                hits.increment();
+                return Optional.of(entry.toUser());
+            }
+            misses.increment();
+        }
+
+        long evictionsAtRead = evictions.get();
+        Optional<User> user = userRepository.findByEmailOrLoginId(identifier);
+        // 존재하지 않는 식별자는 저장하지 않음 (가입 직후 조회가 실패하지 않도록)
+        user.ifPresent(found -> put(identifier, found, evictionsAtRead));
+        return user.map(found -> Entry.of(found, 0L).toUser());
+    }
+
+    /**
+     * 사용자 정보 변경 시 캐시 제거 (모든 인스턴스)
+     * @param user 변경된 사용자
+     * @Description 트랜잭션 안에서 호출하면 커밋 후에 제거합니다.
+     *              커밋 전에 제거하면 그 사이의 조회가 아직 커밋된 이전 값을 다시 저장하기 때문입니다.
+     */
+    public void evict(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        Long userId = user.getId();
+        Runnable evict = () -> {
+            evictLocal(userId);
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("사용자 캐시 무효화 전파 실패: 사용자 ID={}, 원인={}", userId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 수신
+     * @param message 사용자 ID
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.principal.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("User principal cache lookups")
+                .register(registry);
+        FunctionCounter.builder("user.principal.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("User principal cache lookups")
+                .register(registry);
+        Gauge.builder("user.principal.cache.size", entries, BoundedTtlMap::size)
+                .description("User principal cache entries")
+                .register(registry);
+    }
+
+    // 저장 후 제거 횟수를 다시 확인하여, 조회 중에 제거가 있었으면 방금 저장한 항목을 되돌림
+    // (제거가 저장 확인 이후에 시작되면 그 제거가 항목을 지우므로 어느 순서로 실행되어도 이전 값이 남지 않음)
+    private void put(String identifier, User user, long evictionsAtRead) {
+        if (!enabled || evictions.get() != evictionsAtRead) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = Entry.of(user, now + ttlMillis);
+        entries.put(identifier, entry, now);
+        if (evictions.get() != evictionsAtRead) {
+            entries.remove(identifier, entry);
+        }
+    }
+
+    // 같은 사용자가 이메일과 로그인 ID 두 키로 저장될 수 있으므로 사용자 ID 로 찾아 제거
+    private void evictLocal(Long userId) {
+        evictions.incrementAndGet();
+        entries.removeIf(entry -> userId.equals(entry.id()));
+    }
+
+    private record Entry(Long id,
+                         String password,
+                         String email,
+                         String loginId,
+                         String nickname,
+                         LocalDateTime createdAt,
+                         LocalDateTime updatedAt,
+                         LocalDateTime lastLogin,
+                         String userRole,
+                         Boolean isPremium,
+                         String isActive,
+                         long expiresAtMillis) implements BoundedTtlMap.Expiring {
+
+        static Entry of(User user, long expiresAtMillis) {
+            return new Entry(user.getId(), user.getPassword(), user.getEmail(), user.getLoginId(),
+                    user.getNickname(), user.getCreatedAt(), user.getUpdatedAt(), user.getLastLogin(),
+                    user.getUserRole(), user.getIsPremium(), user.getIsActive(), expiresAtMillis);
+        }
+
+        User toUser() {
+            return User.builder()
+                    .id(id)
+                    .password(password)
+                    .email(email)
+                    .loginId(loginId)
+                    .nickname(nickname)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .lastLogin(lastLogin)
+                    .userRole(userRole)
+                    .isPremium(isPremium)
+                    .isActive(isActive)
+                    .build();
+        }
+    }
+}
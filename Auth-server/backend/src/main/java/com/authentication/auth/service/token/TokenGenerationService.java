@@ -0,0 +1,244 @@
+package com.authentication.auth.service.token;
+
+import com.authentication.auth.configuration.redis.RedisTopologyProperties;
+import com.authentication.auth.configuration.token.TokenGenerations;
+import com.authentication.auth.configuration.token.VerifiedTokenCache;
+import com.authentication.auth.service.redis.RedisRoundTrips;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.ConvertingCursor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 세대 관리 서비스
+ * 세대를 올리면 그 이전에 발급된 모든 액세스 토큰이 즉시 폐기됩니다.
+ * 원본 값은 Redis(TOKEN_GEN:{userId}) 에 두고, 각 인스턴스는 pub/sub 으로 전달받은 값을 메모리에 보관하여
+ * 요청 경로에서는 Redis 를 호출하지 않습니다.
+ * 기동 시 적재가 끝나기 전(또는 실패한 경우)에는 메모리 값을 신뢰하지 않고 사용자별로 Redis 에서 읽어 확인하며,
+ * Redis 도 조회할 수 없으면 폐기 여부를 판단할 수 없으므로 예외를 던집니다.
+ */
+@Slf4j
+@Service
+public class TokenGenerationService implements TokenGenerations, MessageListener {
+
+    private static final String GENERATION_KEY_PREFIX = "TOKEN_GEN:";
+    private static final String GENERATION_CHANNEL = "token-generation";
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    // 세대 증가와 변경 전파를 원자적으로 수행 (KEYS[1] 세대 키, ARGV[1] 채널, ARGV[2] userId)
+    private static final byte[] BUMP_GENERATION_SCRIPT = """
+            local generation = redis.call('INCR', KEYS[1])
+            redis.call('PUBLISH', ARGV[1], generation .. ':' .. ARGV[2])
+            return generation
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final ConcurrentHashMap<String, Long> generations = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RedisTopologyProperties.Mode topologyMode;
+    // 전체 적재가 끝나기 전에는 메모리에 없는 사용자를 "폐기 이력 없음" 으로 볼 수 없음
+    private volatile boolean loaded;
+
+    public TokenGenerationService(StringRedisTemplate redisTemplate,
+                                  VerifiedTokenCache verifiedTokenCache,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  RedisTopologyProperties topology) {
+        this.redisTemplate = redisTemplate;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.topologyMode = topology.mode();
+        listenerContainer.addMessageListener(this, new ChannelTopic(GENERATION_CHANNEL));
+    }
+
+    /**
+     * 현재 세대 조회 (적재 완료 후에는 메모리 조회만 수행)
+     * @param userId 토큰의 userId 클레임
+     * @return 현재 세대 (폐기 이력이 없으면 0)
+     * @throws IllegalStateException 적재 전이고 Redis 에서도 세대를 읽을 수 없는 경우
+     */
+    @Override
+    public long current(String userId) {
+        if (userId == null) {
+            return 0L;
+        }
+        Long generation = generations.get(userId);
+        if (generation != null) {
+            return generation;
+        }
+        return loaded ? 0L : loadUser(userId);
+    }
+
+    // 적재 전: 사용자 세대를 Redis 에서 직접 읽고 기억 (이후 변경은 pub/sub 으로 반영되므로 사용자당 한 번만 조회)
+    private long loadUser(String userId) {
+        String value;
+        try {
+            RedisRoundTrips.record();
+            value = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId);
+        } catch (Exception e) {
+            throw new IllegalStateException("토큰 세대를 확인할 수 없습니다. 사용자=" + userId, e);
+        }
+        apply(userId, value != null ? Long.parseLong(value) : 0L);
+        return generations.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기
+     * @param userIds 토큰 userId 클레임 후보 (로그인 경로에 따라 이메일 또는 닉네임)
+     * @Description Redis INCR 로 세대를 올리고 다른 인스턴스에 전파합니다. 이전 세대 토큰은 다음 요청부터 거부됩니다.
+     *              사용자별 INCR + PUBLISH 스크립트를 하나의 파이프라인으로 전송하여 왕복은 1회입니다.
+     *              트랜잭션 안에서 호출하면 커밋 후에 올립니다. 커밋 전에 올리면 롤백되어도 토큰이 폐기되고,
+     *              그 사이 재로그인으로 발급된 토큰은 아직 커밋되지 않은 변경(예: 비밀번호)을 기준으로 남기 때문입니다.
+     */
+    public void revokeAll(String... userIds) {
+        List<String> targets = Arrays.stream(userIds)
+                .filter(userId -> userId != null && !userId.isBlank())
+                .distinct()
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(targets);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(targets);
+            }
+        });
+    }
+
+    private void bump(List<String> targets) {
+        byte[] channel = GENERATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+        RedisRoundTrips.record();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : targets) {
+                connection.scriptingCommands().eval(BUMP_GENERATION_SCRIPT, ReturnType.INTEGER, 1,
+                        (GENERATION_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8),
+                        channel,
+                        userId.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < targets.size(); i++) {
+            if (results.get(i) instanceof Long generation) {
+                apply(targets.get(i), generation);
+                log.info("사용자 토큰 전체 폐기: 사용자={}, 세대={}", targets.get(i), generation);
+            }
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 세대 변경 수신
+     * @param message "{generation}:{userId}" 형식의 메시지
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            log.warn("잘못된 토큰 세대 메시지: {}", body);
+            return;
+        }
+        try {
+            apply(body.substring(separator + 1), Long.parseLong(body.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 세대 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 기동 시 Redis 에 저장된 세대를 메모리로 적재
+     * @Description pub/sub 구독이 시작된 뒤 실행되므로 적재 중 발생한 변경도 누락되지 않습니다.
+     *              cluster 에서는 SCAN 이 노드 단위로 동작하므로 master 노드마다 따로 SCAN 합니다.
+     *              적재에 실패하면 완료로 표시하지 않으며, 그동안 세대는 사용자별로 Redis 에서 확인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadGenerations() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(GENERATION_KEY_PREFIX + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+        int count = 0;
+        try {
+            if (topologyMode == RedisTopologyProperties.Mode.CLUSTER) {
+                try (RedisClusterConnection connection = redisTemplate.getRequiredConnectionFactory().getClusterConnection()) {
+                    for (RedisClusterNode node : connection.clusterGetNodes()) {
+                        if (node.isMaster()) {
+                            count += loadKeys(new ConvertingCursor<>(connection.scan(node, options),
+                                    key -> new String(key, StandardCharsets.UTF_8)));
+                        }
+                    }
+                }
+            } else {
+                count = loadKeys(redisTemplate.scan(options));
+            }
+        } catch (Exception e) {
+            log.error("토큰 세대 적재 실패, 사용자별 Redis 조회로 폐기 여부를 확인합니다.", e);
+            return;
+        }
+        loaded = true;
+        log.info("토큰 세대 {}건 적재 완료", count);
+    }
+
+    private int loadKeys(Cursor<String> cursor) {
+        int count = 0;
+        try (cursor) {
+            List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE || !cursor.hasNext()) {
+                    count += loadBatch(keys);
+                    keys.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    private int loadBatch(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                apply(keys.get(i).substring(GENERATION_KEY_PREFIX.length()), Long.parseLong(value));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    // 메시지 순서가 뒤바뀌어도 세대가 내려가지 않도록 큰 값만 반영
+    private void apply(String userId, long generation) {
+        Long previous = generations.get(userId);
+        generations.merge(userId, generation, Math::max);
+        if (previous == null || previous < generation) {
+            verifiedTokenCache.invalidateUser(userId);
+        }
+    }
+}
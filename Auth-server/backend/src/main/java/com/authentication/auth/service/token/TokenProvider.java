@@ -69,6 +69,10 @@ public class TokenProvider {
         return jwtUtility.validateRefreshJWT(refreshToken);
     }
 
+    public boolean isRevoked(String accessToken) {
+        return jwtUtility.isRevoked(accessToken);
+    }
+
     public String refreshToken(String expiredAccessToken, String provider) {
         // The 'provider' parameter is not directly used by jwtUtility.refreshToken.
         // jwtUtility.refreshToken reuses claims from the expired access token.
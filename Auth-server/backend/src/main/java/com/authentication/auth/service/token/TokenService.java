@@ -1,9 +1,11 @@
 package com.authentication.auth.service.token;
 
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,10 +29,14 @@ public class TokenService {
 
     private final TokenProvider tokenProvider;
     private final RedisService redisService;
+    private final TokenGenerationService tokenGenerationService;
 
     // 7 days in seconds
     private static final int REFRESH_TOKEN_TTL_SECONDS = SecurityConstants.REFRESH_TOKEN_TTL_SECONDS.getIntValue();
 
+    @Value("${server.cookie.domain}")
+    private String cookieDomain;
+
     public LoginResponse postLoginActions(Authentication authentication, HttpServletResponse response) {
         String userId = authentication.getName();
         // Extracting the first authority as role. Adapt if multiple roles or different logic is needed.
@@ -74,15 +80,26 @@ public class TokenService {
             throw new CustomException(ErrorType.INVALID_ACCESS_TOKEN, "만료된 액세스 토큰에서 사용자 ID를 추출할 수 없습니다.");
         }
 
-        // 2. Get Refresh Token from Redis using userId and provider
-        String refreshTokenFromRedis = redisService.getRToken(userId, provider);
-        if (refreshTokenFromRedis == null || refreshTokenFromRedis.isBlank()) {
-            throw new CustomException(ErrorType.REFRESH_TOKEN_NOT_FOUND, "Redis에 저장된 리프레시 토큰을 찾을 수 없습니다.");
+        // 전체 폐기 이전에 발급된 토큰으로는 재발급 불가
+        if (tokenProvider.isRevoked(expiredAccessToken)) {
+            throw new CustomException(ErrorType.TOKEN_REVOKED, "전체 로그아웃 이전에 발급된 토큰입니다.");
         }
 
-        // 3. Validate the Refresh Token
-        if (!tokenProvider.validateRefreshToken(refreshTokenFromRedis)) {
-            throw new CustomException(ErrorType.INVALID_REFRESH_TOKEN, "저장된 리프레시 토큰이 유효하지 않거나 만료되었습니다.");
+        // 2. 쿠키로 리프레시 토큰이 제시된 경우: Redis Lua 스크립트로 한 번에 교체 (재사용 감지 포함)
+        String presentedRefreshToken = findRefreshTokenCookie(httpRequest, provider);
+        if (presentedRefreshToken != null) {
+            rotateRefreshToken(httpResponse, userId, provider, presentedRefreshToken);
+        } else {
+            // 쿠키가 없는 이전 클라이언트: Redis 에 저장된 토큰의 유효성만 확인 (교체 없음)
+            String refreshTokenFromRedis = redisService.getRToken(userId, provider);
+            if (refreshTokenFromRedis == null || refreshTokenFromRedis.isBlank()) {
+                throw new CustomException(ErrorType.REFRESH_TOKEN_NOT_FOUND, "Redis에 저장된 리프레시 토큰을 찾을 수 없습니다.");
+            }
+
+            // 3. Validate the Refresh Token
+            if (!tokenProvider.validateRefreshToken(refreshTokenFromRedis)) {
+                throw new CustomException(ErrorType.INVALID_REFRESH_TOKEN, "저장된 리프레시 토큰이 유효하지 않거나 만료되었습니다.");
+            }
         }
 
         // 4. If all checks pass, issue a new Access Token
@@ -92,9 +109,79 @@ public class TokenService {
         }
 
         // Note: The new access token is not stored in Redis here. Typically, only refresh tokens are stored.
-        // The old refresh token in Redis remains valid until its own expiry or explicit revocation.
-        // No new refresh token is issued in this flow by default by TokenProvider.refreshToken (which calls jwtUtility.refreshToken).
 
         return new TokenRefreshResponse(newAccessToken);
     }
+
+    /**
+     * 리프레시 토큰 교체
+     * @param httpResponse 새 리프레시 토큰 쿠키를 설정할 응답
+     * @param userId 사용자 ID
+     * @param provider 제공자
+     * @param presentedRefreshToken 클라이언트가 쿠키로 제시한 리프레시 토큰
+     * @Description 방금 교체된 토큰이 유예 시간 안에 다시 제시되면(동시 갱신) 현재 토큰을 쿠키로 돌려줍니다.
+     *              유예 시간이 지난 뒤 교체된 토큰이 다시 제시되면 토큰 계열이 삭제되고, 해당 사용자의 모든 액세스 토큰도 폐기됩니다.
+     */
+    private void rotateRefreshToken(HttpServletResponse httpResponse, String userId, String provider, String presentedRefreshToken) {
+        if (!tokenProvider.validateRefreshToken(presentedRefreshToken)) {
+            throw new CustomException(ErrorType.INVALID_REFRESH_TOKEN, "제시된 리프레시 토큰이 유효하지 않거나 만료되었습니다.");
+        }
+
+        String newRefreshToken = tokenProvider.createRefreshToken(userId, provider);
+        RedisService.RefreshRotation rotation =
+                redisService.rotateRToken(userId, provider, presentedRefreshToken, newRefreshToken);
+
+        switch (rotation.result()) {
+            case ROTATED, CONCURRENT -> httpResponse.addCookie(createRefreshTokenCookie(provider, rotation.refreshToken()));
+            case REUSED -> {
+                tokenGenerationService.revokeAll(userId);
+                throw new CustomException(ErrorType.REFRESH_TOKEN_REUSED, "이미 교체된 리프레시 토큰이 다시 사용되어 모든 세션을 종료했습니다.");
+            }
+            case MISMATCH -> throw new CustomException(ErrorType.REFRESH_TOKEN_MISMATCH, "저장된 리프레시 토큰과 일치하지 않습니다.");
+        }
+    }
+
+    // 일반 로그인(local/server)은 refreshToken, 소셜 로그인은 {provider}_refreshToken 쿠키를 사용
+    private static String refreshTokenCookieName(String provider) {
+        if ("local".equals(provider) || "server".equals(provider)) {
+            return SecurityConstants.COOKIE_REFRESH_TOKEN.getValue();
+        }
+        return provider + "_" + SecurityConstants.COOKIE_REFRESH_TOKEN.getValue();
+    }
+
+    private static String findRefreshTokenCookie(HttpServletRequest request, String provider) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        String cookieName = refreshTokenCookieName(provider);
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName()) && cookie.getValue() != null && !cookie.getValue().isBlank()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    // AuthenticationFilter 에서 발급한 쿠키와 같은 속성으로 덮어씀
+    private Cookie createRefreshTokenCookie(String provider, String refreshToken) {
+        Cookie cookie = new Cookie(refreshTokenCookieName(provider), refreshToken);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(true);
+        cookie.setPath(SecurityConstants.COOKIE_PATH.getValue());
+        cookie.setDomain(cookieDomain);
+        cookie.setMaxAge(REFRESH_TOKEN_TTL_SECONDS);
+        return cookie;
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기 (전체 기기 로그아웃)
+     * @param authentication 현재 인증 정보 (getName() 은 토큰의 userId 클레임)
+     * @Description 토큰 세대를 올려 발급된 모든 액세스 토큰을 즉시 무효화하고, 저장된 리프레시 토큰을 삭제합니다.
+     */
+    public void revokeAllTokens(Authentication authentication) {
+        String userId = authentication.getName();
+        tokenGenerationService.revokeAll(userId);
+        redisService.deleteRTokens(userId, "local", "server");
+    }
 }
@@ -10,7 +10,9 @@ import com.authentication.auth.exception.CustomException;
 import com.authentication.auth.exception.ErrorType;
 import com.authentication.auth.repository.UserRepository;
 import com.authentication.auth.service.redis.RedisService; // RedisService import
+import com.authentication.auth.service.security.UserPrincipalCache;
 import com.authentication.auth.configuration.token.JwtUtility;
+import com.authentication.auth.service.token.TokenGenerationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -30,6 +32,8 @@ public class UserService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final RedisService redisService; // RedisService 주입
     private final JwtUtility jwtUtility; // JwtUtility 주입
+    private final TokenGenerationService tokenGenerationService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Transactional
     public User join(JoinRequest request) {
@@ -63,9 +67,8 @@ public class UserService {
     @Transactional
     public LoginResponse login(LoginRequest request) {
         String identifier = request.identifier();
-        User user = repository.findByEmail(identifier)
-                .orElseGet(() -> repository.findByLoginId(identifier)
-                        .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + identifier)));
+        User user = userPrincipalCache.find(identifier)
+                .orElseThrow(() -> new CustomException(ErrorType.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + identifier));
         
         if (!passwordEncoder.matches(request.password(), user.getPassword())) {
             throw new CustomException(ErrorType.INVALID_REQUEST, "비밀번호가 일치하지 않습니다.");
@@ -73,7 +76,8 @@ public class UserService {
         
         // 토큰 생성
         TokenDto tokenDto = jwtUtility.buildToken(
-            user.getNickname(), 
+            user.getNickname(),
+            user.getId(),
             Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getUserRole()))
         );
         
@@ -94,6 +98,7 @@ public class UserService {
         
         user.activate(); // User 엔티티에 activate 메소드 추가 가정 (isActive = "ACTIVE")
         repository.save(user);
+        userPrincipalCache.evict(user);
         log.info("사용자 활성화 성공: {}", email);
 
         // 인증 코드 삭제
@@ -125,6 +130,9 @@ public class UserService {
     
         user.setPassword(passwordEncoder.encode(temporalPassword));
         repository.save(user);
+        userPrincipalCache.evict(user);
+        // 비밀번호 변경 시 기존 토큰 전체 폐기 (커밋 후 실행, 토큰 userId 는 로그인 경로에 따라 이메일 또는 닉네임)
+        tokenGenerationService.revokeAll(user.getEmail(), user.getNickname());
         log.info("사용자 비밀번호 변경 성공: {}", email);
     }
     
@@ -147,12 +155,11 @@ public class UserService {
     @Transactional(readOnly = true)
     public UserResponseDto findByLoginId(String username) {
         log.info("Finding user for /api/users/me by username: {}", username);
-        User user = repository.findByLoginId(username)
-                .orElseGet(() -> repository.findByEmail(username)
-                        .orElseThrow(() -> {
-                            log.error("User not found by loginId or email: {}", username);
-                            return new CustomException(ErrorType.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + username);
-                        }));
+        User user = userPrincipalCache.find(username)
+                .orElseThrow(() -> {
+                    log.error("User not found by loginId or email: {}", username);
+                    return new CustomException(ErrorType.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + username);
+                });
         log.info("User found for /api/users/me: {}", user.getLoginId());
         return new UserResponseDto(user.getId(), user.getNickname(), user.getEmail(), user.getLoginId(), user.getIsPremium(), user.getUserRole());
     }
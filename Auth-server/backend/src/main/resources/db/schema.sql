@@ -95,14 +95,47 @@ CREATE TABLE diary (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '일기 고유 ID',
     user_id BIGINT NOT NULL COMMENT '작성자 ID (FK)',
     title VARCHAR(255) NULL COMMENT '일기 제목',
+    date DATE NOT NULL COMMENT '일기 날짜',
     content TEXT NOT NULL COMMENT '일기 내용',
     alternative_thought TEXT NULL COMMENT 'AI가 생성한 대안적 사고',
     is_negative BOOLEAN DEFAULT FALSE COMMENT '부정적 감정 포함 여부',
+    content_hash VARCHAR(64) NULL COMMENT '제목 + 본문 SHA-256 (같은 내용의 AI 재분석 생략)',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '수정 횟수 (ETag, 낙관적 잠금)',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '작성 시간',
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '마지막 수정 시간',
+    KEY idx_diary_user_created_at (user_id, created_at DESC),
+    KEY idx_diary_user_date (user_id, date),
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
 ) COMMENT '일기 정보 테이블';
 
+-- =================================================================================
+-- Table: diary_calendar
+-- Description: 사용자별 월간 일기 작성일 비트맵. day_mask 의 (일 - 1) 번째 비트가 그 날짜의 일기 여부입니다.
+--              일기 작성/수정/삭제 시 갱신되며, 비트맵이 없는 달은 처음 조회할 때 일기 테이블에서 계산합니다.
+-- =================================================================================
+CREATE TABLE diary_calendar (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID (FK)',
+    month_key INT NOT NULL COMMENT '연월 (yyyyMM)',
+    day_mask INT NOT NULL DEFAULT 0 COMMENT '작성일 비트맵 (31비트)',
+    PRIMARY KEY (user_id, month_key),
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE ON UPDATE CASCADE
+) COMMENT '월간 일기 작성일 비트맵';
+
+-- =================================================================================
+-- Table: diary_search
+-- Description: 일기 전문 검색 색인 (diary.search.engine=mariadb). 제목/본문의 bigram 토큰을 FULLTEXT 로 검색합니다.
+--              애플리케이션이 일기 저장 시 갱신하며, 기동 시 누락된 일기를 채웁니다.
+-- =================================================================================
+CREATE TABLE diary_search (
+    diary_id BIGINT NOT NULL PRIMARY KEY COMMENT '일기 ID (FK)',
+    user_id BIGINT NOT NULL COMMENT '작성자 ID',
+    tokens MEDIUMTEXT NOT NULL COMMENT '검색 토큰 (접두 bigram)',
+    KEY idx_diary_search_user (user_id),
+    FULLTEXT KEY ft_diary_search_tokens (tokens),
+    FOREIGN KEY (diary_id) REFERENCES diary(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT '일기 검색 색인';
+
+
 
 -- =================================================================================
 -- Table: report
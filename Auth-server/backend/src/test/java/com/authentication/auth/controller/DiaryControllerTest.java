@@ -0,0 +1,38 @@
+package com.authentication.auth.controller;
+
+import com.authentication.auth.dto.AIResponseDto;
+import com.authentication.auth.service.DiaryService;
+import com.authentication.auth.service.diary.DiaryAnalysisService;
+import com.authentication.auth.service.diary.DiaryManagementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiaryControllerTest {
+
+    private final DiaryService diaryService = mock(DiaryService.class);
+    private final DiaryController controller = new DiaryController(diaryService, mock(DiaryManagementService.class));
+
+    @Test
+    @DisplayName("완료된 분석이 있으면 다시 분석하지 않고 skipped=unchanged 로 반환한다")
+    void requestOrGetDiaryAnalysis_existingAnalysis_returnsSkippedUnchanged() {
+        when(diaryService.getAnalysisByDiaryId(1L)).thenReturn(AIResponseDto.builder().status("COMPLETED").build());
+
+        ResponseEntity<?> response = controller.requestOrGetDiaryAnalysis(1L, new User("user1", "", List.of()));
+
+        assertThat(response.getBody()).isInstanceOfSatisfying(AIResponseDto.class,
+                dto -> assertThat(dto.getSkipped()).isEqualTo(DiaryAnalysisService.SKIPPED_UNCHANGED));
+        verify(diaryService, never()).requestAnalysis(any(), anyString());
+    }
+}
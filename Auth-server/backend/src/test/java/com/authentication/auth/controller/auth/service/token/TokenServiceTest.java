@@ -7,8 +7,10 @@ import com.authentication.auth.dto.token.TokenRefreshResponse;
 import com.authentication.auth.exception.CustomException;
 import com.authentication.auth.exception.ErrorType;
 import com.authentication.auth.service.redis.RedisService;
+import com.authentication.auth.service.token.TokenGenerationService;
 import com.authentication.auth.service.token.TokenProvider;
 import com.authentication.auth.service.token.TokenService;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,10 +27,17 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +48,8 @@ class TokenServiceTest {
     private TokenProvider tokenProvider;
     @Mock
     private RedisService redisService;
+    @Mock
+    private TokenGenerationService tokenGenerationService;
     @InjectMocks
     private TokenService tokenService;
     @Mock
@@ -154,4 +165,82 @@ class TokenServiceTest {
         assertEquals(ErrorType.INVALID_ACCESS_TOKEN, exception.getErrorType());
         verify(redisService, never()).getRToken(any(), any());
     }
+
+    @Test
+    void refreshToken_withCookie_rotatesRefreshToken() throws IOException {
+        // Given
+        TokenRefreshRequest refreshRequest = new TokenRefreshRequest(expiredAccessToken, provider);
+        when(httpServletRequest.getCookies()).thenReturn(new Cookie[]{new Cookie("refreshToken", "presentedRefreshToken")});
+        when(tokenProvider.getUserIdFromToken(expiredAccessToken)).thenReturn(testLoginId);
+        when(tokenProvider.validateRefreshToken("presentedRefreshToken")).thenReturn(true);
+        when(tokenProvider.createRefreshToken(testLoginId, provider)).thenReturn(dummyRefreshToken);
+        when(redisService.rotateRToken(testLoginId, provider, "presentedRefreshToken", dummyRefreshToken))
+                .thenReturn(new RedisService.RefreshRotation(RedisService.RefreshRotationResult.ROTATED, dummyRefreshToken));
+        when(tokenProvider.refreshToken(expiredAccessToken, provider)).thenReturn(dummyAccessToken);
+
+        // When
+        TokenRefreshResponse response = tokenService.refreshToken(httpServletRequest, httpServletResponse, refreshRequest);
+
+        // Then
+        assertEquals(dummyAccessToken, response.accessToken());
+        verify(httpServletResponse).addCookie(argThat(cookie ->
+                "refreshToken".equals(cookie.getName()) && dummyRefreshToken.equals(cookie.getValue())));
+        verify(redisService, never()).getRToken(any(), any());
+    }
+
+    @Test
+    void refreshToken_withReusedCookie_failsAndNeverIssuesAccessToken() throws IOException {
+        // Given
+        TokenRefreshRequest refreshRequest = new TokenRefreshRequest(expiredAccessToken, provider);
+        when(httpServletRequest.getCookies()).thenReturn(new Cookie[]{new Cookie("refreshToken", "rotatedRefreshToken")});
+        when(tokenProvider.getUserIdFromToken(expiredAccessToken)).thenReturn(testLoginId);
+        when(tokenProvider.validateRefreshToken("rotatedRefreshToken")).thenReturn(true);
+        when(tokenProvider.createRefreshToken(testLoginId, provider)).thenReturn(dummyRefreshToken);
+        when(redisService.rotateRToken(testLoginId, provider, "rotatedRefreshToken", dummyRefreshToken))
+                .thenReturn(new RedisService.RefreshRotation(RedisService.RefreshRotationResult.REUSED, null));
+
+        // When & Then
+        CustomException exception = assertThrows(CustomException.class, () ->
+                tokenService.refreshToken(httpServletRequest, httpServletResponse, refreshRequest));
+
+        assertEquals(ErrorType.REFRESH_TOKEN_REUSED, exception.getErrorType());
+        verify(tokenProvider, never()).refreshToken(any(), any());
+        verify(tokenGenerationService).revokeAll(testLoginId);
+    }
+
+    @Test
+    void refreshToken_concurrentRefreshWithSameCookie_bothSucceedWithoutRevokingSessions() throws Exception {
+        // Given: 두 탭이 같은 쿠키로 동시에 갱신 - 먼저 끝난 요청이 교체하고, 다른 요청은 유예 시간 안이라 현재 토큰을 받음
+        TokenRefreshRequest refreshRequest = new TokenRefreshRequest(expiredAccessToken, provider);
+        when(httpServletRequest.getCookies()).thenReturn(new Cookie[]{new Cookie("refreshToken", "presentedRefreshToken")});
+        when(tokenProvider.getUserIdFromToken(expiredAccessToken)).thenReturn(testLoginId);
+        when(tokenProvider.validateRefreshToken("presentedRefreshToken")).thenReturn(true);
+        when(tokenProvider.createRefreshToken(testLoginId, provider)).thenReturn(dummyRefreshToken);
+        when(redisService.rotateRToken(testLoginId, provider, "presentedRefreshToken", dummyRefreshToken))
+                .thenReturn(new RedisService.RefreshRotation(RedisService.RefreshRotationResult.ROTATED, dummyRefreshToken))
+                .thenReturn(new RedisService.RefreshRotation(RedisService.RefreshRotationResult.CONCURRENT, dummyRefreshToken));
+        when(tokenProvider.refreshToken(expiredAccessToken, provider)).thenReturn(dummyAccessToken);
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Callable<TokenRefreshResponse> refresh = () -> {
+                start.await();
+                return tokenService.refreshToken(httpServletRequest, httpServletResponse, refreshRequest);
+            };
+            Future<TokenRefreshResponse> first = pool.submit(refresh);
+            Future<TokenRefreshResponse> second = pool.submit(refresh);
+            start.countDown();
+
+            // Then
+            assertEquals(dummyAccessToken, first.get(5, TimeUnit.SECONDS).accessToken());
+            assertEquals(dummyAccessToken, second.get(5, TimeUnit.SECONDS).accessToken());
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(httpServletResponse, times(2)).addCookie(argThat(cookie ->
+                "refreshToken".equals(cookie.getName()) && dummyRefreshToken.equals(cookie.getValue())));
+        verifyNoInteractions(tokenGenerationService);
+    }
 }
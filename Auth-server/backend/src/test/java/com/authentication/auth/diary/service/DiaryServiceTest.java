@@ -1,22 +1,37 @@
 package com.authentication.auth.diary.service;
 
+import com.authentication.auth.diary.dto.DiaryCursor;
+import com.authentication.auth.diary.dto.DiaryCursorResponse;
 import com.authentication.auth.diary.dto.DiaryResponseDto;
+import com.authentication.auth.diary.dto.DiarySummaryDto;
 import com.authentication.auth.diary.repository.DiaryRepository;
 import com.authentication.auth.domain.Diary;
 import com.authentication.auth.domain.User;
+import com.authentication.auth.dto.common.ResourceVersion;
 import com.authentication.auth.dto.diary.DiaryCreateRequest;
 import com.authentication.auth.dto.diary.DiaryUpdateRequest;
+import com.authentication.auth.dto.token.PrincipalDetails;
 import com.authentication.auth.repository.UserRepository;
+import com.authentication.auth.service.DiaryService;
 import com.authentication.auth.service.diary.DiaryManagementService;
 import com.authentication.auth.service.diary.DiaryAnalysisService;
+import com.authentication.auth.service.diary.DiaryCalendarService;
+import com.authentication.auth.service.diary.DiaryTransferService;
+import com.authentication.auth.service.diary.search.DiarySearchEngine;
+import com.authentication.auth.service.security.UserPrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -24,6 +39,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,15 +53,30 @@ class DiaryServiceTest {
     @Mock
     private DiaryRepository diaryRepository;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DiarySearchEngine diarySearchEngine;
+
+    @Mock
+    private DiaryCalendarService diaryCalendarService;
+
+    @Mock
+    private DiaryTransferService diaryTransferService;
+
     @InjectMocks
     private DiaryManagementService diaryService;
 
     @Mock
     private DiaryAnalysisService diaryAnalysisService;
 
+    @Mock
+    private DiaryService analysisRequestService;
+
     @Mock
     private UserDetails userDetails;
 
@@ -92,6 +124,7 @@ class DiaryServiceTest {
         diaryCreateRequest = new DiaryCreateRequest();
         diaryCreateRequest.setTitle("New Title");
         diaryCreateRequest.setContent("New Content");
+        diaryCreateRequest.setDate("2025-06-01");
 
         diaryUpdateRequest = new DiaryUpdateRequest();
         diaryUpdateRequest.setTitle("Updated Title");
@@ -105,16 +138,21 @@ class DiaryServiceTest {
     @DisplayName("createDiaryPost_success")
     void createDiaryPost_success() {
         when(userDetails.getUsername()).thenReturn(testUser.getLoginId());
-        when(userRepository.findByUserName(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        // 초기화되지 않은 참조 프록시: PK 외 필드에 접근하면 users 조회가 실행되므로 어떤 호출도 허용하지 않음
+        User lazyUser = mock(User.class, invocation -> {
+            throw new AssertionError("lazy user loaded: " + invocation.getMethod().getName());
+        });
+        when(userRepository.getReferenceById(testUser.getId())).thenReturn(lazyUser);
 
         Diary savedDiary = Diary.builder()
                 .id(2L)
-                .user(testUser)
+                .user(lazyUser)
                 .title(diaryCreateRequest.getTitle())
                 .content(diaryCreateRequest.getContent())
                 .build();
-        when(diaryRepository.save(any(Diary.class))).thenReturn(savedDiary);
-        doNothing().when(diaryAnalysisService).requestDiaryAnalysis(any(Diary.class));
+        when(diaryRepository.saveAndFlush(any(Diary.class))).thenReturn(savedDiary);
+        when(analysisRequestService.requestAnalysis(savedDiary.getId(), testUser.getLoginId())).thenReturn(true);
 
         DiaryResponseDto responseDto = diaryService.createDiaryPost(diaryCreateRequest, userDetails);
 
@@ -124,23 +162,88 @@ class DiaryServiceTest {
         assertEquals(diaryCreateRequest.getContent(), responseDto.getContent());
         assertEquals(testUser.getNickname(), responseDto.getUserName());
 
-        verify(userRepository, times(1)).findByUserName(testUser.getLoginId());
-        verify(diaryRepository, times(1)).save(any(Diary.class));
-        verify(diaryAnalysisService, times(1)).requestDiaryAnalysis(any(Diary.class));
+        verify(userPrincipalCache, times(1)).find(testUser.getLoginId());
+        // 검색 색인(diary_search → diary FK)보다 diary INSERT 가 먼저 실행되어야 함
+        InOrder inOrder = inOrder(diaryRepository, diarySearchEngine);
+        inOrder.verify(diaryRepository).saveAndFlush(any(Diary.class));
+        inOrder.verify(diarySearchEngine).index(savedDiary);
+        // 트랜잭션 밖에서는 커밋 후 분석 요청이 즉시 실행됨
+        verify(analysisRequestService, times(1)).requestAnalysis(savedDiary.getId(), testUser.getLoginId());
     }
 
     @Test
     @DisplayName("createDiaryPost_userNotFound")
     void createDiaryPost_userNotFound() {
         when(userDetails.getUsername()).thenReturn("nonexistentuser");
-        when(userRepository.findByUserName("nonexistentuser")).thenReturn(Optional.empty());
+        when(userPrincipalCache.find("nonexistentuser")).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
             diaryService.createDiaryPost(diaryCreateRequest, userDetails);
         });
 
-        verify(userRepository, times(1)).findByUserName("nonexistentuser");
-        verify(diaryRepository, never()).save(any(Diary.class));
+        verify(userPrincipalCache, times(1)).find("nonexistentuser");
+        verify(diaryRepository, never()).saveAndFlush(any(Diary.class));
+    }
+
+    @Test
+    @DisplayName("findDiariesByUser_usesUidClaimWithoutUserLookup")
+    void findDiariesByUser_usesUidClaimWithoutUserLookup() {
+        // 토큰으로 만든 principal 은 uid 클레임만 가진 사용자
+        PrincipalDetails principal = new PrincipalDetails(User.builder()
+                .id(testUser.getId())
+                .email(testUser.getEmail())
+                .nickname(testUser.getEmail())
+                .build());
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(diaryRepository.findByUser_Id(testUser.getId(), pageable)).thenReturn(new PageImpl<>(List.of(testDiary)));
+
+        Page<DiaryResponseDto> result = diaryService.findDiariesByUser(principal, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testUser.getNickname(), result.getContent().get(0).getUserName());
+        verify(userPrincipalCache, never()).find(any());
+    }
+
+    @Test
+    @DisplayName("findDiarySummariesByUser_usesProjectionWithoutEntities")
+    void findDiarySummariesByUser_usesProjectionWithoutEntities() {
+        PrincipalDetails principal = new PrincipalDetails(User.builder().id(testUser.getId()).email(testUser.getEmail()).build());
+        PageRequest pageable = PageRequest.of(0, 10);
+        DiarySummaryDto summary = new DiarySummaryDto(testDiary.getId(), testDiary.getTitle(), testDiary.getDate(),
+                "Test", testDiary.getCreatedAt(), testDiary.getUpdatedAt());
+        when(diaryRepository.findSummariesByUserId(testUser.getId(), pageable)).thenReturn(new PageImpl<>(List.of(summary)));
+
+        Page<DiarySummaryDto> result = diaryService.findDiarySummariesByUser(principal, pageable);
+
+        assertEquals("Test", result.getContent().get(0).preview());
+        verify(diaryRepository, never()).findByUser_Id(any(), any());
+    }
+
+    @Test
+    @DisplayName("findDiariesByCursor_returnsNextCursorFromLastItem")
+    void findDiariesByCursor_returnsNextCursorFromLastItem() {
+        when(userDetails.getUsername()).thenReturn(testUser.getLoginId());
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        when(diaryRepository.findFirstSliceByUserId(testUser.getId(), PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(testDiary), PageRequest.of(0, 1), true));
+
+        DiaryCursorResponse first = diaryService.findDiariesByCursor(userDetails, null, 1);
+
+        assertTrue(first.hasNext());
+        assertEquals(1, first.content().size());
+        DiaryCursor cursor = DiaryCursor.decode(first.nextCursor());
+        assertEquals(testDiary.getId(), cursor.id());
+        assertEquals(testDiary.getCreatedAt(), cursor.createdAt());
+
+        // 다음 요청은 커서 이후 범위만 조회
+        when(diaryRepository.findSliceByUserIdAfter(testUser.getId(), cursor.createdAt(), cursor.id(), PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+        DiaryCursorResponse last = diaryService.findDiariesByCursor(userDetails, first.nextCursor(), 1);
+
+        assertFalse(last.hasNext());
+        assertNull(last.nextCursor());
+        verify(diaryRepository, never()).count();
     }
 
     // --- updateDiaryPost Tests ---
@@ -148,7 +251,7 @@ class DiaryServiceTest {
     @DisplayName("updateDiaryPost_success")
     void updateDiaryPost_success() {
         when(userDetails.getUsername()).thenReturn(testUser.getLoginId());
-        when(userRepository.findByUserName(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
         when(diaryRepository.findById(testDiary.getId())).thenReturn(Optional.of(testDiary));
         when(diaryRepository.save(any(Diary.class))).thenReturn(testDiary);
 
@@ -159,23 +262,40 @@ class DiaryServiceTest {
         assertEquals(diaryUpdateRequest.getContent(), responseDto.getContent());
         assertEquals(testUser.getNickname(), responseDto.getUserName());
 
-        verify(userRepository, times(1)).findByUserName(testUser.getLoginId());
+        verify(userPrincipalCache, times(1)).find(testUser.getLoginId());
         verify(diaryRepository, times(1)).findById(testDiary.getId());
         verify(diaryRepository, times(1)).save(any(Diary.class));
     }
 
+    @Test
+    @DisplayName("updateDiaryPost_unchangedContentSkipsReindexAndReanalysis")
+    void updateDiaryPost_unchangedContentSkipsReindexAndReanalysis() {
+        testDiary.setContentHash(Diary.contentHashOf(testDiary.getTitle(), testDiary.getContent()));
+        diaryUpdateRequest.setTitle(testDiary.getTitle());
+        diaryUpdateRequest.setContent(testDiary.getContent());
+        when(userDetails.getUsername()).thenReturn(testUser.getLoginId());
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        when(diaryRepository.findById(testDiary.getId())).thenReturn(Optional.of(testDiary));
+        when(diaryRepository.save(any(Diary.class))).thenReturn(testDiary);
+
+        diaryService.updateDiaryPost(testDiary.getId(), diaryUpdateRequest, userDetails);
+
+        verify(diarySearchEngine, never()).index(any(Diary.class));
+        assertEquals(Diary.contentHashOf("Test Title", "Test Content"), testDiary.getContentHash());
+    }
+
     @Test
     @DisplayName("updateDiaryPost_diaryNotFound")
     void updateDiaryPost_diaryNotFound() {
         when(userDetails.getUsername()).thenReturn(testUser.getUserName());
-        when(userRepository.findByUserName(testUser.getUserName())).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find(testUser.getUserName())).thenReturn(Optional.of(testUser));
         when(diaryRepository.findById(testDiary.getId())).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
             diaryService.updateDiaryPost(testDiary.getId(), diaryUpdateRequest, userDetails);
         });
 
-        verify(userRepository, times(1)).findByUserName(testUser.getUserName());
+        verify(userPrincipalCache, times(1)).find(testUser.getUserName());
         verify(diaryRepository, times(1)).findById(testDiary.getId());
         verify(diaryRepository, never()).save(any(Diary.class));
     }
@@ -184,7 +304,7 @@ class DiaryServiceTest {
     @DisplayName("updateDiaryPost_accessDenied")
     void updateDiaryPost_accessDenied() {
         when(userDetails.getUsername()).thenReturn(otherUser.getUserName()); // Current user is otherUser
-        when(userRepository.findByUserName(otherUser.getUserName())).thenReturn(Optional.of(otherUser));
+        when(userPrincipalCache.find(otherUser.getUserName())).thenReturn(Optional.of(otherUser));
         // testDiary is owned by testUser
         when(diaryRepository.findById(testDiary.getId())).thenReturn(Optional.of(testDiary)); 
 
@@ -192,7 +312,7 @@ class DiaryServiceTest {
             diaryService.updateDiaryPost(testDiary.getId(), diaryUpdateRequest, userDetails);
         });
 
-        verify(userRepository, times(1)).findByUserName(otherUser.getUserName());
+        verify(userPrincipalCache, times(1)).find(otherUser.getUserName());
         verify(diaryRepository, times(1)).findById(testDiary.getId());
         verify(diaryRepository, never()).save(any(Diary.class));
     }
@@ -202,28 +322,29 @@ class DiaryServiceTest {
     @DisplayName("deleteDiaryPost_success")
     void deleteDiaryPost_success() {
         when(userDetails.getUsername()).thenReturn(testUser.getUserName());
-        when(userRepository.findByUserName(testUser.getUserName())).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find(testUser.getUserName())).thenReturn(Optional.of(testUser));
         when(diaryRepository.findById(testDiary.getId())).thenReturn(Optional.of(testDiary));
 
         diaryService.deleteDiaryPost(testDiary.getId(), userDetails);
 
-        verify(userRepository, times(1)).findByUserName(testUser.getUserName());
+        verify(userPrincipalCache, times(1)).find(testUser.getUserName());
         verify(diaryRepository, times(1)).findById(testDiary.getId());
         verify(diaryRepository, times(1)).delete(testDiary);
+        verify(diarySearchEngine, times(1)).delete(testDiary.getId());
     }
 
     @Test
     @DisplayName("deleteDiaryPost_diaryNotFound")
     void deleteDiaryPost_diaryNotFound() {
         when(userDetails.getUsername()).thenReturn(testUser.getUserName());
-        when(userRepository.findByUserName(testUser.getUserName())).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find(testUser.getUserName())).thenReturn(Optional.of(testUser));
         when(diaryRepository.findById(testDiary.getId())).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
             diaryService.deleteDiaryPost(testDiary.getId(), userDetails);
         });
 
-        verify(userRepository, times(1)).findByUserName(testUser.getUserName());
+        verify(userPrincipalCache, times(1)).find(testUser.getUserName());
         verify(diaryRepository, times(1)).findById(testDiary.getId());
         verify(diaryRepository, never()).delete(any(Diary.class));
     }
@@ -232,7 +353,7 @@ class DiaryServiceTest {
     @DisplayName("deleteDiaryPost_accessDenied")
     void deleteDiaryPost_accessDenied() {
         when(userDetails.getUsername()).thenReturn(otherUser.getUserName()); // Current user is otherUser
-        when(userRepository.findByUserName(otherUser.getUserName())).thenReturn(Optional.of(otherUser));
+        when(userPrincipalCache.find(otherUser.getUserName())).thenReturn(Optional.of(otherUser));
         // testDiary is owned by testUser
         when(diaryRepository.findById(testDiary.getId())).thenReturn(Optional.of(testDiary));
 
@@ -240,7 +361,7 @@ class DiaryServiceTest {
             diaryService.deleteDiaryPost(testDiary.getId(), userDetails);
         });
 
-        verify(userRepository, times(1)).findByUserName(otherUser.getUserName());
+        verify(userPrincipalCache, times(1)).find(otherUser.getUserName());
         verify(diaryRepository, times(1)).findById(testDiary.getId());
         verify(diaryRepository, never()).delete(any(Diary.class));
     }
@@ -253,7 +374,7 @@ class DiaryServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
         when(authentication.getName()).thenReturn(testUser.getLoginId());
-        when(userRepository.findByUserName(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
 
         // findDiaryById uses findByIdAndUserId
         when(diaryRepository.findByIdAndUser_Id(testDiary.getId(), testUser.getId())).thenReturn(Optional.of(testDiary));
@@ -267,10 +388,59 @@ class DiaryServiceTest {
         assertEquals(testUser.getNickname(), responseDto.getUserName());
 
         verify(authentication, times(1)).getName();
-        verify(userRepository, times(1)).findByUserName(testUser.getLoginId());
+        verify(userPrincipalCache, times(1)).find(testUser.getLoginId());
         verify(diaryRepository, times(1)).findByIdAndUser_Id(testDiary.getId(), testUser.getId());
     }
 
+    @Test
+    @DisplayName("findDiaryVersion_changesWithAuthorUpdate")
+    void findDiaryVersion_changesWithAuthorUpdate() {
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        when(authentication.getName()).thenReturn(testUser.getLoginId());
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        LocalDateTime diaryUpdatedAt = LocalDateTime.of(2025, 6, 1, 9, 0);
+        LocalDateTime userUpdatedAt = LocalDateTime.of(2025, 6, 2, 9, 0);
+        DiaryRepository.VersionView view = mock(DiaryRepository.VersionView.class);
+        when(view.getDiaryVersion()).thenReturn(1L);
+        when(view.getDiaryUpdatedAt()).thenReturn(diaryUpdatedAt);
+        when(view.getUserUpdatedAt()).thenReturn(userUpdatedAt);
+        when(diaryRepository.findVersionByIdAndUserId(testDiary.getId(), testUser.getId())).thenReturn(Optional.of(view));
+
+        ResourceVersion version = diaryService.findDiaryVersion(testDiary.getId());
+
+        // 닉네임이 응답에 포함되므로 작성자 수정 시각도 버전에 반영
+        assertEquals(userUpdatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), version.lastModified());
+        assertNotEquals(ResourceVersion.of("diary-" + testDiary.getId(), diaryUpdatedAt, diaryUpdatedAt).etag(), version.etag());
+        verify(diaryRepository, never()).findByIdAndUser_Id(any(), any());
+    }
+
+    @Test
+    @DisplayName("findDiaryVersion_changesWithEditInSameSecond")
+    void findDiaryVersion_changesWithEditInSameSecond() {
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+        when(authentication.getName()).thenReturn(testUser.getLoginId());
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        // updated_at 은 초 단위로 저장되므로 같은 초의 두 수정은 같은 수정 시각을 가짐
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 6, 1, 9, 0, 0);
+        DiaryRepository.VersionView first = mock(DiaryRepository.VersionView.class);
+        when(first.getDiaryVersion()).thenReturn(1L);
+        when(first.getDiaryUpdatedAt()).thenReturn(updatedAt);
+        when(first.getUserUpdatedAt()).thenReturn(updatedAt);
+        DiaryRepository.VersionView second = mock(DiaryRepository.VersionView.class);
+        when(second.getDiaryVersion()).thenReturn(2L);
+        when(second.getDiaryUpdatedAt()).thenReturn(updatedAt);
+        when(second.getUserUpdatedAt()).thenReturn(updatedAt);
+        when(diaryRepository.findVersionByIdAndUserId(testDiary.getId(), testUser.getId()))
+                .thenReturn(Optional.of(first), Optional.of(second));
+
+        ResourceVersion before = diaryService.findDiaryVersion(testDiary.getId());
+        ResourceVersion after = diaryService.findDiaryVersion(testDiary.getId());
+
+        assertNotEquals(before.etag(), after.etag());
+    }
+
     @Test
     @DisplayName("findDiaryById_notFoundOrAccessDenied")
     void findDiaryById_notFoundOrAccessDenied() {
@@ -278,7 +448,7 @@ class DiaryServiceTest {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
         when(authentication.getName()).thenReturn(testUser.getLoginId());
-        when(userRepository.findByUserName(testUser.getLoginId())).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find(testUser.getLoginId())).thenReturn(Optional.of(testUser));
 
         // findDiaryById uses findByIdAndUserId, returns empty if not found or user mismatch
         when(diaryRepository.findByIdAndUser_Id(testDiary.getId(), testUser.getId())).thenReturn(Optional.empty());
@@ -288,7 +458,7 @@ class DiaryServiceTest {
         });
 
         verify(authentication, times(1)).getName();
-        verify(userRepository, times(1)).findByUserName(testUser.getLoginId());
+        verify(userPrincipalCache, times(1)).find(testUser.getLoginId());
         verify(diaryRepository, times(1)).findByIdAndUser_Id(testDiary.getId(), testUser.getId());
     }
 }
@@ -0,0 +1,71 @@
+package com.authentication.auth.domain.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeSortedIdsTest {
+
+    private static final long NOW = TimeSortedIds.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 밀리초에 순번을 모두 써도 중복 없이 증가한다")
+    void nextId_isUniqueAndIncreasingWithinSameMillisecond() {
+        TimeSortedIds ids = new TimeSortedIds(3, () -> NOW);
+        Set<Long> issued = new HashSet<>();
+        long previous = -1;
+
+        for (int i = 0; i < 1000; i++) {
+            long id = ids.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(issued.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 ID 는 감소하지 않는다")
+    void nextId_survivesClockRollback() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeSortedIds ids = new TimeSortedIds(0, clock::get);
+
+        long before = ids.nextId();
+        clock.set(NOW - 5_000);
+
+        assertThat(ids.nextId()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("ID 는 53비트 이내이며 시각과 노드 번호를 담는다")
+    void nextId_encodesTimeAndNodeWithin53Bits() {
+        long farFuture = TimeSortedIds.EPOCH_MILLIS + (1L << 41) - 1;
+        long id = new TimeSortedIds(TimeSortedIds.MAX_NODE, () -> farFuture).nextId();
+
+        assertThat(id).isLessThan(1L << 53);
+        assertThat((id >> TimeSortedIds.SEQUENCE_BITS) & TimeSortedIds.MAX_NODE).isEqualTo(TimeSortedIds.MAX_NODE);
+        assertThat((id >> (TimeSortedIds.NODE_BITS + TimeSortedIds.SEQUENCE_BITS)) + TimeSortedIds.EPOCH_MILLIS)
+                .isEqualTo(farFuture);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 노드 번호는 거부한다")
+    void constructor_rejectsInvalidNode() {
+        assertThatThrownBy(() -> new TimeSortedIds(TimeSortedIds.MAX_NODE + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 필수인데 비어 있으면 임의 값 대신 실패한다")
+    void resolveNode_failsWhenRequiredNodeIsMissing() {
+        assertThatThrownBy(() -> TimeSortedIds.resolveNode(null, true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(TimeSortedIds.resolveNode(7, true)).isEqualTo(7);
+        assertThat(TimeSortedIds.resolveNode(null, false)).isBetween(0L, TimeSortedIds.MAX_NODE);
+    }
+}
@@ -0,0 +1,89 @@
+package com.authentication.auth.filter;
+
+import com.authentication.auth.configuration.ratelimit.RateLimitProperties;
+import com.authentication.auth.service.ratelimit.RateLimitService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class RateLimitFilterTest {
+
+    private static final RateLimitProperties.Rule LOGIN_IDENTIFIER_RULE = new RateLimitProperties.Rule(
+            "login-identifier", "/api/public/login", "POST", RateLimitProperties.KeyType.BODY,
+            List.of("loginId", "email"), 10, Duration.ofMinutes(5));
+
+    private final RateLimitService rateLimitService = mock(RateLimitService.class);
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new RateLimitProperties(true, false, 1000, 64, List.of(LOGIN_IDENTIFIER_RULE)),
+            rateLimitService, new ObjectMapper());
+
+    @Test
+    @DisplayName("본문 필드 값을 키로 요청 제한을 적용하고 본문을 다음 단계에 그대로 전달한다")
+    void doFilter_appliesBodyKeyAndForwardsBody() throws Exception {
+        String json = "{\"loginId\":\"User1\",\"password\":\"pw\"}";
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(loginRequest(json), response, chain);
+
+        ArgumentCaptor<ServletRequest> forwarded = ArgumentCaptor.forClass(ServletRequest.class);
+        verify(rateLimitService).tryAcquire(LOGIN_IDENTIFIER_RULE, "user1");
+        verify(chain).doFilter(forwarded.capture(), eq(response));
+        assertThat(new String(forwarded.getValue().getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(json);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("공백으로 최대 크기를 넘긴 본문은 규칙을 건너뛰지 않고 413 으로 거부한다")
+    void doFilter_paddedBodyOverLimit_rejectsWithPayloadTooLarge() throws Exception {
+        String json = "{\"loginId\":\"user1\",\"password\":\"pw\"" + " ".repeat(100) + "}";
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(loginRequest(json), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        verify(chain, never()).doFilter(any(), any());
+        verify(rateLimitService, never()).tryAcquire(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("본문 키 규칙이 없는 경로는 본문을 읽지 않고 통과시킨다")
+    void doFilter_unmatchedPath_passesThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/diaries");
+        request.setContent(("{\"content\":\"" + "a".repeat(200) + "\"}").getBytes(StandardCharsets.UTF_8));
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verifyNoInteractions(rateLimitService);
+    }
+
+    private static MockHttpServletRequest loginRequest(String json) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/public/login");
+        request.setContentType("application/json");
+        request.setContent(json.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package com.authentication.auth.service.ai;
+
+import com.authentication.auth.configuration.diary.AnalysisLimiterProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("제한값만큼 사용 중이면 maxWait 뒤 허용하지 않고, 반환되면 다시 허용한다")
+    void acquire_returnsNullWhenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0.2);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.acquire();
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(limiter.acquire()).isNull();
+
+        first.onIgnore();
+        first.onIgnore();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.acquire()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("과부하 응답이면 제한값을 줄이고 최소값 아래로 내려가지 않는다")
+    void onDropped_shrinksLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 0.2);
+
+        limiter.acquire().onDropped();
+        assertThat(limiter.limit()).isEqualTo(7);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire().onDropped();
+        }
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 일정하고 제한값을 충분히 사용하면 제한값을 늘린다")
+    void onSample_growsLimitUnderSteadyLatency() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1.0);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.onSample(Duration.ofSeconds(2).toNanos(), limiter.limit());
+        }
+
+        assertThat(limiter.limit()).isGreaterThan(4);
+    }
+
+    @Test
+    @DisplayName("제한값을 모두 사용하고 응답 시간이 일정하면 실행기의 기존 고정 스레드 수(8)를 넘어 최대값까지 늘린다")
+    void onSample_growsLimitPastExecutorDefaultUpToMaximum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 0.2);
+
+        for (int i = 0; i < 200; i++) {
+            limiter.onSample(Duration.ofSeconds(2).toNanos(), limiter.limit());
+        }
+
+        assertThat(limiter.limit()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 장기 평균보다 크게 늘어나면 제한값을 줄인다")
+    void onSample_shrinksLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(16, 1.0);
+        limiter.onSample(Duration.ofSeconds(2).toNanos(), 1);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.onSample(Duration.ofSeconds(30).toNanos(), 1);
+        }
+
+        assertThat(limiter.limit()).isLessThan(16);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, double smoothing) {
+        return new AdaptiveConcurrencyLimiter(new AnalysisLimiterProperties(
+                true, initialLimit, 1, 64, Duration.ofMillis(10), smoothing, 0.9));
+    }
+}
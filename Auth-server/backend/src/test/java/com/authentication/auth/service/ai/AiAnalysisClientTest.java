@@ -0,0 +1,62 @@
+package com.authentication.auth.service.ai;
+
+import com.authentication.auth.configuration.diary.AnalysisBatchProperties;
+import com.authentication.auth.dto.ai.AIAnalysisResponse;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiAnalysisClientTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private AiAnalysisClient client;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    calls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"emotion\":\"평온\",\"solution\":\"잘하고 있어요\"}")
+                            .build());
+                })
+                .build();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        client = new AiAnalysisClient(webClient, circuitBreakerRegistry, BulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(),
+                new AnalysisBatchProperties(true, 8, Duration.ofMillis(50), Duration.ofSeconds(60)));
+    }
+
+    @Test
+    void analyze_returnsParsedResponse() {
+        AIAnalysisResponse response = client.analyze("text").block();
+
+        assertThat(response.getEmotion()).isEqualTo("평온");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void analyze_doesNotCallServerWhileCircuitIsOpen() {
+        circuitBreakerRegistry.circuitBreaker(AiAnalysisClient.INSTANCE).transitionToForcedOpenState();
+
+        assertThatThrownBy(() -> client.analyze("text").block()).isInstanceOf(CallNotPermittedException.class);
+        assertThat(calls).hasValue(0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.authentication.auth.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlMapTest {
+
+    private record Value(String text, long expiresAtMillis) implements BoundedTtlMap.Expiring {
+    }
+
+    @Test
+    void get_expiredEntry_isRemoved() {
+        BoundedTtlMap<String, Value> map = new BoundedTtlMap<>(10);
+        map.put("a", new Value("a", 100), 0);
+
+        assertThat(map.get("a", 99)).isNotNull();
+        assertThat(map.get("a", 100)).isNull();
+        assertThat(map.size()).isZero();
+        assertThat(map.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void put_whenFull_removesExpiredFirstThenLeavesHeadroom() {
+        BoundedTtlMap<String, Value> map = new BoundedTtlMap<>(10);
+        map.put("expired", new Value("expired", 50), 0);
+        for (int i = 0; i < 9; i++) {
+            map.put("k" + i, new Value("k" + i, 1_000), 0);
+        }
+
+        map.put("new", new Value("new", 1_000), 100);
+
+        assertThat(map.get("expired", 0)).isNull();
+        assertThat(map.get("new", 100)).isNotNull();
+        assertThat(map.size()).isLessThanOrEqualTo(10);
+
+        for (int i = 0; i < 20; i++) {
+            map.put("more" + i, new Value("more" + i, 1_000), 100);
+        }
+        assertThat(map.size()).isLessThanOrEqualTo(10);
+    }
+}
@@ -0,0 +1,86 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisBatchProperties;
+import com.authentication.auth.dto.ai.AIAnalysisResponse;
+import com.authentication.auth.dto.ai.AIBatchAnalysisResponse;
+import com.authentication.auth.service.ai.AiAnalysisClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AnalysisBatcherTest {
+
+    private final AiAnalysisClient aiAnalysisClient = mock(AiAnalysisClient.class);
+    private final AnalysisBatcher batcher = new AnalysisBatcher(
+            new AnalysisBatchProperties(false, 8, Duration.ofMillis(50), Duration.ofSeconds(60)),
+            aiAnalysisClient);
+
+    @Test
+    void fanOut_completesEachItemWithItsOwnResult() {
+        AnalysisBatcher.Pending first = pending("first");
+        AnalysisBatcher.Pending second = pending("second");
+        AnalysisBatcher.Pending third = pending("third");
+
+        batcher.fanOut(List.of(first, second, third), new AIBatchAnalysisResponse(List.of(
+                new AIBatchAnalysisResponse.Result("1", null, null, "rate limited"),
+                new AIBatchAnalysisResponse.Result("0", "기쁨", "좋아요", null))));
+
+        assertThat(first.result().join().getEmotion()).isEqualTo("기쁨");
+        assertThat(second.result()).isCompletedExceptionally();
+        assertThat(third.result()).isCompletedExceptionally();
+    }
+
+    @Test
+    void fanOut_failsRemainingItemsOnEmptyResponse() {
+        AnalysisBatcher.Pending item = pending("text");
+
+        batcher.fanOut(List.of(item), null);
+
+        assertThat(item.result()).isCompletedExceptionally();
+    }
+
+    @Test
+    void send_countsOnlyItemsThatReturnedAnError() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        batcher.bindTo(registry);
+        AnalysisBatcher.Pending first = pending("first");
+        AnalysisBatcher.Pending second = pending("second");
+        when(aiAnalysisClient.analyzeBatch(any())).thenReturn(Mono.just(new AIBatchAnalysisResponse(List.of(
+                new AIBatchAnalysisResponse.Result("0", "기쁨", "좋아요", null),
+                new AIBatchAnalysisResponse.Result("1", null, null, "rate limited")))));
+
+        batcher.send(List.of(first, second));
+
+        assertThat(first.result().join().getEmotion()).isEqualTo("기쁨");
+        assertThat(second.result()).isCompletedExceptionally();
+        assertThat(registry.get("diary.analysis.batch.failed.items").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void send_failsAllItemsOnEmptyResponse() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        batcher.bindTo(registry);
+        AnalysisBatcher.Pending first = pending("first");
+        AnalysisBatcher.Pending second = pending("second");
+        when(aiAnalysisClient.analyzeBatch(any())).thenReturn(Mono.empty());
+
+        batcher.send(List.of(first, second));
+
+        assertThat(first.result()).isCompletedExceptionally();
+        assertThat(second.result()).isCompletedExceptionally();
+        assertThat(registry.get("diary.analysis.batch.failed.items").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    private static AnalysisBatcher.Pending pending(String text) {
+        return new AnalysisBatcher.Pending(text, new CompletableFuture<AIAnalysisResponse>());
+    }
+}
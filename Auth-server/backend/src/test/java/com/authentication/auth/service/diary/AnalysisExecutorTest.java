@@ -0,0 +1,86 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisExecutorProperties;
+import com.authentication.auth.configuration.diary.AnalysisLimiterProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisExecutorTest {
+
+    private AnalysisExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void submit_rejectsWhenQueueIsFull() throws InterruptedException {
+        executor = new AnalysisExecutor(new AnalysisExecutorProperties(1, 1, Duration.ofMinutes(1), false), limiter(false));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThat(executor.submit(1L, () -> {
+            started.countDown();
+            await(release);
+        }, () -> { })).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.submit(2L, () -> { }, () -> { })).isTrue();
+        assertThat(executor.queueDepth()).isEqualTo(1);
+
+        assertThat(executor.submit(3L, () -> { }, () -> { })).isFalse();
+        release.countDown();
+    }
+
+    @Test
+    void submit_skipsTaskThatWaitedTooLong() throws InterruptedException {
+        executor = new AnalysisExecutor(new AnalysisExecutorProperties(1, 10, Duration.ZERO, false), limiter(false));
+        AtomicBoolean ran = new AtomicBoolean();
+        CountDownLatch expired = new CountDownLatch(1);
+
+        executor.submit(1L, () -> ran.set(true), expired::countDown);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    void submit_runsUpToLimiterMaxLimitConcurrently() throws InterruptedException {
+        executor = new AnalysisExecutor(new AnalysisExecutorProperties(8, 10, Duration.ofMinutes(1), false), limiter(true));
+        CountDownLatch started = new CountDownLatch(16);
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (long id = 1; id <= 16; id++) {
+            executor.submit(id, () -> {
+                started.countDown();
+                await(release);
+            }, () -> { });
+        }
+
+        assertThat(executor.workers()).isEqualTo(64);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.activeCount()).isEqualTo(16);
+        release.countDown();
+    }
+
+    private static AnalysisLimiterProperties limiter(boolean enabled) {
+        return new AnalysisLimiterProperties(enabled, 8, 1, 64, Duration.ofSeconds(30), 0.2, 0.9);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisJobProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalysisJobQueueTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private StreamOperations<String, Object, Object> streamOperations;
+    private ZSetOperations<String, String> zSetOperations;
+    private AnalysisJobQueue queue;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        streamOperations = mock(StreamOperations.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        queue = new AnalysisJobQueue(redisTemplate, new AnalysisJobProperties(true, 10, Duration.ofSeconds(2),
+                Duration.ofMinutes(5), 3, Duration.ofSeconds(30), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("스트림 추가에 실패하면 대기 표시를 제거하여 이후 수정이 생략되지 않게 한다")
+    void enqueue_streamFailure_clearsQueuedMarker() {
+        when(valueOperations.setIfAbsent(eq("AI_ANALYSIS_QUEUED:7"), eq("1"), any(Duration.class))).thenReturn(true);
+        when(streamOperations.add(any(MapRecord.class))).thenThrow(new IllegalStateException("redis down"));
+
+        assertThat(queue.enqueue(7L, "user")).isFalse();
+
+        verify(redisTemplate).delete("AI_ANALYSIS_QUEUED:7");
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 2배로 늘고 상한을 넘지 않는다")
+    void backoff_doublesUpToLimit() {
+        assertThat(queue.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(queue.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(queue.backoff(3)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("최대 시도 전의 실패는 재시도 집합에 예약하고 ACK 한다")
+    void fail_schedulesRetryBeforeMaxAttempts() {
+        AnalysisJobQueue.Job job = new AnalysisJobQueue.Job(RecordId.of("1-0"), 7L, "user", 0);
+
+        assertThat(queue.fail(job, "timeout")).isTrue();
+
+        verify(zSetOperations).add(eq(AnalysisJobQueue.RETRY_KEY), eq("1:7:user"), anyDouble());
+        verify(streamOperations).acknowledge(AnalysisJobQueue.STREAM_KEY, AnalysisJobQueue.GROUP, job.id());
+        verify(streamOperations, never()).add(recordIn(AnalysisJobQueue.DEAD_LETTER_KEY, null, null));
+    }
+
+    @Test
+    @DisplayName("최대 시도에 도달한 실패는 dead-letter 스트림으로 옮긴다")
+    void fail_movesToDeadLetterAtMaxAttempts() {
+        AnalysisJobQueue.Job job = new AnalysisJobQueue.Job(RecordId.of("1-0"), 7L, "user", 2);
+
+        assertThat(queue.fail(job, "timeout")).isFalse();
+
+        verify(zSetOperations, never()).add(any(), any(), anyDouble());
+        verify(streamOperations).add(recordIn(AnalysisJobQueue.DEAD_LETTER_KEY, "attempts", "3"));
+        verify(streamOperations).acknowledge(AnalysisJobQueue.STREAM_KEY, AnalysisJobQueue.GROUP, job.id());
+    }
+
+    @Test
+    @DisplayName("재시도 시각이 된 작업은 집합에서 제거한 인스턴스만 스트림에 다시 추가한다")
+    void promoteDueRetries_addsOnlyRemovedMembers() {
+        when(zSetOperations.rangeByScore(eq(AnalysisJobQueue.RETRY_KEY), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(Set.of("1:7:user"));
+        when(zSetOperations.remove(AnalysisJobQueue.RETRY_KEY, "1:7:user")).thenReturn(1L, 0L);
+
+        assertThat(queue.promoteDueRetries(10)).isEqualTo(1);
+        assertThat(queue.promoteDueRetries(10)).isZero();
+
+        verify(streamOperations).add(recordIn(AnalysisJobQueue.STREAM_KEY, "attempt", "1"));
+    }
+
+    @Test
+    @DisplayName("회수한 작업의 시도 횟수는 Redis 의 전달 횟수로 계산하여 반복 중단되는 작업도 dead-letter 로 옮긴다")
+    void reclaim_countsDeliveriesFromPendingEntries() {
+        RecordId id = RecordId.of("1-0");
+        when(streamOperations.pending(eq(AnalysisJobQueue.STREAM_KEY), eq(AnalysisJobQueue.GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(AnalysisJobQueue.GROUP, List.of(
+                        new PendingMessage(id, Consumer.from(AnalysisJobQueue.GROUP, "worker"), Duration.ofMinutes(6), 3))));
+        MapRecord<String, Object, Object> record = StreamRecords.newRecord()
+                .in(AnalysisJobQueue.STREAM_KEY)
+                .withId(id)
+                .ofMap(Map.<Object, Object>of("diaryId", "7", "userId", "user", "attempt", "0"));
+        when(streamOperations.claim(eq(AnalysisJobQueue.STREAM_KEY), eq(AnalysisJobQueue.GROUP), any(), any(XClaimOptions.class)))
+                .thenReturn(List.of(record));
+
+        // 레코드의 attempt 는 0 이지만 이미 3번 전달되어 maxAttempts(3)에 도달
+        assertThat(queue.reclaim(10)).isEmpty();
+
+        verify(streamOperations).add(recordIn(AnalysisJobQueue.DEAD_LETTER_KEY, "attempts", "3"));
+        verify(streamOperations).acknowledge(AnalysisJobQueue.STREAM_KEY, AnalysisJobQueue.GROUP, id);
+    }
+
+    private static MapRecord<String, ?, ?> recordIn(String stream, String field, String value) {
+        return argThat(record -> stream.equals(record.getStream())
+                && (field == null || value.equals(record.getValue().get(field))));
+    }
+}
@@ -0,0 +1,73 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.configuration.diary.AnalysisJobProperties;
+import com.authentication.auth.diary.repository.DiaryRepository;
+import com.authentication.auth.repository.AIResponseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalysisJobWorkerTest {
+
+    private AnalysisJobQueue jobQueue;
+    private AnalysisExecutor analysisExecutor;
+    private AnalysisJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        jobQueue = mock(AnalysisJobQueue.class);
+        analysisExecutor = mock(AnalysisExecutor.class);
+        worker = new AnalysisJobWorker(jobQueue, analysisExecutor, mock(DiaryAnalysisService.class),
+                mock(DiaryRepository.class), mock(AIResponseRepository.class),
+                new AnalysisJobProperties(true, 10, Duration.ofSeconds(2), Duration.ofMinutes(5), 3,
+                        Duration.ofSeconds(30), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("실행기가 거부하면 해당 작업과 남은 작업을 시도 횟수 증가 없이 보류한다")
+    void dispatch_rejectedByExecutor_defersRemainingJobs() {
+        AnalysisJobQueue.Job first = job("1-0", 1L);
+        AnalysisJobQueue.Job second = job("2-0", 2L);
+        AnalysisJobQueue.Job third = job("3-0", 3L);
+        when(analysisExecutor.submit(eq(1L), any(), any())).thenReturn(true);
+        when(analysisExecutor.submit(eq(2L), any(), any())).thenReturn(false);
+
+        worker.dispatch(List.of(first, second, third));
+
+        verify(jobQueue, never()).defer(first);
+        verify(jobQueue).defer(second);
+        verify(jobQueue).defer(third);
+        verify(analysisExecutor, never()).submit(eq(3L), any(), any());
+        verify(jobQueue, never()).fail(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되어 실행하지 않은 작업은 보류한다")
+    void dispatch_expiredInExecutorQueue_defersJob() {
+        AnalysisJobQueue.Job job = job("1-0", 1L);
+        ArgumentCaptor<Runnable> onExpired = ArgumentCaptor.forClass(Runnable.class);
+        when(analysisExecutor.submit(eq(1L), any(), onExpired.capture())).thenReturn(true);
+
+        worker.dispatch(List.of(job));
+        onExpired.getValue().run();
+
+        verify(jobQueue).defer(job);
+    }
+
+    private static AnalysisJobQueue.Job job(String id, Long diaryId) {
+        return new AnalysisJobQueue.Job(RecordId.of(id), diaryId, "user", 0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.domain.AIResponse;
+import com.authentication.auth.domain.Diary;
+import com.authentication.auth.domain.User;
+import com.authentication.auth.dto.AIResponseDto;
+import com.authentication.auth.repository.AIResponseRepository;
+import com.authentication.auth.service.ai.AdaptiveConcurrencyLimiter;
+import com.authentication.auth.service.ai.AiAnalysisClient;
+import com.authentication.auth.service.sse.SseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DiaryAnalysisServiceTest {
+
+    private final AIResponseRepository aiResponseRepository = mock(AIResponseRepository.class);
+    private final SseService sseService = mock(SseService.class);
+    private final AnalysisBatcher analysisBatcher = mock(AnalysisBatcher.class);
+    private final AiAnalysisClient aiAnalysisClient = mock(AiAnalysisClient.class);
+    private final DiaryAnalysisService service = new DiaryAnalysisService(aiResponseRepository, new ObjectMapper(),
+            sseService, mock(StringRedisTemplate.class), analysisBatcher, aiAnalysisClient,
+            mock(AdaptiveConcurrencyLimiter.class));
+
+    @Test
+    @DisplayName("같은 텍스트의 분석이 완료되어 있으면 AI 서버를 호출하지 않고 skipped=unchanged 를 SSE 로 전달한다")
+    void analyzeAndSaveDiary_unchangedText_sendsSkippedOverSse() {
+        Diary diary = Diary.builder()
+                .id(1L)
+                .title("제목")
+                .content("본문")
+                .user(User.builder().loginId("user1").build())
+                .build();
+        AIResponse completed = AIResponse.builder()
+                .diaryId(1L)
+                .contentHash(Diary.contentHashOf("제목", "본문"))
+                .status(AIResponse.AnalysisStatus.COMPLETED)
+                .build();
+        when(aiResponseRepository.findFirstByDiaryIdOrderByCreatedAtDesc(1L)).thenReturn(Optional.of(completed));
+
+        AIResponseDto result = service.analyzeAndSaveDiary(diary);
+
+        assertThat(result.getSkipped()).isEqualTo(DiaryAnalysisService.SKIPPED_UNCHANGED);
+        verify(sseService).sendEventToUser(eq("user1"), eq("analysis_complete"),
+                argThat(dto -> dto instanceof AIResponseDto sent
+                        && DiaryAnalysisService.SKIPPED_UNCHANGED.equals(sent.getSkipped())));
+        verify(aiResponseRepository, never()).save(any());
+        verifyNoInteractions(analysisBatcher, aiAnalysisClient);
+    }
+}
@@ -0,0 +1,117 @@
+package com.authentication.auth.service.diary;
+
+import com.authentication.auth.diary.repository.DiaryCalendarRepository;
+import com.authentication.auth.diary.repository.DiaryRepository;
+import com.authentication.auth.domain.DiaryCalendar;
+import com.authentication.auth.domain.DiaryCalendarId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DiaryCalendarServiceTest {
+
+    private DiaryCalendarRepository calendarRepository;
+    private DiaryRepository diaryRepository;
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private DiaryCalendarService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        calendarRepository = mock(DiaryCalendarRepository.class);
+        diaryRepository = mock(DiaryRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        service = new DiaryCalendarService(calendarRepository, diaryRepository, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("비트맵을 날짜 목록으로 변환한다")
+    void toDates_convertsMaskToSortedDates() {
+        int mask = (1) | (1 << 14) | (1 << 29);
+
+        assertThat(DiaryCalendarService.toDates(YearMonth.of(2025, 6), mask))
+                .containsExactly("2025-06-01", "2025-06-15", "2025-06-30");
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB 를 조회하지 않는다")
+    void yearMasks_cacheHit_skipsDatabase() {
+        List<Object> cached = new ArrayList<>(Collections.nCopies(12, (Object) "0"));
+        cached.set(5, String.valueOf(1 << 14));
+        cached.add("2");
+        when(hashOperations.multiGet(eq("DIARY_CAL:1"), anyList())).thenReturn(cached);
+
+        int[] masks = service.yearMasks(1L, 2025);
+
+        assertThat(masks[5]).isEqualTo(1 << 14);
+        verify(calendarRepository, never()).findById_UserIdAndId_MonthKeyBetween(anyLong(), any(), any());
+        verify(diaryRepository, never()).findDistinctDatesByUserIdAndDateBetween(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("저장된 비트맵이 없는 달만 일기 테이블에서 계산하여 저장한다")
+    void monthMask_missingEverywhere_computesAndStores() {
+        YearMonth june = YearMonth.of(2025, 6);
+        when(hashOperations.multiGet(eq("DIARY_CAL:1"), anyList())).thenReturn(Arrays.asList(null, null));
+        when(calendarRepository.findById_UserIdAndId_MonthKeyBetween(1L, 202506, 202506)).thenReturn(List.of());
+        when(diaryRepository.findDistinctDatesByUserIdAndDateBetween(1L, june.atDay(1), june.atEndOfMonth()))
+                .thenReturn(List.of(LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 3)));
+
+        int mask = service.monthMask(1L, june);
+
+        assertThat(mask).isEqualTo(0b110);
+        verify(calendarRepository).mergeDays(1L, 202506, 0b110);
+        // 캐시 해시에 버전이 없던 상태에서 조회했으므로 여전히 버전이 없을 때만 채움
+        verify(redisTemplate).execute(DiaryCalendarService.FILL_SCRIPT, List.of("DIARY_CAL:1"),
+                "", "86400", "202506", String.valueOf(0b110));
+    }
+
+    @Test
+    @DisplayName("같은 날짜에 다른 일기가 남아 있으면 비트를 제거하지 않는다")
+    void onDiaryRemoved_keepsBitWhenAnotherDiaryRemains() {
+        LocalDate date = LocalDate.of(2025, 6, 2);
+        when(diaryRepository.existsByUser_IdAndDate(1L, date)).thenReturn(true);
+
+        service.onDiaryRemoved(1L, date);
+
+        verify(calendarRepository, never()).retainDays(anyLong(), anyInt(), anyInt());
+        verify(redisTemplate).execute(DiaryCalendarService.EVICT_SCRIPT, List.of("DIARY_CAL:1"), "202506", "86400");
+    }
+
+    @Test
+    @DisplayName("기존 비트맵이 있는 달도 DB 행을 우선 사용한다")
+    void monthMask_storedRow_isUsed() {
+        when(hashOperations.multiGet(eq("DIARY_CAL:1"), anyList())).thenReturn(Arrays.asList(null, "4"));
+        when(calendarRepository.findById_UserIdAndId_MonthKeyBetween(1L, 202506, 202506))
+                .thenReturn(List.of(new DiaryCalendar(new DiaryCalendarId(1L, 202506), 0b1000)));
+
+        assertThat(service.monthMask(1L, YearMonth.of(2025, 6))).isEqualTo(0b1000);
+        // 조회 시작 시점의 버전과 함께 전달하여 그 사이 제거가 있었으면 채우지 않도록 함
+        verify(redisTemplate).execute(DiaryCalendarService.FILL_SCRIPT, List.of("DIARY_CAL:1"),
+                "4", "86400", "202506", String.valueOf(0b1000));
+        verify(diaryRepository, never()).findDistinctDatesByUserIdAndDateBetween(anyLong(), any(), any());
+    }
+}
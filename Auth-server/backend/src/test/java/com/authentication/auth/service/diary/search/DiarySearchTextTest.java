@@ -0,0 +1,41 @@
+package com.authentication.auth.service.diary.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiarySearchTextTest {
+
+    @Test
+    void indexTokens_bigramsMatchWordsWithParticles() {
+        String tokens = DiarySearchText.indexTokens("주말", "친구와 공원에 갔다");
+
+        // "친구" 검색어의 bigram 이 "친구와" 의 색인 토큰에 포함되어야 한다
+        assertThat(tokens.split(" ")).contains("g주말", "g친구", "g구와", "g공원", "g갔다");
+        assertThat(DiarySearchText.booleanQuery("친구")).isEqualTo("+g친구");
+    }
+
+    @Test
+    void booleanQuery_requiresEveryBigramAndIgnoresSingleCharacters() {
+        assertThat(DiarySearchText.booleanQuery("Hello, 나")).isEqualTo("+ghe +gel +gll +glo");
+        assertThat(DiarySearchText.booleanQuery("나 !")).isEmpty();
+    }
+
+    @Test
+    void highlight_wrapsTermsAndEscapesHtml() {
+        String highlight = DiarySearchText.highlight("<b>오늘</b> 친구와 만났다", List.of("친구"), 120);
+
+        assertThat(highlight).isEqualTo("&lt;b&gt;오늘&lt;/b&gt; <em>친구</em>와 만났다");
+    }
+
+    @Test
+    void highlight_cutsAroundFirstMatch() {
+        String text = "가".repeat(100) + "친구" + "나".repeat(100);
+
+        String highlight = DiarySearchText.highlight(text, List.of("친구"), 20);
+
+        assertThat(highlight).startsWith("…").endsWith("…").contains("<em>친구</em>");
+    }
+}
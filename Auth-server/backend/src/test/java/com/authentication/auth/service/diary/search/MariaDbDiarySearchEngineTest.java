@@ -0,0 +1,49 @@
+package com.authentication.auth.service.diary.search;
+
+import com.authentication.auth.configuration.search.DiarySearchProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MariaDbDiarySearchEngineTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final MariaDbDiarySearchEngine engine = new MariaDbDiarySearchEngine(jdbcTemplate,
+            new DiarySearchProperties(DiarySearchProperties.Engine.MARIADB, true, 500, 120, 1000));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_singleCharacterQuery_fallsBackToBoundedLike() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+
+        engine.search(new DiarySearchRequest(7L, "밥", null, 0, 20));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), args.capture());
+        assertThat(sql.getValue()).contains("LIKE").doesNotContain("MATCH");
+        assertThat(args.getValue()).containsExactly(7L, 1000, "%밥%", "%밥%", 21);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void search_multiCharacterQuery_usesFulltext() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+
+        engine.search(new DiarySearchRequest(7L, "친구", null, 0, 20));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), any(Object[].class));
+        assertThat(sql.getValue()).contains("MATCH").doesNotContain("LIKE");
+    }
+}
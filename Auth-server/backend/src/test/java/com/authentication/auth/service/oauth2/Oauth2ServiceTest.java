@@ -11,6 +11,7 @@ import com.authentication.auth.repository.AuthProviderRepository;
 import com.authentication.auth.repository.UserAuthenticationRepository;
 import com.authentication.auth.repository.UserRepository;
 import com.authentication.auth.service.redis.RedisService;
+import com.authentication.auth.service.security.UserPrincipalCache;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -63,6 +64,8 @@ class Oauth2ServiceTest {
     private RestTemplate restTemplate;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
 
     @InjectMocks
     @Spy
@@ -162,7 +165,7 @@ class Oauth2ServiceTest {
         doReturn(userProfile).when(oauth2Service).getKakaoUserProfile("kakao_access_token");
         doReturn(testUser).when(oauth2Service).saveOrUpdateOauth2User(anyString(), anyString(), anyMap());
         Collection<GrantedAuthority> expectedAuthorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + testUser.getUserRole()));
-        doReturn(appTokenDto).when(jwtUtility).buildToken(eq(testUser.getNickname()), eq(expectedAuthorities));
+        doReturn(appTokenDto).when(jwtUtility).buildToken(eq(testUser.getNickname()), eq(testUser.getId()), eq(expectedAuthorities));
         doNothing().when(redisService).saveRToken(anyString(), anyString(), anyString());
 
         // When
@@ -176,7 +179,7 @@ class Oauth2ServiceTest {
         verify(oauth2Service).saveOrUpdateOauth2User(eq(provider), eq("kakao123"), eq(userProfile));
         verify(redisService).saveRToken(eq("kakao123"), eq(provider), eq("kakao_refresh_token"));
 
-        verify(jwtUtility).buildToken(eq(testUser.getNickname()), eq(expectedAuthorities));
+        verify(jwtUtility).buildToken(eq(testUser.getNickname()), eq(testUser.getId()), eq(expectedAuthorities));
     }
 
     @Test
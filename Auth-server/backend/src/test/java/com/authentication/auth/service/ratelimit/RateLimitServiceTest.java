@@ -0,0 +1,70 @@
+package com.authentication.auth.service.ratelimit;
+
+import com.authentication.auth.configuration.ratelimit.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitServiceTest {
+
+    private static final RateLimitProperties.Rule LOGIN_RULE = new RateLimitProperties.Rule(
+            "login-ip", "/api/public/login", "POST", RateLimitProperties.KeyType.IP, List.of(), 3, Duration.ofMinutes(1));
+
+    private static RateLimitProperties properties(boolean distributed) {
+        return new RateLimitProperties(true, distributed, 1000, 16384, List.of(LOGIN_RULE));
+    }
+
+    @Test
+    @DisplayName("로컬 토큰 버킷이 비면 Redis 호출 없이 재시도 시간을 반환한다")
+    void tryAcquire_localBucketExhausted_rejectsWithoutRedis() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        RateLimitService service = new RateLimitService(properties(false), redisTemplate);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.tryAcquire(LOGIN_RULE, "10.0.0.1")).isZero();
+        }
+        long wait = service.tryAcquire(LOGIN_RULE, "10.0.0.1");
+
+        assertThat(wait).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1).toMillis());
+        assertThat(service.tryAcquire(LOGIN_RULE, "10.0.0.2")).isZero();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Redis 슬라이딩 윈도우가 거부하면 남은 시간을 그대로 반환한다")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_distributedLimitReached_returnsRedisWait() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L, 4200L);
+        RateLimitService service = new RateLimitService(properties(true), redisTemplate);
+
+        assertThat(service.tryAcquire(LOGIN_RULE, "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire(LOGIN_RULE, "10.0.0.1")).isEqualTo(4200L);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 로컬 한도만 적용하여 요청을 허용한다")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_redisFailure_failsOpen() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+        RateLimitService service = new RateLimitService(properties(true), redisTemplate);
+
+        assertThat(service.tryAcquire(LOGIN_RULE, "10.0.0.1")).isZero();
+    }
+}
@@ -2,7 +2,6 @@ package com.authentication.auth.service.security;
 
 import com.authentication.auth.domain.User;
 import com.authentication.auth.dto.token.PrincipalDetails;
-import com.authentication.auth.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +23,7 @@ import static org.mockito.Mockito.when;
 public class PrincipalDetailServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserPrincipalCache userPrincipalCache;
 
     @InjectMocks
     private PrincipalDetailService principalDetailService;
@@ -46,7 +45,7 @@ public class PrincipalDetailServiceTest {
     @DisplayName("loadUserByUsername: 존재하는 이메일로 사용자 조회 성공")
     void loadUserByUsername_existingEmail_returnsUserDetails() {
         // given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userPrincipalCache.find("test@example.com")).thenReturn(Optional.of(testUser));
 
         // when
         UserDetails userDetails = principalDetailService.loadUserByUsername("test@example.com");
@@ -93,8 +92,7 @@ public class PrincipalDetailServiceTest {
     void loadUserByUsername_nonExistingIdentifier_throwsUsernameNotFoundException() {
         // given
         String nonExistingIdentifier = "nonexistent@example.com";
-        when(userRepository.findByEmail(nonExistingIdentifier)).thenReturn(Optional.empty());
-        when(userRepository.findByLoginId(nonExistingIdentifier)).thenReturn(Optional.empty());
+        when(userPrincipalCache.find(nonExistingIdentifier)).thenReturn(Optional.empty());
 
         // when / then
         assertThatThrownBy(() -> principalDetailService.loadUserByUsername(nonExistingIdentifier))
@@ -0,0 +1,128 @@
+package com.authentication.auth.service.security;
+
+import com.authentication.auth.domain.User;
+import com.authentication.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserPrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private StringRedisTemplate redisTemplate;
+    private UserPrincipalCache cache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        cache = new UserPrincipalCache(userRepository, redisTemplate, mock(RedisMessageListenerContainer.class), true, 100, 300);
+        user = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .loginId("testuser")
+                .nickname("tester")
+                .password("hash")
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 식별자로 반복 조회하면 DB 는 한 번만 조회한다")
+    void find_repeatedIdentifier_queriesOnce() {
+        when(userRepository.findByEmailOrLoginId("testuser")).thenReturn(Optional.of(user));
+
+        Optional<User> first = cache.find("testuser");
+        Optional<User> second = cache.find("testuser");
+
+        assertThat(first).isPresent();
+        assertThat(second).get().extracting(User::getEmail).isEqualTo("test@example.com");
+        verify(userRepository, times(1)).findByEmailOrLoginId("testuser");
+    }
+
+    @Test
+    @DisplayName("반환된 사용자를 수정해도 캐시된 값은 바뀌지 않는다")
+    void find_returnsIndependentCopies() {
+        when(userRepository.findByEmailOrLoginId("test@example.com")).thenReturn(Optional.of(user));
+
+        cache.find("test@example.com").orElseThrow().setPassword("changed");
+
+        assertThat(cache.find("test@example.com")).get().extracting(User::getPassword).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("사용자 변경 시 이메일과 로그인 ID 키가 모두 제거되고 다른 인스턴스에 전파된다")
+    void evict_removesEveryIdentifierOfUser() {
+        when(userRepository.findByEmailOrLoginId("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findByEmailOrLoginId("testuser")).thenReturn(Optional.of(user));
+        cache.find("test@example.com");
+        cache.find("testuser");
+
+        cache.evict(user);
+
+        assertThat(cache.size()).isZero();
+        verify(redisTemplate).convertAndSend("user-principal-invalidate", "1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 제거는 커밋 후에 실행된다")
+    void evict_insideTransaction_runsAfterCommit() {
+        when(userRepository.findByEmailOrLoginId("testuser")).thenReturn(Optional.of(user));
+        cache.find("testuser");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(user);
+
+            assertThat(cache.size()).isEqualTo(1);
+            verify(redisTemplate, never()).convertAndSend("user-principal-invalidate", "1");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.size()).isZero();
+        verify(redisTemplate).convertAndSend("user-principal-invalidate", "1");
+    }
+
+    @Test
+    @DisplayName("조회 도중 제거가 있었으면 조회한 이전 값을 저장하지 않는다")
+    void find_evictDuringRead_doesNotCacheStaleUser() {
+        when(userRepository.findByEmailOrLoginId("testuser")).thenAnswer(invocation -> {
+            // 이전 값을 읽은 직후 다른 스레드의 비밀번호 변경이 커밋되어 제거됨
+            cache.evict(user);
+            return Optional.of(user);
+        }).thenReturn(Optional.of(user));
+
+        assertThat(cache.find("testuser")).isPresent();
+        assertThat(cache.size()).isZero();
+
+        cache.find("testuser");
+        verify(userRepository, times(2)).findByEmailOrLoginId("testuser");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 식별자는 캐시하지 않는다")
+    void find_unknownIdentifier_isNotCached() {
+        when(userRepository.findByEmailOrLoginId("nobody")).thenReturn(Optional.empty());
+
+        assertThat(cache.find("nobody")).isEmpty();
+        assertThat(cache.find("nobody")).isEmpty();
+
+        verify(userRepository, times(2)).findByEmailOrLoginId("nobody");
+    }
+}
@@ -0,0 +1,122 @@
+package com.authentication.auth.service.token;
+
+import com.authentication.auth.configuration.redis.RedisTopologyProperties;
+import com.authentication.auth.configuration.token.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenGenerationServiceTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("cluster 구성에서는 master 노드마다 SCAN 하여 세대를 적재한다")
+    @SuppressWarnings("unchecked")
+    void loadGenerations_cluster_scansEachMaster() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        RedisClusterConnection connection = mock(RedisClusterConnection.class);
+        RedisClusterNode master = node(7000, RedisNode.NodeType.MASTER);
+        RedisClusterNode replica = node(7001, RedisNode.NodeType.REPLICA);
+        Cursor<byte[]> cursor = mock(Cursor.class);
+        when(redisTemplate.getRequiredConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.getClusterConnection()).thenReturn(connection);
+        when(connection.clusterGetNodes()).thenReturn(List.of(master, replica));
+        when(connection.scan(eq(master), any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("TOKEN_GEN:user-a".getBytes(StandardCharsets.UTF_8));
+        when(valueOperations.multiGet(List.of("TOKEN_GEN:user-a"))).thenReturn(List.of("3"));
+        TokenGenerationService service = service(RedisTopologyProperties.Mode.CLUSTER);
+
+        service.loadGenerations();
+
+        assertThat(service.current("user-a")).isEqualTo(3L);
+        assertThat(service.current("user-b")).isZero();
+        verify(connection, never()).scan(eq(replica), any(ScanOptions.class));
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 사용자별로 Redis 에서 세대를 읽고, Redis 도 실패하면 예외를 던진다")
+    void current_loadFailed_readsFromRedisAndFailsClosed() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+        when(valueOperations.get("TOKEN_GEN:user-a")).thenReturn("5");
+        when(valueOperations.get("TOKEN_GEN:user-b")).thenThrow(new RedisConnectionFailureException("down"));
+        TokenGenerationService service = service(RedisTopologyProperties.Mode.STANDALONE);
+
+        service.loadGenerations();
+
+        assertThat(service.isRevoked("user-a", 4L)).isTrue();
+        assertThat(service.current("user-a")).isEqualTo(5L);
+        verify(valueOperations, times(1)).get("TOKEN_GEN:user-a");
+        assertThatThrownBy(() -> service.current("user-b")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 폐기하면 커밋 후에 세대를 올린다")
+    void revokeAll_insideTransaction_bumpsAfterCommit() {
+        TokenGenerationService service = service(RedisTopologyProperties.Mode.STANDALONE);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.revokeAll("user-a");
+
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        assertThat(service.isRevoked("user-a", 0L)).isTrue();
+    }
+
+    private TokenGenerationService service(RedisTopologyProperties.Mode mode) {
+        RedisTopologyProperties topology = new RedisTopologyProperties(mode, List.of(), null, true,
+                Duration.ofSeconds(2), 3, new RedisTopologyProperties.Pool(false, 16, 8, 2, Duration.ofMillis(500)));
+        return new TokenGenerationService(redisTemplate, new VerifiedTokenCache(true, 100, 300),
+                mock(RedisMessageListenerContainer.class), topology);
+    }
+
+    private static RedisClusterNode node(int port, RedisNode.NodeType type) {
+        return RedisClusterNode.newRedisClusterNode()
+                .listeningAt("127.0.0.1", port)
+                .promotedAs(type)
+                .build();
+    }
+}
@@ -5,9 +5,18 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import com.authentication.auth.dto.token.TokenDto;
 import com.authentication.auth.configuration.token.JwtProperties;
+import com.authentication.auth.configuration.token.JwtSigningKeys;
+import com.authentication.auth.configuration.token.JwtSigningProperties;
 import com.authentication.auth.configuration.token.JwtUtility;
+import com.authentication.auth.configuration.token.VerifiedClaims;
+import com.authentication.auth.dto.token.PrincipalDetails;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class JwtUtilityTest {
 
@@ -47,4 +56,87 @@ public class JwtUtilityTest {
         isValid = jwtUtility.validateJWT(token.accessToken());
         System.out.println("Access Token is valid after 10 seconds: " + isValid);
     }
+
+    @Test
+    void verifyAccessToken_parsesClaimsOnce() {
+        JwtProperties jwtProperties = new JwtProperties(
+                "testSecretKeytestSecretKeytestSecretKeytestSecretKeytestSecretKey",
+                "testSecretKey2testSecretKey2testSecretKey2testSecretKey2testSecretKey2",
+                "testAuthorizedKeytestAuthorizedKeytestAuthorizedKeytestAuthorizedKey",
+                3600000L,
+                86400000L
+        );
+        JwtUtility jwtUtility = new JwtUtility(jwtProperties);
+
+        TokenDto token = jwtUtility.buildToken("admin", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // 한 번의 파싱으로 userId, 권한, 만료 시각을 모두 얻는다
+        VerifiedClaims claims = jwtUtility.verifyAccessToken(token.accessToken());
+        assertThat(claims.userId()).isEqualTo("admin");
+        assertThat(claims.roles()).containsExactly("ROLE_USER");
+        assertThat(claims.expiresAt()).isAfter(claims.issuedAt());
+
+        // ROLE_ 접두사가 중복되지 않아야 한다
+        UsernamePasswordAuthenticationToken authentication = jwtUtility.toAuthentication(claims);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void uidClaim_isExposedOnPrincipal() {
+        JwtProperties jwtProperties = new JwtProperties(
+                "testSecretKeytestSecretKeytestSecretKeytestSecretKeytestSecretKey",
+                "testSecretKey2testSecretKey2testSecretKey2testSecretKey2testSecretKey2",
+                "testAuthorizedKeytestAuthorizedKeytestAuthorizedKeytestAuthorizedKey",
+                3600000L,
+                86400000L
+        );
+        JwtUtility jwtUtility = new JwtUtility(jwtProperties);
+
+        TokenDto token = jwtUtility.buildToken("admin@example.com", 42L, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        VerifiedClaims claims = jwtUtility.verifyAccessToken(token.accessToken());
+        assertThat(claims.uid()).isEqualTo(42L);
+
+        // 인증 객체의 principal 에서 사용자 조회 없이 PK 를 얻는다
+        PrincipalDetails principal = (PrincipalDetails) jwtUtility.toAuthentication(claims).getPrincipal();
+        assertThat(principal.getUid()).isEqualTo(42L);
+
+        // uid 클레임이 없는 이전 토큰은 null
+        TokenDto legacy = jwtUtility.buildToken("admin@example.com", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        assertThat(jwtUtility.verifyAccessToken(legacy.accessToken()).uid()).isNull();
+
+        // 재발급 토큰도 uid 를 유지한다
+        assertThat(jwtUtility.verifyAccessToken(jwtUtility.refreshToken(token.accessToken())).uid()).isEqualTo(42L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void es256Mode_signsWithKidAndPublishesJwks() {
+        JwtProperties jwtProperties = new JwtProperties(
+                "testSecretKeytestSecretKeytestSecretKeytestSecretKeytestSecretKey",
+                "testSecretKey2testSecretKey2testSecretKey2testSecretKey2testSecretKey2",
+                "testAuthorizedKeytestAuthorizedKeytestAuthorizedKeytestAuthorizedKey",
+                3600000L,
+                86400000L
+        );
+        JwtSigningKeys signingKeys = new JwtSigningKeys(
+                new JwtSigningProperties("ES256", null, List.of(), true, 3600));
+        JwtUtility es256Utility = new JwtUtility(jwtProperties, signingKeys);
+        JwtUtility hmacUtility = new JwtUtility(jwtProperties);
+
+        TokenDto token = es256Utility.buildToken("admin", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // ES256 토큰은 kid 헤더를 가지며 공개키로 검증된다
+        assertThat(es256Utility.verifyAccessToken(token.accessToken()).userId()).isEqualTo("admin");
+        assertThat(hmacUtility.validateJWT(token.accessToken())).isFalse();
+
+        // 전환 기간에는 기존 HS512 토큰도 허용된다
+        TokenDto legacy = hmacUtility.buildToken("admin", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+        assertThat(es256Utility.validateJWT(legacy.accessToken())).isTrue();
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) signingKeys.jwks().get("keys");
+        assertThat(keys).hasSize(1);
+        assertThat(keys.get(0)).containsEntry("kid", signingKeys.activeKid())
+                .containsEntry("kty", "EC")
+                .containsEntry("alg", "ES256");
+    }
 }
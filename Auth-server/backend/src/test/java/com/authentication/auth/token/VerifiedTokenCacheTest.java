@@ -0,0 +1,104 @@
+package com.authentication.auth.token;
+
+import com.authentication.auth.configuration.token.TokenGenerations;
+import com.authentication.auth.configuration.token.VerifiedTokenCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static UsernamePasswordAuthenticationToken authentication(String userId) {
+        return new UsernamePasswordAuthenticationToken(userId, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private static Instant inSeconds(long seconds) {
+        return Instant.now().plusSeconds(seconds);
+    }
+
+    @Test
+    @DisplayName("저장된 토큰은 캐시에서 조회되고 hit/miss 가 집계된다")
+    void get_afterPut_returnsAuthentication() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 300);
+
+        assertThat(cache.get("token-a")).isNull();
+        cache.put("token-a", "user-a", authentication("user-a"), inSeconds(60));
+
+        UsernamePasswordAuthenticationToken cached = cache.get("token-a");
+        assertThat(cached).isNotNull();
+        assertThat(cached.getPrincipal()).isEqualTo("user-a");
+        assertThat(cached.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 캐시에 저장되지 않는다")
+    void put_expiredToken_isIgnored() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 300);
+
+        cache.put("token-a", "user-a", authentication("user-a"), Instant.now().minusSeconds(1));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 단위 무효화 시 해당 사용자의 항목만 제거된다")
+    void invalidateUser_removesOnlyThatUsersEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 300);
+        cache.put("token-a1", "user-a", authentication("user-a"), inSeconds(60));
+        cache.put("token-a2", "user-a", authentication("user-a"), inSeconds(60));
+        cache.put("token-b", "user-b", authentication("user-b"), inSeconds(60));
+
+        cache.invalidateUser("user-a");
+
+        assertThat(cache.get("token-a1")).isNull();
+        assertThat(cache.get("token-a2")).isNull();
+        assertThat(cache.get("token-b")).isNotNull();
+        assertThat(cache.evictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자 토큰 세대가 올라가면 이전 세대 항목은 캐시 적중으로 처리되지 않는다")
+    void get_withBumpedGeneration_treatsEntryAsRevoked() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 300);
+        cache.put("token-a", "user-a", 0L, authentication("user-a"), inSeconds(60));
+        cache.put("token-b", "user-b", 0L, authentication("user-b"), inSeconds(60));
+        TokenGenerations generations = userId -> "user-a".equals(userId) ? 1L : 0L;
+
+        assertThat(cache.get("token-a", generations)).isNull();
+        assertThat(cache.get("token-b", generations)).isNotNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 용량을 넘으면 항목을 제거하여 크기를 유지한다")
+    void put_overCapacity_evictsEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 10, 300);
+
+        for (int i = 0; i < 25; i++) {
+            cache.put("token-" + i, "user-" + i, authentication("user-" + i), inSeconds(60));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.evictionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 아무것도 저장하지 않는다")
+    void disabledCache_neverStores() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100, 300);
+
+        cache.put("token-a", "user-a", authentication("user-a"), inSeconds(60));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -1,10 +1,14 @@
 """
 FastAPI 기반의 AI 분석 서버
 - /analyze 엔드포인트를 통해 텍스트 감정 및 해결책 분석
+- /diary/analyze/batch 엔드포인트를 통해 여러 텍스트를 한 번에 분석 (항목별 성공/실패)
 """
 
 import os
+import asyncio
 import logging
+from concurrent.futures import ThreadPoolExecutor
+from typing import List, Optional
 from fastapi import FastAPI, HTTPException
 from pydantic import BaseModel
 from dotenv import load_dotenv
@@ -43,6 +47,47 @@ class AIAnalysisResponse(BaseModel):
     emotion: str
     solution: str
 
+# 일괄 분석 요청/응답 모델 (id 는 요청 내에서 항목을 구분하는 값으로 응답에 그대로 반환)
+class BatchAnalysisItem(BaseModel):
+    id: str
+    text: str
+
+class BatchAnalysisRequest(BaseModel):
+    items: List[BatchAnalysisItem]
+
+class BatchAnalysisResult(BaseModel):
+    id: str
+    emotion: Optional[str] = None
+    solution: Optional[str] = None
+    error: Optional[str] = None
+
+class BatchAnalysisResponse(BaseModel):
+    results: List[BatchAnalysisResult]
+
+# 일괄 분석 스레드 수(모든 일괄 요청이 함께 사용)와 한 요청의 최대 항목 수
+# 백엔드는 여러 일괄 요청을 동시에 보내며, 동시에 분석 중인 항목 수는 최대 diary.analysis.limiter.max-limit(기본 64)입니다.
+# 항목마다 OpenAI 를 2번 순차 호출하므로 BATCH_WORKERS 가 이보다 작으면 항목이 스레드를 기다리며 줄을 서고,
+# 뒤에 온 일괄 요청은 diary.analysis.batch.timeout 을 넘겨 항목 전체가 실패합니다. (필요 조건: BATCH_WORKERS >= max-limit)
+BATCH_WORKERS = int(os.getenv('BATCH_WORKERS', '64'))
+BATCH_MAX_ITEMS = int(os.getenv('BATCH_MAX_ITEMS', '32'))
+# asyncio 기본 스레드 풀은 CPU 수에 따라 작아질 수 있으므로 전용 스레드 풀을 사용 (요청별 제한 없이 이 풀이 유일한 상한)
+batch_executor = ThreadPoolExecutor(max_workers=max(1, BATCH_WORKERS), thread_name_prefix="batch-analyze")
+
+
+def analyze_text_sync(text: str) -> AIAnalysisResponse:
+    """텍스트 하나의 감정과 해결책을 분석합니다. (OpenAI 호출 2회)"""
+    # 1. 감정 분석
+    emotion_prompt = f"다음 문장에서 드러나는 주요 감정 한 가지를 '기쁨', '슬픔', '분노', '불안', '놀람', '평온' 중 하나로만 답해줘. 문장: '{text}'"
+    emotion = openai_service.chat(message=emotion_prompt, max_tokens=20).strip()
+    logger.info(f"감정 분석 결과: {emotion}")
+
+    # 2. 해결책 제시
+    solution_prompt = f"'{text}'라는 상황을 겪는 사람에게 인지행동치료(CBT) 관점에서 조언 한 문장을 작성해줘."
+    solution = openai_service.chat(message=solution_prompt, max_tokens=200).strip()
+    logger.info(f"해결책 제시 결과: {solution[:50]}...")
+
+    return AIAnalysisResponse(emotion=emotion, solution=solution)
+
 @app.on_event("startup")
 async def startup_event():
     """서버 시작 시 실행되는 이벤트"""
@@ -73,23 +118,43 @@ async def analyze_text(request: AnalysisRequest):
     logger.info(f"분석 요청 수신: {request.text[:50]}...")
 
     try:
-        # 1. 감정 분석
-        emotion_prompt = f"다음 문장에서 드러나는 주요 감정 한 가지를 '기쁨', '슬픔', '분노', '불안', '놀람', '평온' 중 하나로만 답해줘. 문장: '{request.text}'"
-        emotion = openai_service.chat(message=emotion_prompt, max_tokens=20).strip()
-        logger.info(f"감정 분석 결과: {emotion}")
-
-        # 2. 해결책 제시
-        solution_prompt = f"'{request.text}'라는 상황을 겪는 사람에게 인지행동치료(CBT) 관점에서 조언 한 문장을 작성해줘."
-        solution = openai_service.chat(message=solution_prompt, max_tokens=200).strip()
-        logger.info(f"해결책 제시 결과: {solution[:50]}...")
-
-                # emotion과 solution을 직접 포함하는 응답을 반환합니다.
-        return AIAnalysisResponse(emotion=emotion, solution=solution)
+        # emotion과 solution을 직접 포함하는 응답을 반환합니다.
+        return analyze_text_sync(request.text)
 
     except Exception as e:
         logger.error(f"API 처리 중 오류 발생: {e}", exc_info=True)
         raise HTTPException(status_code=500, detail=f"AI 서버 처리 중 오류 발생: {e}")
 
+@app.post("/diary/analyze/batch", response_model=BatchAnalysisResponse)
+async def analyze_batch(request: BatchAnalysisRequest):
+    """
+    여러 텍스트를 한 번에 분석합니다.
+
+    - **request**: 'items' 배열 (각 항목은 'id', 'text')
+    - **return**: 항목별 'emotion', 'solution' 또는 'error' (일부 항목이 실패해도 200 으로 응답)
+    """
+    if not openai_service:
+        raise HTTPException(status_code=503, detail="AI 서비스를 사용할 수 없습니다. 서버 설정을 확인하세요.")
+
+    if len(request.items) > BATCH_MAX_ITEMS:
+        raise HTTPException(status_code=400, detail=f"한 번에 최대 {BATCH_MAX_ITEMS}개까지 분석할 수 있습니다.")
+
+    logger.info(f"일괄 분석 요청 수신: {len(request.items)}건")
+
+    async def analyze_item(item: BatchAnalysisItem) -> BatchAnalysisResult:
+        if not item.text or not item.text.strip():
+            return BatchAnalysisResult(id=item.id, error="분석할 텍스트가 비어 있습니다.")
+        try:
+            # OpenAI 클라이언트가 동기 방식이므로 이벤트 루프를 막지 않도록 스레드에서 실행
+            result = await asyncio.get_running_loop().run_in_executor(batch_executor, analyze_text_sync, item.text)
+            return BatchAnalysisResult(id=item.id, emotion=result.emotion, solution=result.solution)
+        except Exception as e:
+            logger.error(f"일괄 분석 항목 처리 중 오류 발생 (id={item.id}): {e}")
+            return BatchAnalysisResult(id=item.id, error=str(e))
+
+    results = await asyncio.gather(*(analyze_item(item) for item in request.items))
+    return BatchAnalysisResponse(results=list(results))
+
 @app.get("/health", summary="서버 상태 확인")
 async def health_check():
     """서버의 현재 상태를 반환합니다."""